@@ -0,0 +1,497 @@
+package com.adoteumpet.adoteumpetapi.analytics;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetStats;
+import com.adoteumpet.adoteumpetapi.dto.PetStatsGroup;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cópia colunar da tabela de pets em memória, usada para calcular estatísticas agregadas
+ * sem consultar o banco.
+ *
+ * Cada pet ocupa uma linha e cada campo usado nas estatísticas é um array primitivo:
+ * espécie e status como byte, idade como short e nome, raça e cidade como códigos int de
+ * um dicionário de valores distintos. Os filtros parciais de texto são avaliados uma única
+ * vez sobre o dicionário, e a varredura das linhas é dividida entre as threads do
+ * {@link ForkJoinPool} comum.
+ *
+ * A cópia é carregada quando a aplicação sobe e mantida pelos {@link PetChangedEvent}
+ * publicados pelo PetService; linhas de pets removidos são reaproveitadas.
+ */
+@Component
+public class PetColumnStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetColumnStore.class);
+
+    /**
+     * Última posição do histograma de idades; acumula os pets com essa idade ou mais.
+     */
+    public static final int MAX_HISTOGRAM_AGE = 20;
+
+    private static final int HISTOGRAM_BUCKETS = MAX_HISTOGRAM_AGE + 1;
+
+    /**
+     * Acima dessa quantidade de combinações de grupos os acumuladores usam mapas em vez de arrays.
+     */
+    private static final int DENSE_GROUP_LIMIT = 1 << 16;
+
+    /**
+     * Quantidade de linhas abaixo da qual uma varredura não é mais dividida.
+     */
+    private static final int SCAN_CHUNK_ROWS = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /**
+     * Código de espécie das linhas livres (pets removidos).
+     */
+    private static final byte FREE_ROW = -1;
+
+    /**
+     * Código dos campos sem valor.
+     */
+    private static final int NULL_CODE = 0;
+
+    private static final Species[] SPECIES = Species.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private final PetRepository petRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+    private int[] freeRows = new int[16];
+    private int freeCount;
+    private int rowCount;
+
+    private byte[] species = new byte[INITIAL_CAPACITY];
+    private byte[] status = new byte[INITIAL_CAPACITY];
+    private short[] ages = new short[INITIAL_CAPACITY];
+    private int[] names = new int[INITIAL_CAPACITY];
+    private int[] breeds = new int[INITIAL_CAPACITY];
+    private int[] cities = new int[INITIAL_CAPACITY];
+
+    private final Dictionary nameDictionary = new Dictionary();
+    private final Dictionary breedDictionary = new Dictionary();
+    private final Dictionary cityDictionary = new Dictionary();
+
+    public PetColumnStore(PetRepository petRepository) {
+        this.petRepository = petRepository;
+    }
+
+    /**
+     * Recarrega as colunas a partir do banco, lendo os pets em lotes ordenados por ID.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rowsById.clear();
+            freeCount = 0;
+            rowCount = 0;
+            nameDictionary.clear();
+            breedDictionary.clear();
+            cityDictionary.clear();
+            petRepository.forEachBatch(REBUILD_BATCH_SIZE, batch -> batch.forEach(this::upsert));
+            logger.info("✅ Colunas de estatísticas carregadas com {} pets em {} ms",
+                    rowsById.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica às colunas as alterações feitas pelo PetService, após o commit da transação.
+     * @param event alterações realizadas
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (PetChangedEvent.Change change : event.changes()) {
+                if (change.isDeletion()) {
+                    remove(change.id());
+                } else {
+                    upsert(change.after());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recarrega as colunas após uma carga em massa, que não publica alterações por pet.
+     * @param event carga realizada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetsImported(PetsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Calcula as métricas dos pets que atendem ao filtro, agrupadas pelos campos informados.
+     *
+     * @param filter filtros da listagem
+     * @param groupBy campos de agrupamento (vazio para um único grupo com todos os pets)
+     * @param metrics métricas a calcular
+     * @return grupos ordenados do maior para o menor
+     */
+    public PetStats aggregate(PetFilter filter, List<StatsDimension> groupBy, Set<StatsMetric> metrics) {
+        PetFilter normalized = filter.normalized();
+        boolean histogram = metrics.contains(StatsMetric.AGE_HISTOGRAM);
+
+        lock.readLock().lock();
+        try {
+            Scan scan = new Scan(normalized, groupBy, histogram);
+            Accumulator result = rowCount <= SCAN_CHUNK_ROWS
+                    ? scan.run(0, rowCount)
+                    : ForkJoinPool.commonPool().invoke(new ScanTask(scan, 0, rowCount));
+
+            List<PetStatsGroup> groups = new ArrayList<>();
+            result.forEach((key, values, offset) -> groups.add(toGroup(scan, key, values, offset, metrics)));
+            groups.sort(Comparator.comparingLong(PetStatsGroup::getCount).reversed()
+                    .thenComparing(group -> group.getKey().toString()));
+
+            long total = groups.stream().mapToLong(PetStatsGroup::getCount).sum();
+            if (!metrics.contains(StatsMetric.COUNT)) {
+                // a contagem sempre é calculada para ordenar os grupos, mas só é devolvida quando solicitada
+                groups.forEach(group -> group.setCount(null));
+            }
+            return new PetStats(groupBy.stream().map(StatsDimension::param).toList(), total, groups);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PetStatsGroup toGroup(Scan scan, long key, long[] values, int offset, Set<StatsMetric> metrics) {
+        int[] codes = new int[scan.dimensions.length];
+        long remaining = key;
+        for (int i = codes.length - 1; i >= 0; i--) {
+            codes[i] = (int) (remaining % scan.radixes[i]);
+            remaining /= scan.radixes[i];
+        }
+        Map<String, String> groupKey = new LinkedHashMap<>();
+        for (int i = 0; i < codes.length; i++) {
+            groupKey.put(scan.dimensions[i].param(), decode(scan.dimensions[i], codes[i]));
+        }
+
+        PetStatsGroup group = new PetStatsGroup();
+        group.setKey(groupKey);
+        group.setCount(values[offset]);
+        if (metrics.contains(StatsMetric.AVG_AGE) && values[offset + 2] > 0) {
+            group.setAvgAge((double) values[offset + 1] / values[offset + 2]);
+        }
+        if (scan.histogram) {
+            group.setAgeHistogram(Arrays.copyOfRange(values, offset + 3, offset + 3 + HISTOGRAM_BUCKETS));
+        }
+        return group;
+    }
+
+    private String decode(StatsDimension dimension, int code) {
+        if (code == NULL_CODE) {
+            return null;
+        }
+        return switch (dimension) {
+            case SPECIES -> SPECIES[code - 1].name();
+            case STATUS -> STATUSES[code - 1].name();
+            case SHELTER_CITY -> cityDictionary.value(code);
+            case BREED -> breedDictionary.value(code);
+        };
+    }
+
+    private void upsert(Pet pet) {
+        Integer row = rowsById.get(pet.getId());
+        if (row == null) {
+            row = allocateRow();
+            rowsById.put(pet.getId(), row);
+        }
+        species[row] = (byte) (pet.getSpecies() == null ? NULL_CODE : pet.getSpecies().ordinal() + 1);
+        status[row] = (byte) (pet.getStatus() == null ? NULL_CODE : pet.getStatus().ordinal() + 1);
+        ages[row] = (short) (pet.getAgeYears() == null || pet.getAgeYears() < 0
+                ? -1 : Math.min(pet.getAgeYears(), Short.MAX_VALUE));
+        names[row] = nameDictionary.code(pet.getName());
+        breeds[row] = breedDictionary.code(pet.getBreed());
+        cities[row] = cityDictionary.code(pet.getShelterCity());
+    }
+
+    private void remove(UUID id) {
+        Integer row = rowsById.remove(id);
+        if (row == null) {
+            return;
+        }
+        species[row] = FREE_ROW;
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+    }
+
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rowCount == species.length) {
+            int capacity = species.length * 2;
+            species = Arrays.copyOf(species, capacity);
+            status = Arrays.copyOf(status, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            names = Arrays.copyOf(names, capacity);
+            breeds = Arrays.copyOf(breeds, capacity);
+            cities = Arrays.copyOf(cities, capacity);
+        }
+        return rowCount++;
+    }
+
+    /**
+     * Uma varredura: os filtros já traduzidos para códigos e a forma das chaves dos grupos.
+     */
+    private final class Scan {
+
+        private final int speciesCode;
+        private final int statusCode;
+        private final boolean[] nameMatches;
+        private final boolean[] breedMatches;
+        private final boolean[] cityMatches;
+
+        private final StatsDimension[] dimensions;
+        private final int[] radixes;
+        private final long groupCount;
+        private final boolean histogram;
+
+        Scan(PetFilter filter, List<StatsDimension> groupBy, boolean histogram) {
+            this.speciesCode = filter.getSpecies() == null ? -1 : filter.getSpecies().ordinal() + 1;
+            this.statusCode = filter.getStatus() == null ? -1 : filter.getStatus().ordinal() + 1;
+            this.nameMatches = nameDictionary.matching(filter.getName());
+            this.breedMatches = breedDictionary.matching(filter.getBreed());
+            this.cityMatches = cityDictionary.matching(filter.getShelterCity());
+            this.histogram = histogram;
+
+            this.dimensions = groupBy.toArray(new StatsDimension[0]);
+            this.radixes = new int[dimensions.length];
+            long groups = 1;
+            for (int i = 0; i < dimensions.length; i++) {
+                radixes[i] = switch (dimensions[i]) {
+                    case SPECIES -> SPECIES.length + 1;
+                    case STATUS -> STATUSES.length + 1;
+                    case SHELTER_CITY -> cityDictionary.size() + 1;
+                    case BREED -> breedDictionary.size() + 1;
+                };
+                groups *= radixes[i];
+            }
+            this.groupCount = groups;
+        }
+
+        Accumulator run(int from, int to) {
+            Accumulator accumulator = new Accumulator(groupCount, histogram);
+            for (int row = from; row < to; row++) {
+                byte rowSpecies = species[row];
+                if (rowSpecies == FREE_ROW
+                        || (speciesCode >= 0 && rowSpecies != speciesCode)
+                        || (statusCode >= 0 && status[row] != statusCode)
+                        || (nameMatches != null && !nameMatches[names[row]])
+                        || (breedMatches != null && !breedMatches[breeds[row]])
+                        || (cityMatches != null && !cityMatches[cities[row]])) {
+                    continue;
+                }
+                long key = 0;
+                for (int i = 0; i < dimensions.length; i++) {
+                    key = key * radixes[i] + switch (dimensions[i]) {
+                        case SPECIES -> rowSpecies;
+                        case STATUS -> status[row];
+                        case SHELTER_CITY -> cities[row];
+                        case BREED -> breeds[row];
+                    };
+                }
+                accumulator.add(key, ages[row]);
+            }
+            return accumulator;
+        }
+    }
+
+    /**
+     * Divide a varredura ao meio até {@link #SCAN_CHUNK_ROWS} linhas e soma os acumuladores parciais.
+     */
+    private static final class ScanTask extends RecursiveTask<Accumulator> {
+
+        private final Scan scan;
+        private final int from;
+        private final int to;
+
+        ScanTask(Scan scan, int from, int to) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= SCAN_CHUNK_ROWS) {
+                return scan.run(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(scan, from, middle);
+            left.fork();
+            Accumulator right = new ScanTask(scan, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Métricas parciais por grupo. Cada grupo ocupa {@code width} posições:
+     * quantidade, soma das idades, quantidade de idades informadas e, opcionalmente, o histograma.
+     * Com poucas combinações de grupos usa um único array; caso contrário, um array por grupo encontrado.
+     */
+    private static final class Accumulator {
+
+        private final int width;
+        private final boolean histogram;
+        private final long[] dense;
+        private final Map<Long, long[]> sparse;
+
+        Accumulator(long groupCount, boolean histogram) {
+            this.histogram = histogram;
+            this.width = 3 + (histogram ? HISTOGRAM_BUCKETS : 0);
+            if (groupCount <= DENSE_GROUP_LIMIT) {
+                this.dense = new long[(int) groupCount * width];
+                this.sparse = null;
+            } else {
+                this.dense = null;
+                this.sparse = new HashMap<>();
+            }
+        }
+
+        void add(long key, short age) {
+            long[] values;
+            int offset;
+            if (dense != null) {
+                values = dense;
+                offset = (int) key * width;
+            } else {
+                values = sparse.computeIfAbsent(key, k -> new long[width]);
+                offset = 0;
+            }
+            values[offset]++;
+            if (age >= 0) {
+                values[offset + 1] += age;
+                values[offset + 2]++;
+                if (histogram) {
+                    values[offset + 3 + Math.min(age, MAX_HISTOGRAM_AGE)]++;
+                }
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            if (dense != null) {
+                for (int i = 0; i < dense.length; i++) {
+                    dense[i] += other.dense[i];
+                }
+            } else {
+                other.sparse.forEach((key, values) -> sparse.merge(key, values, (mine, theirs) -> {
+                    for (int i = 0; i < width; i++) {
+                        mine[i] += theirs[i];
+                    }
+                    return mine;
+                }));
+            }
+            return this;
+        }
+
+        void forEach(GroupConsumer consumer) {
+            if (dense != null) {
+                for (int group = 0, offset = 0; offset < dense.length; group++, offset += width) {
+                    if (dense[offset] > 0) {
+                        consumer.accept(group, dense, offset);
+                    }
+                }
+            } else {
+                sparse.forEach((key, values) -> consumer.accept(key, values, 0));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface GroupConsumer {
+        void accept(long key, long[] values, int offset);
+    }
+
+    /**
+     * Dicionário de valores distintos de um campo de texto; o código 0 representa a ausência de valor.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        Dictionary() {
+            clear();
+        }
+
+        int code(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size() - 1;
+        }
+
+        /**
+         * Marca os códigos cujo valor contém o termo (mesma semântica do LIKE case-insensitive da listagem).
+         * @param term termo normalizado, ou null para não filtrar
+         * @return array indexado por código, ou null quando não há filtro
+         */
+        boolean[] matching(String term) {
+            if (term == null) {
+                return null;
+            }
+            boolean[] matches = new boolean[values.size()];
+            for (int code = 1; code < values.size(); code++) {
+                matches[code] = values.get(code).toLowerCase(Locale.ROOT).contains(term);
+            }
+            return matches;
+        }
+
+        void clear() {
+            codes.clear();
+            values.clear();
+            values.add(null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.adoteumpet.adoteumpetapi.analytics;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Campos pelos quais as estatísticas de pets podem ser agrupadas (parâmetro {@code groupBy}).
+ */
+public enum StatsDimension {
+
+    SPECIES("species"),
+    STATUS("status"),
+    SHELTER_CITY("shelterCity"),
+    BREED("breed");
+
+    private final String param;
+
+    StatsDimension(String param) {
+        this.param = param;
+    }
+
+    /**
+     * Nome do campo na API e nas chaves dos grupos.
+     * @return nome do parâmetro
+     */
+    public String param() {
+        return param;
+    }
+
+    /**
+     * Busca a dimensão pelo nome usado na API.
+     * @param param nome do campo (ex: "shelterCity")
+     * @return a dimensão, se existir
+     */
+    public static Optional<StatsDimension> fromParam(String param) {
+        return Arrays.stream(values()).filter(dimension -> dimension.param.equals(param)).findFirst();
+    }
+}
@@ -0,0 +1,48 @@
+package com.adoteumpet.adoteumpetapi.analytics;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Métricas calculadas para cada grupo das estatísticas de pets (parâmetro {@code metrics}).
+ */
+public enum StatsMetric {
+
+    /**
+     * Quantidade de pets do grupo.
+     */
+    COUNT("count"),
+
+    /**
+     * Idade média, considerando apenas os pets com idade informada.
+     */
+    AVG_AGE("avgAge"),
+
+    /**
+     * Quantidade de pets por idade em anos.
+     */
+    AGE_HISTOGRAM("ageHistogram");
+
+    private final String param;
+
+    StatsMetric(String param) {
+        this.param = param;
+    }
+
+    /**
+     * Nome da métrica na API.
+     * @return nome do parâmetro
+     */
+    public String param() {
+        return param;
+    }
+
+    /**
+     * Busca a métrica pelo nome usado na API.
+     * @param param nome da métrica (ex: "avgAge")
+     * @return a métrica, se existir
+     */
+    public static Optional<StatsMetric> fromParam(String param) {
+        return Arrays.stream(values()).filter(metric -> metric.param.equals(param)).findFirst();
+    }
+}
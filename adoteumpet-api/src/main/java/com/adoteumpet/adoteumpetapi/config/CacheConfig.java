@@ -15,6 +15,15 @@ import java.util.concurrent.TimeUnit;
  * - TTL de 10 minutos (dados de raças são relativamente estáticos)
  * - Máximo 1000 entradas (suficiente para combinar especies + filtros)
  * - Métricas habilitadas para monitoramento
+ * 
+ * O cache "petCounts" guarda contagens exatas de pets por filtro normalizado,
+ * invalidadas pelo PetCountService ao receber cada PetChangedEvent.
+ * 
+ * O cache "petTiles" guarda os tiles de mapa; o PetTileService remove apenas os
+ * tiles que contêm a localização de um pet alterado.
+ * 
+ * O cache "petPages" guarda as páginas de GET /api/pets; o PetQueryCache remove apenas
+ * as páginas cujo filtro aceita um pet alterado.
  */
 @Configuration
 public class CacheConfig {
@@ -28,7 +37,7 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(caffeineCacheBuilder());
-        cacheManager.setCacheNames(java.util.Arrays.asList("breeds")); // Define os nomes dos caches disponíveis
+        cacheManager.setCacheNames(java.util.Arrays.asList("breeds", "petCounts", "petTiles", "petPages")); // Define os nomes dos caches disponíveis
         return cacheManager;
     }
 
@@ -1,186 +1,125 @@
 package com.adoteumpet.adoteumpetapi.config;
 
-import com.adoteumpet.adoteumpetapi.model.Pet;
-import com.adoteumpet.adoteumpetapi.model.Species;
-import com.adoteumpet.adoteumpetapi.model.Status;
-import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.dto.PetImportResult;
+import com.adoteumpet.adoteumpetapi.model.SeedState;
+import com.adoteumpet.adoteumpetapi.repository.SeedStateRepository;
+import com.adoteumpet.adoteumpetapi.service.PetImportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 
 /**
  * Classe responsável por popular o banco de dados com dados iniciais de pets.
- * 
+ *
  * Esta classe implementa CommandLineRunner para ser executada automaticamente
  * na inicialização da aplicação Spring Boot. O seeding é idempotente, ou seja,
- * pode ser executado múltiplas vezes sem criar dados duplicados.
- * 
+ * pode ser executado múltiplas vezes sem criar dados duplicados: cada execução
+ * é registrada na tabela seed_state, consultada pela chave primária.
+ *
  * Os dados são carregados a partir do arquivo CSV localizado em:
  * src/main/resources/data/pets-seed.csv
- * 
+ * (ou do arquivo indicado em adoteumpet.seed.location, ex.: file:/data/pets.csv).
+ *
+ * A leitura e a gravação são as mesmas da importação por CSV ({@link PetImportService}):
+ * o arquivo é lido em streaming e as linhas entram por COPY no PostgreSQL (INSERTs em
+ * lote no H2), na mesma transação que grava o registro do seeding.
+ *
+ * Com o perfil "generate", o catálogo sintético do {@link PetCatalogSeeder} substitui o CSV.
+ *
  * @author Sistema AdoteUmPet
  * @since 1.0
  */
 @Component
+@Profile("!generate")
 public class DataSeeder implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
-    private static final String CSV_FILE_PATH = "data/pets-seed.csv";
-    private static final String SEED_MARKER_NAME = "SEED_MARKER_PET";
-
-    @Autowired
-    private PetRepository petRepository;
+    static final String SEED_NAME = "pets";
+
+    private final SeedStateRepository seedStateRepository;
+    private final PetImportService petImportService;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceLoader resourceLoader;
+    private final String seedLocation;
+
+    public DataSeeder(SeedStateRepository seedStateRepository, PetImportService petImportService,
+                      TransactionTemplate transactionTemplate, ResourceLoader resourceLoader,
+                      @Value("${adoteumpet.seed.location:classpath:data/pets-seed.csv}") String seedLocation) {
+        this.seedStateRepository = seedStateRepository;
+        this.petImportService = petImportService;
+        this.transactionTemplate = transactionTemplate;
+        this.resourceLoader = resourceLoader;
+        this.seedLocation = seedLocation;
+    }
 
     @Override
     public void run(String... args) throws Exception {
         logger.info("🌱 Iniciando processo de seeding do banco de dados...");
-        
-        if (isSeedingAlreadyExecuted()) {
+
+        if (seedStateRepository.existsById(SEED_NAME)) {
             logger.info("✅ Seeding já foi executado anteriormente. Pulando para evitar duplicação.");
             return;
         }
 
+        Resource resource = resourceLoader.getResource(seedLocation);
+        if (!resource.exists()) {
+            logger.warn("⚠️ Arquivo CSV não encontrado: {}. Seeding não será executado.", seedLocation);
+            return;
+        }
+
+        logger.info("📂 Carregando pets do arquivo: {}", seedLocation);
         try {
-            int petsLoaded = loadPetsFromCsv();
-            createSeedMarker();
-            logger.info("🎉 Seeding concluído com sucesso! {} pets foram inseridos no banco de dados.", petsLoaded);
-        } catch (Exception e) {
+            SeedState state = transactionTemplate.execute(status -> seed(resource));
+            logger.info("🎉 Seeding concluído com sucesso! {} pets foram inseridos no banco de dados.",
+                    state.getRowsLoaded());
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância gravou o registro do seeding primeiro; a transação desta foi desfeita
+            logger.info("✅ Seeding executado por outra instância. Pulando para evitar duplicação.");
+        } catch (UncheckedIOException e) {
+            logger.error("❌ Erro ao ler o arquivo de seeding: {}", e.getMessage(), e);
+            throw e.getCause();
+        } catch (RuntimeException e) {
             logger.error("❌ Erro durante o processo de seeding: {}", e.getMessage(), e);
             throw e;
         }
     }
 
     /**
-     * Verifica se o seeding já foi executado anteriormente.
-     * 
-     * A verificação é feita procurando por um pet com nome específico que serve
-     * como marcador de que o seeding já foi executado.
-     * 
-     * @return true se o seeding já foi executado, false caso contrário
+     * Grava o registro do seeding e carrega os pets, na transação corrente.
+     *
+     * O registro é gravado antes dos pets: se duas instâncias iniciarem juntas, a segunda
+     * espera pela chave primária e falha quando a primeira confirmar, sem carregar nada.
+     *
+     * @param resource arquivo CSV com os pets
+     * @return registro do seeding, com as quantidades de linhas gravadas e recusadas
      */
-    private boolean isSeedingAlreadyExecuted() {
-        return petRepository.findByName(SEED_MARKER_NAME).size() > 0;
-    }
-
-    /**
-     * Cria um pet marcador para indicar que o seeding foi executado.
-     * 
-     * Este pet não é visível para os usuários finais e serve apenas como
-     * controle interno para garantir idempotência.
-     */
-    private void createSeedMarker() {
-        Pet marker = new Pet();
-        marker.setName(SEED_MARKER_NAME);
-        marker.setSpecies(Species.DOG);
-        marker.setBreed("Sistema");
-        marker.setAgeYears(0);
-        marker.setShelterCity("Sistema");
-        marker.setShelterLat(BigDecimal.ZERO);
-        marker.setShelterLng(BigDecimal.ZERO);
-        marker.setStatus(Status.ADOPTED); // ADOPTED para não aparecer nas buscas de pets disponíveis
-        marker.setCreatedAt(LocalDateTime.now());
-        
-        petRepository.save(marker);
-        logger.debug("🏷️ Marcador de seeding criado com sucesso.");
-    }
-
-    /**
-     * Carrega os pets a partir do arquivo CSV.
-     * 
-     * @return número de pets carregados
-     * @throws IOException se houver erro na leitura do arquivo
-     */
-    private int loadPetsFromCsv() throws IOException {
-        ClassPathResource resource = new ClassPathResource(CSV_FILE_PATH);
-        
-        if (!resource.exists()) {
-            logger.warn("⚠️ Arquivo CSV não encontrado: {}. Seeding não será executado.", CSV_FILE_PATH);
-            return 0;
-        }
-
-        int petsLoaded = 0;
-        logger.info("📂 Carregando pets do arquivo: {}", CSV_FILE_PATH);
-
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-            
-            String line;
-            boolean isFirstLine = true;
-            
-            while ((line = reader.readLine()) != null) {
-                // Pular cabeçalho
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
-                }
-                
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                
-                try {
-                    Pet pet = parsePetFromCsvLine(line);
-                    petRepository.save(pet);
-                    petsLoaded++;
-                    logger.debug("🐾 Pet salvo: {} ({})", pet.getName(), pet.getSpecies());
-                } catch (Exception e) {
-                    logger.error("❌ Erro ao processar linha do CSV: '{}'. Erro: {}", line, e.getMessage());
-                    // Continua processando outras linhas mesmo se uma falhar
-                }
+    private SeedState seed(Resource resource) {
+        SeedState state = seedStateRepository.saveAndFlush(
+                new SeedState(SEED_NAME, seedLocation, 0, 0, LocalDateTime.now()));
+
+        try (InputStream input = resource.getInputStream()) {
+            PetImportResult result = petImportService.importCsv(input);
+            if (result.rejected() > 0) {
+                logger.warn("⚠️ {} linhas do CSV foram recusadas. Relatório: {}", result.rejected(),
+                        petImportService.findErrorReport(result.importId()).orElse(null));
             }
+            state.setRowsLoaded(result.imported());
+            state.setRowsRejected(result.rejected());
+            return state;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        return petsLoaded;
-    }
-
-    /**
-     * Converte uma linha do CSV em um objeto Pet.
-     * 
-     * Formato esperado: name,species,breed,age_years,shelter_city,shelter_lat,shelter_lng,status
-     * 
-     * @param csvLine linha do CSV para processar
-     * @return objeto Pet criado a partir da linha
-     * @throws IllegalArgumentException se a linha estiver mal formatada
-     */
-    private Pet parsePetFromCsvLine(String csvLine) {
-        String[] fields = csvLine.split(",");
-        
-        if (fields.length != 8) {
-            throw new IllegalArgumentException("Linha CSV deve ter exatamente 8 campos, mas tem " + fields.length);
-        }
-
-        Pet pet = new Pet();
-        pet.setName(fields[0].trim());
-        pet.setSpecies(Species.valueOf(fields[1].trim()));
-        pet.setBreed(fields[2].trim().isEmpty() ? null : fields[2].trim());
-        
-        // Age pode ser vazio
-        String ageStr = fields[3].trim();
-        pet.setAgeYears(ageStr.isEmpty() ? null : Integer.parseInt(ageStr));
-        
-        pet.setShelterCity(fields[4].trim());
-        
-        // Coordenadas podem ser vazias
-        String latStr = fields[5].trim();
-        pet.setShelterLat(latStr.isEmpty() ? null : new BigDecimal(latStr));
-        
-        String lngStr = fields[6].trim();
-        pet.setShelterLng(lngStr.isEmpty() ? null : new BigDecimal(lngStr));
-        
-        pet.setStatus(Status.valueOf(fields[7].trim()));
-        pet.setCreatedAt(LocalDateTime.now());
-
-        return pet;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.adoteumpet.adoteumpetapi.config;
+
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.generator.PetCatalogGenerator;
+import com.adoteumpet.adoteumpetapi.model.SeedState;
+import com.adoteumpet.adoteumpetapi.repository.PetBulkLoader;
+import com.adoteumpet.adoteumpetapi.repository.SeedStateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * Popula o banco com um catálogo sintético de pets, para testes de carga e de escala.
+ *
+ * Ativado pelo perfil "generate" (application-generate.properties), no lugar do
+ * {@link DataSeeder}. Os pets vêm do {@link PetCatalogGenerator} e entram pela mesma carga
+ * em massa da importação por CSV (COPY no PostgreSQL). Como o {@link DataSeeder}, a execução
+ * é registrada em seed_state e não se repete; para gerar outra massa, apague os pets e o
+ * registro "generator".
+ */
+@Component
+@Profile("generate")
+public class PetCatalogSeeder implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetCatalogSeeder.class);
+    static final String SEED_NAME = "generator";
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final SeedStateRepository seedStateRepository;
+    private final PetBulkLoader petBulkLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final PetCatalogGenerator generator;
+
+    public PetCatalogSeeder(SeedStateRepository seedStateRepository, PetBulkLoader petBulkLoader,
+                            ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                            @Value("${adoteumpet.generator.pets:1000000}") long pets,
+                            @Value("${adoteumpet.generator.seed:42}") long seed,
+                            @Value("${adoteumpet.generator.adopted-ratio:0.35}") double adoptedRatio,
+                            @Value("${adoteumpet.generator.zipf-exponent:1.0}") double zipfExponent) {
+        this.seedStateRepository = seedStateRepository;
+        this.petBulkLoader = petBulkLoader;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.generator = new PetCatalogGenerator(seed, pets, adoptedRatio, zipfExponent);
+    }
+
+    @Override
+    public void run(String... args) {
+        seedStateRepository.findById(SEED_NAME).ifPresentOrElse(
+                state -> logger.info("✅ Catálogo sintético já gerado em {} ({}). Pulando.",
+                        state.getSeededAt(), state.getSource()),
+                this::generate);
+    }
+
+    private void generate() {
+        logger.info("🏭 Gerando catálogo sintético: {}", generator.describe());
+        long start = System.currentTimeMillis();
+        try {
+            SeedState state = transactionTemplate.execute(status -> load());
+            long elapsed = Math.max(1, System.currentTimeMillis() - start);
+            logger.info("🎉 Catálogo sintético gerado: {} pets em {} ms ({} pets/s)",
+                    state.getRowsLoaded(), elapsed, state.getRowsLoaded() * 1000 / elapsed);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("✅ Catálogo sintético gerado por outra instância. Pulando.");
+        }
+    }
+
+    /**
+     * Grava o registro em seed_state e carrega os pets, na transação corrente.
+     */
+    private SeedState load() {
+        SeedState state = seedStateRepository.saveAndFlush(
+                new SeedState(SEED_NAME, generator.describe(), 0, 0, LocalDateTime.now()));
+        try {
+            long loaded = petBulkLoader.load(writer -> {
+                long[] rows = {0};
+                generator.writeTo(pet -> {
+                    writer.write(pet);
+                    if (++rows[0] % PROGRESS_INTERVAL == 0) {
+                        logger.info("🏭 {} de {} pets gerados", rows[0], generator.getPets());
+                    }
+                });
+            });
+            state.setRowsLoaded(loaded);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        eventPublisher.publishEvent(new PetsImportedEvent(state.getRowsLoaded()));
+        return state;
+    }
+}
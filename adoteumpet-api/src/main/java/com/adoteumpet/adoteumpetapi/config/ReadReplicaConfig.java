@@ -0,0 +1,121 @@
+package com.adoteumpet.adoteumpetapi.config;
+
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWritesTransactionListener;
+import com.adoteumpet.adoteumpetapi.repository.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Separa leituras e escritas entre o banco primário e uma réplica de leitura.
+ *
+ * Ativada quando adoteumpet.datasource.replica.url está definida; sem ela a aplicação usa o
+ * DataSource único de spring.datasource.*. Cada banco tem seu pool Hikari:
+ * <ul>
+ *   <li>primário (spring.datasource.*, spring.datasource.hikari.*): escritas, migrações do
+ *       Flyway e leituras fora de transações somente leitura;</li>
+ *   <li>réplica (adoteumpet.datasource.replica.*, adoteumpet.datasource.replica.hikari.*):
+ *       métodos {@code @Transactional(readOnly = true)}, como as listagens do PetService e as
+ *       consultas padrão dos repositórios Spring Data.</li>
+ * </ul>
+ * O DataSource da aplicação é um LazyConnectionDataSourceProxy: a conexão só é obtida na primeira
+ * instrução, quando já se sabe se a transação é somente leitura. Leituras de quem acabou de
+ * gravar continuam no primário ({@link ReadYourWritesFilter}), assim como as da inicialização
+ * (carga inicial e construção dos índices em memória), até a aplicação aceitar tráfego.
+ * Os caches compartilhados são carregados do primário e não guardam leituras da réplica
+ * ({@link ReadYourWritesTransactionListener}, {@link ReadYourWrites#onPrimary}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "adoteumpet.datasource.replica", name = "url")
+public class ReadReplicaConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("adoteumpet.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties primaryDataSourceProperties) {
+        HikariDataSource dataSource = primaryDataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("adoteumpet.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties) {
+        HikariDataSource dataSource = replicaDataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") HikariDataSource replica) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica));
+        logger.info("📚 Leituras somente leitura direcionadas à réplica {}", replica.getJdbcUrl());
+
+        // A thread que inicializa o contexto também executa a carga inicial e a reconstrução dos
+        // índices em memória, que precisam ver o primário (a réplica pode estar atrasada ou vazia)
+        ReadYourWrites.pinToPrimary();
+        return dataSource;
+    }
+
+    /**
+     * Libera a thread de inicialização para a réplica depois dos ouvintes de ApplicationReadyEvent.
+     */
+    @EventListener
+    public void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            ReadYourWrites.clear();
+        }
+    }
+
+    @Bean
+    public ReadYourWritesTransactionListener readYourWritesTransactionListener(
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new ReadYourWritesTransactionListener(entityManagerFactory);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${adoteumpet.datasource.replica.sticky-window:5s}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+}
@@ -0,0 +1,75 @@
+package com.adoteumpet.adoteumpetapi.config;
+
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Garante que o cliente leia as próprias escritas quando as leituras vão para a réplica.
+ *
+ * Requisições de escrita recebem o cookie {@link #COOKIE_NAME}, válido pela janela configurada
+ * (adoteumpet.datasource.replica.sticky-window). Enquanto o cliente o envia, e durante a própria
+ * requisição de escrita, as leituras da requisição vão ao primário ({@link ReadYourWrites}).
+ * Passada a janela, a réplica já deve ter recebido as alterações.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "adoteumpet-primary";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            // Antes da resposta ser enviada: downloads e respostas em streaming já estariam confirmados
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, "1")
+                    .maxAge(window)
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+
+        if (write || hasCookie(request)) {
+            ReadYourWrites.pinToPrimary();
+        } else {
+            ReadYourWrites.clear();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static boolean hasCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
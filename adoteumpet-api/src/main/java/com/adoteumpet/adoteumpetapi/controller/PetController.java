@@ -1,11 +1,34 @@
 package com.adoteumpet.adoteumpetapi.controller;
 
+import com.adoteumpet.adoteumpetapi.dto.CountMode;
+import com.adoteumpet.adoteumpetapi.dto.CursorPagedResponse;
+import com.adoteumpet.adoteumpetapi.dto.ExportFormat;
 import com.adoteumpet.adoteumpetapi.dto.PagedResponse;
+import com.adoteumpet.adoteumpetapi.dto.PetBatchResponse;
 import com.adoteumpet.adoteumpetapi.dto.PetCreateDTO;
+import com.adoteumpet.adoteumpetapi.dto.PetDistanceDTO;
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetImportResult;
+import com.adoteumpet.adoteumpetapi.dto.PetStats;
+import com.adoteumpet.adoteumpetapi.dto.PetStatusUpdateRequest;
+import com.adoteumpet.adoteumpetapi.dto.PetStatusUpdateResponse;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.dto.PetTile;
+import com.adoteumpet.adoteumpetapi.dto.PetVersion;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.exception.ResourceNotFoundException;
+import com.adoteumpet.adoteumpetapi.geo.MapTile;
 import com.adoteumpet.adoteumpetapi.model.Pet;
 import com.adoteumpet.adoteumpetapi.model.Species;
 import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.service.PetExportService;
+import com.adoteumpet.adoteumpetapi.service.PetImportService;
 import com.adoteumpet.adoteumpetapi.service.PetService;
+import com.adoteumpet.adoteumpetapi.service.PetTileService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,16 +38,36 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Controller REST para gerenciar operações relacionadas aos pets.
@@ -35,9 +78,29 @@ import java.util.UUID;
 @RequestMapping("/api/pets")
 public class PetController {
 
+    /**
+     * Tipo de conteúdo do JSON Merge Patch (RFC 7396).
+     */
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     @Autowired
     private PetService petService;
 
+    @Autowired
+    private PetTileService petTileService;
+
+    @Autowired
+    private PetExportService petExportService;
+
+    @Autowired
+    private PetImportService petImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
     /**
      * Endpoint para criar um novo pet.
      * @param petCreateDTO os dados do pet a ser criado
@@ -59,6 +122,87 @@ public class PetController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedPet);
     }
 
+    /**
+     * Endpoint para cadastrar vários pets em uma única requisição.
+     *
+     * Cada item é lido e validado separadamente: itens inválidos são recusados com seus erros
+     * e os demais são cadastrados juntos, em uma transação com INSERTs em lotes JDBC.
+     * @param items os dados dos pets a serem criados (até {@link PetService#MAX_BATCH_SIZE})
+     * @return resultado por item, com status 201 (todos cadastrados), 207 (parte recusada) ou 400 (todos recusados)
+     */
+    @Operation(summary = "Criar pets em lote",
+               description = "Cadastra até " + PetService.MAX_BATCH_SIZE + " pets em uma única requisição. " +
+                           "Cada item é validado separadamente; os itens válidos são cadastrados mesmo que " +
+                           "outros sejam recusados, e a resposta traz o ID ou os erros de cada item na ordem do pedido.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Todos os pets foram criados",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = PetBatchResponse.class))),
+        @ApiResponse(responseCode = "207", description = "Parte dos itens foi recusada",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = PetBatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Lote vazio, grande demais ou com todos os itens inválidos")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<PetBatchResponse> createPets(@RequestBody List<JsonNode> items) {
+        if (items.isEmpty() || items.size() > PetService.MAX_BATCH_SIZE) {
+            throw new BadRequestException(
+                    String.format("O lote deve ter entre 1 e %d pets.", PetService.MAX_BATCH_SIZE));
+        }
+
+        PetBatchResponse.Item[] results = new PetBatchResponse.Item[items.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            List<PetBatchResponse.FieldError> errors = new ArrayList<>();
+            PetCreateDTO dto = readBatchItem(items.get(i), errors);
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                pets.add(convertToEntity(dto));
+            } else {
+                results[i] = PetBatchResponse.Item.rejected(i, errors);
+            }
+        }
+
+        List<Pet> savedPets = pets.isEmpty() ? List.of() : petService.savePets(pets);
+        for (int i = 0; i < savedPets.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = PetBatchResponse.Item.created(index, savedPets.get(i).getId());
+        }
+
+        PetBatchResponse response = PetBatchResponse.of(List.of(results));
+        HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED
+                : response.created() == 0 ? HttpStatus.BAD_REQUEST
+                : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Lê e valida um item do cadastro em lote, acumulando os erros em vez de lançá-los.
+     * @param item o item recebido
+     * @param errors lista que recebe os erros encontrados
+     * @return o DTO lido, ou null se o item não pôde ser lido
+     */
+    private PetCreateDTO readBatchItem(JsonNode item, List<PetBatchResponse.FieldError> errors) {
+        if (item == null || !item.isObject()) {
+            errors.add(new PetBatchResponse.FieldError("item", "O item deve ser um objeto JSON."));
+            return null;
+        }
+        PetCreateDTO dto;
+        try {
+            dto = objectMapper.treeToValue(item, PetCreateDTO.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            String field = e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+                    ? mapping.getPath().get(0).getFieldName()
+                    : "item";
+            errors.add(new PetBatchResponse.FieldError(field, "Valor inválido para o campo."));
+            return null;
+        }
+        validator.validate(dto).forEach(violation -> errors.add(new PetBatchResponse.FieldError(
+                violation.getPropertyPath().toString(), violation.getMessage())));
+        return dto;
+    }
+
     /**
      * Converte um DTO de criação para uma entidade Pet.
      * @param dto o DTO com os dados do pet
@@ -80,122 +224,731 @@ public class PetController {
         return pet;
     }
 
+    /**
+     * Endpoint para importar pets de um arquivo CSV.
+     * @param file arquivo CSV com as colunas de data/pets-seed.csv
+     * @return quantidades importadas e recusadas, e o caminho do relatório de erros
+     * @throws IOException se a leitura do arquivo falhar
+     */
+    @Operation(summary = "Importar pets por CSV",
+               description = "Importa os pets de um CSV com o cabeçalho name,species,breed,age_years,shelter_city," +
+                           "shelter_lat,shelter_lng,status (o mesmo de data/pets-seed.csv). O arquivo é lido em " +
+                           "streaming e as linhas válidas são gravadas em uma única transação, por COPY no PostgreSQL. " +
+                           "As linhas inválidas não interrompem a importação: vão para um relatório CSV disponível " +
+                           "em errorReport.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = PetImportResult.class))),
+        @ApiResponse(responseCode = "400", description = "Arquivo vazio ou com cabeçalho inválido")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PetImportResult> importPets(
+            @Parameter(description = "Arquivo CSV") @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(petImportService.importCsv(input));
+        }
+    }
+
+    /**
+     * Endpoint que devolve o relatório das linhas recusadas em uma importação.
+     * @param importId identificador da importação
+     * @return arquivo CSV com a linha, os erros e os valores originais de cada linha recusada
+     */
+    @Operation(summary = "Baixar relatório de erros da importação",
+               description = "Devolve um CSV com a linha, os erros e os valores originais de cada linha recusada.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Relatório encontrado",
+                    content = @Content(mediaType = "text/csv")),
+        @ApiResponse(responseCode = "404", description = "Importação inexistente ou sem linhas recusadas")
+    })
+    @GetMapping("/import/{importId}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable UUID importId) {
+        Path report = petImportService.findErrorReport(importId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        String.format("Relatório de erros da importação '%s' não encontrado.", importId)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("pets-import-" + importId + "-errors.csv")
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(report));
+    }
+
     /**
      * Endpoint para buscar pets com filtros, paginação e ordenação.
+     * @param q busca textual em nome, raça e cidade, ordenada por relevância (opcional)
      * @param name filtro por nome (opcional)
      * @param species filtro por espécie (opcional)
      * @param breed filtro por raça (opcional)
      * @param shelterCity filtro por cidade do abrigo (opcional)
      * @param status filtro por status (opcional)
-     * @param pageable configuração de paginação e ordenação (padrão: page=0, size=10, sort=name,asc)
-     * @return resposta paginada com os pets encontrados
+     * @param count modo de cálculo do total (padrão: EXACT)
+     * @param facets inclui as contagens por faceta na resposta (padrão: false)
+     * @param pageable configuração de paginação e ordenação (padrão: page=0, size=10, sort=name,asc; size máximo: 100)
+     * @param request requisição, usada para responder If-None-Match com 304
+     * @return resposta paginada com os pets encontrados, 304 se a ETag informada ainda vale,
+     * ou 303 para a exportação se size passar do máximo
+     * @throws BadRequestException se size passar do máximo em uma busca textual (q), que não é exportada
      */
     @Operation(summary = "Buscar pets", 
-               description = "Busca pets com filtros opcionais, paginação e ordenação")
+               description = "Busca pets com filtros opcionais, paginação e ordenação. " +
+                           "Com o parâmetro q, busca o texto em nome, raça e cidade do abrigo ao mesmo tempo " +
+                           "e ordena por relevância (o parâmetro sort é ignorado). Com facets=true, inclui as " +
+                           "contagens por espécie, status, cidade e raça para os filtros informados. " +
+                           "Com count=EXACT e sem facets, a resposta traz uma ETag fraca que muda a cada alteração " +
+                           "de um pet do filtro; If-None-Match com essa ETag é respondido com 304 sem consultar a página. " +
+                           "Tamanhos de página acima de 100 são redirecionados (303) para GET /api/pets/export " +
+                           "com o mesmo filtro (com q, são recusados com 400).")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de pets retornada com sucesso",
                     content = @Content(mediaType = "application/json", 
-                                     schema = @Schema(implementation = PagedResponse.class)))
+                                     schema = @Schema(implementation = PagedResponse.class))),
+        @ApiResponse(responseCode = "303", description = "Tamanho de página acima do máximo; use a exportação"),
+        @ApiResponse(responseCode = "304", description = "Nenhum pet do filtro mudou desde a ETag informada"),
+        @ApiResponse(responseCode = "400", description = "Tamanho de página acima do máximo em uma busca textual (q)")
     })
     @GetMapping
-    public ResponseEntity<PagedResponse<Pet>> getPets(
+    public ResponseEntity<PagedResponse<PetSummary>> getPets(
+            @Parameter(description = "Busca textual em nome, raça e cidade do abrigo (ordenada por relevância)")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Filtro por nome do pet") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtro por espécie (CAT ou DOG)") @RequestParam(required = false) Species species,
+            @Parameter(description = "Filtro por raça do pet") @RequestParam(required = false) String breed,
+            @Parameter(description = "Filtro por cidade do abrigo") @RequestParam(required = false) String shelterCity,
+            @Parameter(description = "Filtro por status (AVAILABLE ou ADOPTED)") @RequestParam(required = false) Status status,
+            @Parameter(description = "Cálculo do total: EXACT (COUNT completo), ESTIMATED (aproximado) ou NONE (apenas hasNext)")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @Parameter(description = "Inclui as contagens por espécie, status, cidade e raça para os filtros informados")
+            @RequestParam(defaultValue = "false") boolean facets,
+            @Parameter(hidden = true) @PageableDefault(size = 10, sort = "name") Pageable pageable,
+            WebRequest request) {
+        
+        PetFilter filter = new PetFilter(name, species, breed, shelterCity, status);
+        // O Pageable já chega limitado a spring.data.web.pageable.max-page-size; o pedido original vem do parâmetro
+        if (requestedPageSize(request) > PetService.MAX_PAGE_SIZE) {
+            if (q != null && !q.isBlank()) {
+                throw new BadRequestException(String.format(
+                        "O tamanho máximo de página da busca textual é %d.", PetService.MAX_PAGE_SIZE));
+            }
+            return redirectToStream(exportUri()
+                    .queryParamIfPresent("name", Optional.ofNullable(name))
+                    .queryParamIfPresent("species", Optional.ofNullable(species))
+                    .queryParamIfPresent("breed", Optional.ofNullable(breed))
+                    .queryParamIfPresent("shelterCity", Optional.ofNullable(shelterCity))
+                    .queryParamIfPresent("status", Optional.ofNullable(status)));
+        }
+        if (facets) {
+            // As facetas contam pets fora do filtro, então a resposta não tem ETag
+            PagedResponse<PetSummary> pets = listPets(q, filter, pageable, count);
+            return ResponseEntity.ok(pets.withFacets(petService.countFacets(filter)));
+        }
+
+        // A ETag agrega todos os pets do filtro; só é calculada quando é enviada, com o total exato.
+        // checkNotModified também define o cabeçalho ETag da resposta
+        if (count == CountMode.EXACT && request.checkNotModified(petService.getListVersion(filter).toWeakETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(listPets(q, filter, pageable, count));
+    }
+
+    /**
+     * Tamanho de página pedido no parâmetro size, antes do limite aplicado ao Pageable
+     * (0 se ausente ou inválido, casos em que vale o tamanho padrão).
+     */
+    private static int requestedPageSize(WebRequest request) {
+        String size = request.getParameter("size");
+        if (size == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(size.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private PagedResponse<PetSummary> listPets(String q, PetFilter filter, Pageable pageable, CountMode count) {
+        return q != null && !q.isBlank()
+                ? petService.searchPets(q, filter, pageable)
+                : petService.findPets(filter, pageable, count);
+    }
+
+    /**
+     * Endpoint para buscar pets com filtros usando paginação por cursor.
+     * @param name filtro por nome (opcional)
+     * @param species filtro por espécie (opcional)
+     * @param breed filtro por raça (opcional)
+     * @param shelterCity filtro por cidade do abrigo (opcional)
+     * @param status filtro por status (opcional)
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 10, máximo: 100)
+     * @param sort ordenação (padrão: name,asc; aceita name, shelterCity, createdAt e id)
+     * @return página de pets com o cursor da próxima página
+     */
+    @Operation(summary = "Buscar pets por cursor", 
+               description = "Busca pets com os mesmos filtros de GET /api/pets, paginando por cursor (keyset). " +
+                           "A latência não cresce com a profundidade da página e os resultados não se deslocam " +
+                           "quando pets são cadastrados ou adotados entre as requisições.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso",
+                    content = @Content(mediaType = "application/json", 
+                                     schema = @Schema(implementation = CursorPagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou tamanho de página inválidos")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPagedResponse<PetSummary>> scrollPets(
             @Parameter(description = "Filtro por nome do pet") @RequestParam(required = false) String name,
             @Parameter(description = "Filtro por espécie (CAT ou DOG)") @RequestParam(required = false) Species species,
             @Parameter(description = "Filtro por raça do pet") @RequestParam(required = false) String breed,
             @Parameter(description = "Filtro por cidade do abrigo") @RequestParam(required = false) String shelterCity,
             @Parameter(description = "Filtro por status (AVAILABLE ou ADOPTED)") @RequestParam(required = false) Status status,
-            @Parameter(hidden = true) @PageableDefault(size = 10, sort = "name") Pageable pageable) {
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @SortDefault(sort = "name") Sort sort) {
         
-        PagedResponse<Pet> pets = petService.findPets(name, species, breed, shelterCity, status, pageable);
+        PetFilter filter = new PetFilter(name, species, breed, shelterCity, status);
+        CursorPagedResponse<PetSummary> pets = petService.scrollPets(filter, sort, cursor, size);
         return ResponseEntity.ok(pets);
     }
 
+    /**
+     * Endpoint para buscar pets próximos a uma coordenada, ordenados por distância.
+     * @param lat latitude da origem
+     * @param lng longitude da origem
+     * @param radiusKm raio da busca em km (padrão: 10, máximo: 500)
+     * @param name filtro por nome (opcional)
+     * @param species filtro por espécie (opcional)
+     * @param breed filtro por raça (opcional)
+     * @param shelterCity filtro por cidade do abrigo (opcional)
+     * @param status filtro por status (opcional)
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 10, máximo: 100)
+     * @return página de pets com a distância de cada um e o cursor da próxima página
+     */
+    @Operation(summary = "Buscar pets por proximidade", 
+               description = "Busca pets cujo abrigo está a até radiusKm da coordenada informada, do mais próximo " +
+                           "ao mais distante, com os mesmos filtros de GET /api/pets e paginação por cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso",
+                    content = @Content(mediaType = "application/json", 
+                                     schema = @Schema(implementation = CursorPagedResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Coordenadas, raio, cursor ou tamanho de página inválidos")
+    })
+    @GetMapping("/near")
+    public ResponseEntity<CursorPagedResponse<PetDistanceDTO>> getNearbyPets(
+            @Parameter(description = "Latitude da origem", example = "-23.5505") @RequestParam double lat,
+            @Parameter(description = "Longitude da origem", example = "-46.6333") @RequestParam double lng,
+            @Parameter(description = "Raio da busca em km") @RequestParam(defaultValue = "10") double radiusKm,
+            @Parameter(description = "Filtro por nome do pet") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtro por espécie (CAT ou DOG)") @RequestParam(required = false) Species species,
+            @Parameter(description = "Filtro por raça do pet") @RequestParam(required = false) String breed,
+            @Parameter(description = "Filtro por cidade do abrigo") @RequestParam(required = false) String shelterCity,
+            @Parameter(description = "Filtro por status (AVAILABLE ou ADOPTED)") @RequestParam(required = false) Status status,
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "10") int size) {
+        
+        PetFilter filter = new PetFilter(name, species, breed, shelterCity, status);
+        CursorPagedResponse<PetDistanceDTO> pets = petService.findNearbyPets(filter, lat, lng, radiusKm, cursor, size);
+        return ResponseEntity.ok(pets);
+    }
+
+    /**
+     * Endpoint que retorna os pets de um tile de mapa (esquema XYZ do Leaflet).
+     * @param z nível de zoom (0 a 20)
+     * @param x coluna do tile
+     * @param y linha do tile
+     * @param species filtro por espécie (opcional)
+     * @param status filtro por status (opcional)
+     * @return agrupamentos (zoom baixo) ou pets individuais (zoom alto) do tile
+     */
+    @Operation(summary = "Buscar tile de mapa de pets", 
+               description = "Retorna os pets do tile z/x/y. Em zoom baixo (ou em tiles muito densos) retorna " +
+                           "agrupamentos com contagem, centroide e distribuição por espécie e status; a partir do " +
+                           "zoom 14 retorna os pets individualmente (até 500 por tile).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tile retornado com sucesso",
+                    content = @Content(mediaType = "application/json", 
+                                     schema = @Schema(implementation = PetTile.class))),
+        @ApiResponse(responseCode = "400", description = "Zoom ou coordenadas do tile inválidos")
+    })
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<PetTile> getPetTile(
+            @Parameter(description = "Nível de zoom", example = "12") @PathVariable int z,
+            @Parameter(description = "Coluna do tile", example = "1517") @PathVariable int x,
+            @Parameter(description = "Linha do tile", example = "2323") @PathVariable int y,
+            @Parameter(description = "Filtro por espécie (CAT ou DOG)") @RequestParam(required = false) Species species,
+            @Parameter(description = "Filtro por status (AVAILABLE ou ADOPTED)") @RequestParam(required = false) Status status) {
+        
+        PetTile tile = petTileService.getTile(new MapTile(z, x, y), species, status);
+        return ResponseEntity.ok(tile);
+    }
+
+    /**
+     * Endpoint que retorna estatísticas agregadas dos pets.
+     * @param groupBy campos de agrupamento separados por vírgula (opcional)
+     * @param metrics métricas separadas por vírgula (padrão: count)
+     * @param name filtro por nome (opcional)
+     * @param species filtro por espécie (opcional)
+     * @param breed filtro por raça (opcional)
+     * @param shelterCity filtro por cidade do abrigo (opcional)
+     * @param status filtro por status (opcional)
+     * @return grupos com as métricas solicitadas
+     */
+    @Operation(summary = "Estatísticas de pets", 
+               description = "Agrupa os pets que atendem aos filtros por species, status, shelterCity e/ou breed e " +
+                           "calcula as métricas count, avgAge e ageHistogram (posição i = pets com i anos; a última " +
+                           "acumula 20 anos ou mais). Calculado em memória, sem consultas ao banco.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estatísticas calculadas com sucesso",
+                    content = @Content(mediaType = "application/json", 
+                                     schema = @Schema(implementation = PetStats.class))),
+        @ApiResponse(responseCode = "400", description = "Campo de agrupamento ou métrica inválidos")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<PetStats> getPetStats(
+            @Parameter(description = "Campos de agrupamento", example = "shelterCity,species") @RequestParam(required = false) List<String> groupBy,
+            @Parameter(description = "Métricas", example = "count,avgAge,ageHistogram") @RequestParam(defaultValue = "count") List<String> metrics,
+            @Parameter(description = "Filtro por nome do pet") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtro por espécie (CAT ou DOG)") @RequestParam(required = false) Species species,
+            @Parameter(description = "Filtro por raça do pet") @RequestParam(required = false) String breed,
+            @Parameter(description = "Filtro por cidade do abrigo") @RequestParam(required = false) String shelterCity,
+            @Parameter(description = "Filtro por status (AVAILABLE ou ADOPTED)") @RequestParam(required = false) Status status) {
+        
+        PetFilter filter = new PetFilter(name, species, breed, shelterCity, status);
+        PetStats stats = petService.getStats(filter, groupBy, metrics);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Endpoint que exporta todos os pets que atendem aos filtros.
+     * @param format formato do arquivo (ndjson ou csv, padrão: ndjson)
+     * @param name filtro por nome (opcional)
+     * @param species filtro por espécie (opcional)
+     * @param breed filtro por raça (opcional)
+     * @param shelterCity filtro por cidade do abrigo (opcional)
+     * @param status filtro por status (opcional)
+     * @return arquivo escrito em streaming, sem paginação
+     */
+    @Operation(summary = "Exportar pets", 
+               description = "Exporta todos os pets que atendem aos filtros, ordenados por ID, como NDJSON (um objeto " +
+                           "por linha) ou CSV com cabeçalho. Os dados são lidos do banco por cursor e enviados à " +
+                           "medida que são lidos, então o consumo de memória não depende do tamanho do catálogo.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                    content = {
+                        @Content(mediaType = "application/x-ndjson"),
+                        @Content(mediaType = "text/csv")
+                    }),
+        @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPets(
+            @Parameter(description = "Formato do arquivo", example = "csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Filtro por nome do pet") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtro por espécie (CAT ou DOG)") @RequestParam(required = false) Species species,
+            @Parameter(description = "Filtro por raça do pet") @RequestParam(required = false) String breed,
+            @Parameter(description = "Filtro por cidade do abrigo") @RequestParam(required = false) String shelterCity,
+            @Parameter(description = "Filtro por status (AVAILABLE ou ADOPTED)") @RequestParam(required = false) Status status) {
+        
+        PetFilter filter = new PetFilter(name, species, breed, shelterCity, status);
+        return streamPets(format, filter, null, null, null);
+    }
+
+    /**
+     * Escreve em streaming, no formato pedido, todos os pets do filtro e dos critérios das listagens.
+     */
+    private ResponseEntity<StreamingResponseBody> streamPets(String format, PetFilter filter, String city,
+                                                             Integer minAge, Integer maxAge) {
+        ExportFormat exportFormat = petExportService.parseFormat(format);
+        StreamingResponseBody body = output -> petExportService.export(filter, city, minAge, maxAge, exportFormat, output);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("pets." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * Endpoint para buscar um pet pelo ID.
      * @param id o ID do pet
-     * @return o pet encontrado ou 404 se não existir
+     * @param request requisição, usada para responder If-None-Match com 304
+     * @return o pet encontrado, 304 se a ETag informada ainda vale ou 404 se não existir
      */
     @Operation(summary = "Buscar pet por ID", 
-               description = "Retorna um pet específico pelo seu identificador único")
+               description = "Retorna um pet específico pelo seu identificador único, com a versão do pet " +
+                           "como ETag. If-None-Match com a versão atual é respondido com 304 sem carregar o pet.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Pet encontrado",
                     content = @Content(mediaType = "application/json", 
                                      schema = @Schema(implementation = Pet.class))),
+        @ApiResponse(responseCode = "304", description = "Pet não mudou desde a ETag informada"),
         @ApiResponse(responseCode = "404", description = "Pet não encontrado")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Pet> getPetById(@Parameter(description = "ID único do pet") @PathVariable UUID id) {
+    public ResponseEntity<Pet> getPetById(@Parameter(description = "ID único do pet") @PathVariable UUID id,
+                                          WebRequest request) {
+        // Requisição condicional: compara apenas a versão, lida do índice, antes de carregar o pet
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(petETag(petService.getPetVersion(id)))) {
+            return null;
+        }
+
         Pet pet = petService.getPetById(id);
-        return ResponseEntity.ok(pet);
+        // Define o cabeçalho ETag (se a comparação acima já o definiu, não é alterado)
+        request.checkNotModified(petETag(pet.getVersion()));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(pet);
+    }
+
+    private static String petETag(long version) {
+        return "\"" + version + "\"";
     }
 
     /**
      * Endpoint para buscar pets por espécie.
      * @param species a espécie desejada
-     * @return lista de pets da espécie especificada
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 20, máximo: 100)
+     * @return página de pets da espécie especificada com o cursor da próxima, ou 303 para a versão em streaming se size passar do máximo
      */
+    @Operation(summary = "Buscar pets por espécie", 
+               description = "Retorna uma página de pets da espécie, ordenada por ID e paginada por cursor (keyset). " +
+                           "Tamanhos de página acima de 100 são redirecionados (303) para GET /api/pets/species/{species}/stream.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso"),
+        @ApiResponse(responseCode = "303", description = "Tamanho de página acima do máximo; use a versão em streaming"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos")
+    })
     @GetMapping("/species/{species}")
-    public ResponseEntity<List<Pet>> getPetsBySpecies(@PathVariable Species species) {
-        List<Pet> pets = petService.getPetsBySpecies(species);
+    public ResponseEntity<CursorPagedResponse<PetSummary>> getPetsBySpecies(
+            @PathVariable Species species,
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "20") int size) {
+        if (size > PetService.MAX_PAGE_SIZE) {
+            return redirectToStream(streamUri("species", species));
+        }
+        CursorPagedResponse<PetSummary> pets = petService.getPetsBySpecies(species, cursor, size);
         return ResponseEntity.ok(pets);
     }
 
+    /**
+     * Endpoint que exporta em streaming os pets de uma espécie.
+     * @param species a espécie desejada
+     * @param format formato do arquivo (ndjson ou csv, padrão: ndjson)
+     * @return arquivo escrito em streaming, ordenado por ID e sem paginação
+     */
+    @Operation(summary = "Exportar pets da espécie", 
+               description = "Versão em streaming de GET /api/pets/species/{species}: todos os pets da espécie, ordenados por ID, como " +
+                           "NDJSON ou CSV, lidos do banco por cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                    content = {
+                        @Content(mediaType = "application/x-ndjson"),
+                        @Content(mediaType = "text/csv")
+                    }),
+        @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/species/{species}/stream")
+    public ResponseEntity<StreamingResponseBody> streamPetsBySpecies(
+            @PathVariable Species species,
+            @Parameter(description = "Formato do arquivo", example = "csv") @RequestParam(defaultValue = "ndjson") String format) {
+        return streamPets(format, new PetFilter(null, species, null, null, null), null, null, null);
+    }
+
     /**
      * Endpoint para buscar pets por status.
      * @param status o status desejado
-     * @return lista de pets com o status especificado
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 20, máximo: 100)
+     * @return página de pets com o status especificado com o cursor da próxima, ou 303 para a versão em streaming se size passar do máximo
      */
+    @Operation(summary = "Buscar pets por status", 
+               description = "Retorna uma página de pets com o status, ordenada por ID e paginada por cursor (keyset). " +
+                           "Tamanhos de página acima de 100 são redirecionados (303) para GET /api/pets/status/{status}/stream.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso"),
+        @ApiResponse(responseCode = "303", description = "Tamanho de página acima do máximo; use a versão em streaming"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos")
+    })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Pet>> getPetsByStatus(@PathVariable Status status) {
-        List<Pet> pets = petService.getPetsByStatus(status);
+    public ResponseEntity<CursorPagedResponse<PetSummary>> getPetsByStatus(
+            @PathVariable Status status,
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "20") int size) {
+        if (size > PetService.MAX_PAGE_SIZE) {
+            return redirectToStream(streamUri("status", status));
+        }
+        CursorPagedResponse<PetSummary> pets = petService.getPetsByStatus(status, cursor, size);
         return ResponseEntity.ok(pets);
     }
 
+    /**
+     * Endpoint que exporta em streaming os pets com um status.
+     * @param status o status desejado
+     * @param format formato do arquivo (ndjson ou csv, padrão: ndjson)
+     * @return arquivo escrito em streaming, ordenado por ID e sem paginação
+     */
+    @Operation(summary = "Exportar pets com o status", 
+               description = "Versão em streaming de GET /api/pets/status/{status}: todos os pets com o status, ordenados por ID, como " +
+                           "NDJSON ou CSV, lidos do banco por cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                    content = {
+                        @Content(mediaType = "application/x-ndjson"),
+                        @Content(mediaType = "text/csv")
+                    }),
+        @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/status/{status}/stream")
+    public ResponseEntity<StreamingResponseBody> streamPetsByStatus(
+            @PathVariable Status status,
+            @Parameter(description = "Formato do arquivo", example = "csv") @RequestParam(defaultValue = "ndjson") String format) {
+        return streamPets(format, new PetFilter(null, null, null, null, status), null, null, null);
+    }
+
     /**
      * Endpoint para buscar pets disponíveis para adoção.
-     * @return lista de pets disponíveis
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 20, máximo: 100)
+     * @return página de pets disponíveis com o cursor da próxima, ou 303 para a versão em streaming se size passar do máximo
      */
+    @Operation(summary = "Buscar pets disponíveis", 
+               description = "Retorna uma página de pets disponíveis para adoção, ordenada por ID e paginada por cursor (keyset). " +
+                           "Tamanhos de página acima de 100 são redirecionados (303) para GET /api/pets/available/stream.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso"),
+        @ApiResponse(responseCode = "303", description = "Tamanho de página acima do máximo; use a versão em streaming"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos")
+    })
     @GetMapping("/available")
-    public ResponseEntity<List<Pet>> getAvailablePets() {
-        List<Pet> pets = petService.getAvailablePets();
+    public ResponseEntity<CursorPagedResponse<PetSummary>> getAvailablePets(
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "20") int size) {
+        if (size > PetService.MAX_PAGE_SIZE) {
+            return redirectToStream(streamUri("available"));
+        }
+        CursorPagedResponse<PetSummary> pets = petService.getAvailablePets(cursor, size);
         return ResponseEntity.ok(pets);
     }
 
+    /**
+     * Endpoint que exporta em streaming os pets disponíveis para adoção.
+     * @param format formato do arquivo (ndjson ou csv, padrão: ndjson)
+     * @return arquivo escrito em streaming, ordenado por ID e sem paginação
+     */
+    @Operation(summary = "Exportar pets disponíveis para adoção", 
+               description = "Versão em streaming de GET /api/pets/available: todos os pets disponíveis para adoção, ordenados por ID, como " +
+                           "NDJSON ou CSV, lidos do banco por cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                    content = {
+                        @Content(mediaType = "application/x-ndjson"),
+                        @Content(mediaType = "text/csv")
+                    }),
+        @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/available/stream")
+    public ResponseEntity<StreamingResponseBody> streamAvailablePets(
+            @Parameter(description = "Formato do arquivo", example = "csv") @RequestParam(defaultValue = "ndjson") String format) {
+        return streamPets(format, new PetFilter(null, null, null, null, Status.AVAILABLE), null, null, null);
+    }
+
     /**
      * Endpoint para buscar pets por cidade do abrigo.
-     * @param city a cidade do abrigo
-     * @return lista de pets na cidade especificada
+     * @param city a cidade do abrigo (nome exato)
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 20, máximo: 100)
+     * @return página de pets na cidade especificada com o cursor da próxima, ou 303 para a versão em streaming se size passar do máximo
      */
+    @Operation(summary = "Buscar pets por cidade", 
+               description = "Retorna uma página de pets da cidade (nome exato), ordenada por ID e paginada por cursor (keyset). " +
+                           "Tamanhos de página acima de 100 são redirecionados (303) para GET /api/pets/city/{city}/stream.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso"),
+        @ApiResponse(responseCode = "303", description = "Tamanho de página acima do máximo; use a versão em streaming"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos")
+    })
     @GetMapping("/city/{city}")
-    public ResponseEntity<List<Pet>> getPetsByCity(@PathVariable String city) {
-        List<Pet> pets = petService.getPetsByCity(city);
+    public ResponseEntity<CursorPagedResponse<PetSummary>> getPetsByCity(
+            @PathVariable String city,
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "20") int size) {
+        if (size > PetService.MAX_PAGE_SIZE) {
+            return redirectToStream(streamUri("city", city));
+        }
+        CursorPagedResponse<PetSummary> pets = petService.getPetsByCity(city, cursor, size);
         return ResponseEntity.ok(pets);
     }
 
+    /**
+     * Endpoint que exporta em streaming os pets de uma cidade do abrigo.
+     * @param city a cidade do abrigo (nome exato)
+     * @param format formato do arquivo (ndjson ou csv, padrão: ndjson)
+     * @return arquivo escrito em streaming, ordenado por ID e sem paginação
+     */
+    @Operation(summary = "Exportar pets da cidade (nome exato)", 
+               description = "Versão em streaming de GET /api/pets/city/{city}: todos os pets da cidade (nome exato), ordenados por ID, como " +
+                           "NDJSON ou CSV, lidos do banco por cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                    content = {
+                        @Content(mediaType = "application/x-ndjson"),
+                        @Content(mediaType = "text/csv")
+                    }),
+        @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/city/{city}/stream")
+    public ResponseEntity<StreamingResponseBody> streamPetsByCity(
+            @PathVariable String city,
+            @Parameter(description = "Formato do arquivo", example = "csv") @RequestParam(defaultValue = "ndjson") String format) {
+        return streamPets(format, new PetFilter(null, null, null, null, null), city, null, null);
+    }
+
     /**
      * Endpoint para buscar pets por faixa etária.
      * @param minAge idade mínima
      * @param maxAge idade máxima
-     * @return lista de pets na faixa etária
+     * @param cursor cursor opaco retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (padrão: 20, máximo: 100)
+     * @return página de pets na faixa etária com o cursor da próxima, ou 303 para a versão em streaming se size passar do máximo
      */
+    @Operation(summary = "Buscar pets por faixa etária", 
+               description = "Retorna uma página de pets com idade entre minAge e maxAge, ordenada por ID e paginada por cursor (keyset). " +
+                           "Tamanhos de página acima de 100 são redirecionados (303) para GET /api/pets/age/stream.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de pets retornada com sucesso"),
+        @ApiResponse(responseCode = "303", description = "Tamanho de página acima do máximo; use a versão em streaming"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos")
+    })
     @GetMapping("/age")
-    public ResponseEntity<List<Pet>> getPetsByAgeRange(
+    public ResponseEntity<CursorPagedResponse<PetSummary>> getPetsByAgeRange(
             @RequestParam Integer minAge, 
-            @RequestParam Integer maxAge) {
-        List<Pet> pets = petService.getPetsByAgeRange(minAge, maxAge);
+            @RequestParam Integer maxAge,
+            @Parameter(description = "Cursor retornado no campo 'next' da página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de pets por página") @RequestParam(defaultValue = "20") int size) {
+        if (size > PetService.MAX_PAGE_SIZE) {
+            return redirectToStream(streamUri("age").queryParam("minAge", minAge).queryParam("maxAge", maxAge));
+        }
+        CursorPagedResponse<PetSummary> pets = petService.getPetsByAgeRange(minAge, maxAge, cursor, size);
         return ResponseEntity.ok(pets);
     }
 
+    /**
+     * Endpoint que exporta em streaming os pets de uma faixa etária.
+     * @param minAge idade mínima
+     * @param maxAge idade máxima
+     * @param format formato do arquivo (ndjson ou csv, padrão: ndjson)
+     * @return arquivo escrito em streaming, ordenado por ID e sem paginação
+     */
+    @Operation(summary = "Exportar pets com idade entre minAge e maxAge", 
+               description = "Versão em streaming de GET /api/pets/age: todos os pets com idade entre minAge e maxAge, ordenados por ID, como " +
+                           "NDJSON ou CSV, lidos do banco por cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada",
+                    content = {
+                        @Content(mediaType = "application/x-ndjson"),
+                        @Content(mediaType = "text/csv")
+                    }),
+        @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/age/stream")
+    public ResponseEntity<StreamingResponseBody> streamPetsByAgeRange(
+            @RequestParam Integer minAge, 
+            @RequestParam Integer maxAge,
+            @Parameter(description = "Formato do arquivo", example = "csv") @RequestParam(defaultValue = "ndjson") String format) {
+        return streamPets(format, new PetFilter(null, null, null, null, null), null, minAge, maxAge);
+    }
+
+    /**
+     * Monta o endereço da exportação, ao qual GET /api/pets acrescenta seus filtros.
+     */
+    private static UriComponentsBuilder exportUri() {
+        return UriComponentsBuilder.fromPath("/api/pets/export");
+    }
+
+    /**
+     * Monta o endereço da versão em streaming de uma listagem, com o mesmo filtro no caminho.
+     */
+    private static UriComponentsBuilder streamUri(Object... listing) {
+        return UriComponentsBuilder.fromPath("/api/pets")
+                .pathSegment(Arrays.stream(listing).map(String::valueOf).toArray(String[]::new))
+                .pathSegment("stream");
+    }
+
+    /**
+     * Responde 303 See Other apontando para a versão em streaming, que o cliente segue com GET.
+     */
+    private static <T> ResponseEntity<T> redirectToStream(UriComponentsBuilder stream) {
+        return ResponseEntity.status(HttpStatus.SEE_OTHER)
+                .location(stream.encode().build().toUri())
+                .build();
+    }
+
     /**
      * Endpoint para atualizar um pet existente.
      * @param id o ID do pet a ser atualizado
      * @param pet os dados atualizados
-     * @return o pet atualizado ou 404 se não existir
+     * @param ifMatch ETag do pet lida anteriormente (opcional); a atualização só é aplicada se ainda for a atual
+     * @return o pet atualizado, 404 se não existir ou 409 se foi alterado por outra requisição
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Pet> updatePet(@PathVariable UUID id, @RequestBody Pet pet) {
+    public ResponseEntity<Pet> updatePet(@PathVariable UUID id, @RequestBody Pet pet,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        // A versão do corpo é somente leitura; a versão esperada vem apenas do If-Match
+        pet.setVersion(ifMatch != null ? parseVersion(ifMatch) : null);
         Pet updatedPet = petService.updatePet(id, pet);
-        return ResponseEntity.ok(updatedPet);
+        return ResponseEntity.ok()
+                .eTag(petETag(updatedPet.getVersion()))
+                .body(updatedPet);
+    }
+
+    /**
+     * Endpoint para alterar apenas alguns campos de um pet (JSON Merge Patch, RFC 7396).
+     * @param id o ID do pet
+     * @param patch campos a alterar; null remove o valor de um campo opcional
+     * @param ifMatch ETag do pet lida anteriormente (opcional); a alteração só é aplicada se ainda for a atual
+     * @return o pet alterado, 400 se o documento for inválido, 404 se não existir ou 409 se foi alterado por outra requisição
+     */
+    @Operation(summary = "Alterar campos de um pet",
+               description = "Aplica um JSON Merge Patch: apenas os campos enviados são alterados, em uma única " +
+                           "instrução UPDATE, sem carregar o pet. Campos aceitos: name, species, breed, ageYears, " +
+                           "shelterCity, shelterLat e shelterLng (juntos) e status.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Pet alterado",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = Pet.class))),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido ou valor inválido"),
+        @ApiResponse(responseCode = "404", description = "Pet não encontrado"),
+        @ApiResponse(responseCode = "409", description = "A versão do pet não é a informada em If-Match")
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Pet> patchPet(@PathVariable UUID id, @RequestBody JsonNode patch,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Pet patchedPet = petService.patchPet(id, patch, ifMatch != null ? parseVersion(ifMatch) : null);
+        return ResponseEntity.ok()
+                .eTag(petETag(patchedPet.getVersion()))
+                .body(patchedPet);
+    }
+
+    private static long parseVersion(String eTag) {
+        String value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match inválido: '" + eTag + "'. Use a ETag retornada por GET /api/pets/{id}.");
+        }
     }
 
     /**
@@ -213,6 +966,35 @@ public class PetController {
         }
     }
 
+    /**
+     * Endpoint para mudar o status de vários pets em uma única requisição.
+     * @param request novo status e a lista de IDs ou o filtro dos pets
+     * @return os IDs alterados e, em pedidos por IDs, os que já estavam no status ou não existem
+     */
+    @Operation(summary = "Mudar o status de vários pets",
+               description = "Adota ou devolve para adoção vários pets de uma vez, pela lista de IDs (até " +
+                           PetService.MAX_BATCH_SIZE + ") ou por um filtro com os mesmos critérios de GET /api/pets que selecione até " +
+                           PetService.MAX_BATCH_SIZE + " pets. A alteração é uma única instrução no banco, só altera os pets que " +
+                           "ainda não estão no status e devolve o ID e a nova versão de cada pet alterado.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status alterado",
+                    content = @Content(mediaType = "application/json",
+                                     schema = @Schema(implementation = PetStatusUpdateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Status ausente, nenhum/ambos os critérios de seleção informados, ou filtro com mais de " +
+                    PetService.MAX_BATCH_SIZE + " pets")
+    })
+    @PatchMapping("/status")
+    public ResponseEntity<PetStatusUpdateResponse> updateStatus(@Valid @RequestBody PetStatusUpdateRequest request) {
+        List<PetVersion> updatedPets = petService.updateStatus(request.status(), request.ids(), request.filter());
+
+        List<UUID> unchangedIds = null;
+        if (request.ids() != null) {
+            Set<UUID> updated = updatedPets.stream().map(PetVersion::id).collect(Collectors.toSet());
+            unchangedIds = request.ids().stream().distinct().filter(id -> !updated.contains(id)).toList();
+        }
+        return ResponseEntity.ok(new PetStatusUpdateResponse(request.status(), updatedPets.size(), updatedPets, unchangedIds));
+    }
+
     /**
      * Endpoint para remover um pet.
      * @param id o ID do pet a ser removido
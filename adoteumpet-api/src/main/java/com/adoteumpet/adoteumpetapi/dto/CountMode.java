@@ -0,0 +1,25 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Define como o total de registros é calculado nas buscas paginadas.
+ */
+@Schema(description = "Modo de contagem do total de registros", allowableValues = {"EXACT", "ESTIMATED", "NONE"})
+public enum CountMode {
+    /**
+     * Executa COUNT(*) com os mesmos filtros da busca (comportamento padrão).
+     */
+    EXACT,
+
+    /**
+     * Usa a estimativa do planejador do banco para buscas sem filtros ou apenas com
+     * filtros de igualdade, e contagens exatas em cache para os demais filtros.
+     */
+    ESTIMATED,
+
+    /**
+     * Não calcula o total; a resposta informa apenas se existe próxima página.
+     */
+    NONE
+}
@@ -0,0 +1,60 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada por cursor (keyset pagination).
+ * 
+ * Diferente de {@link PagedResponse}, não informa número de página nem total:
+ * o cliente avança usando o cursor opaco retornado em {@code next}.
+ * 
+ * @param <T> Tipo dos dados da página
+ */
+public class CursorPagedResponse<T> {
+    private List<T> data;
+    private int size;
+    private String next;
+    private boolean hasNext;
+    
+    public CursorPagedResponse() {}
+    
+    public CursorPagedResponse(List<T> data, int size, String next) {
+        this.data = data;
+        this.size = size;
+        this.next = next;
+        this.hasNext = next != null;
+    }
+    
+    // Getters and Setters
+    public List<T> getData() {
+        return data;
+    }
+    
+    public void setData(List<T> data) {
+        this.data = data;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public String getNext() {
+        return next;
+    }
+    
+    public void setNext(String next) {
+        this.next = next;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,45 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formatos aceitos pela exportação de pets (GET /api/pets/export).
+ */
+public enum ExportFormat {
+
+    /**
+     * Um objeto JSON por linha, com os mesmos campos das listagens.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Valores separados por vírgula, com linha de cabeçalho.
+     */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Busca o formato pelo nome informado na API, sem diferenciar maiúsculas.
+     * @param param nome do formato (ex: "ndjson")
+     * @return o formato, se existir
+     */
+    public static Optional<ExportFormat> fromParam(String param) {
+        return Arrays.stream(values()).filter(format -> format.name().equalsIgnoreCase(param.trim())).findFirst();
+    }
+}
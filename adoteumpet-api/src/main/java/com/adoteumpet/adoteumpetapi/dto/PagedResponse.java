@@ -1,20 +1,32 @@
 package com.adoteumpet.adoteumpetapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO para resposta paginada da API.
  * 
+ * Os campos {@code total} e {@code totalPages} são omitidos quando a busca é feita
+ * sem contagem ({@link CountMode#NONE}); {@code totalEstimated} só aparece quando o
+ * total é aproximado ({@link CountMode#ESTIMATED}). {@code facets} só aparece quando
+ * as contagens por espécie, status, cidade e raça são solicitadas.
+ * 
  * @param <T> Tipo dos dados da página
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PagedResponse<T> {
     private List<T> data;
     private int page;
     private int size;
-    private long total;
-    private int totalPages;
+    private Long total;
+    private Integer totalPages;
+    private boolean hasNext;
+    private Boolean totalEstimated;
+    private Map<String, Map<String, Long>> facets;
     
     public PagedResponse() {}
     
@@ -24,6 +36,7 @@ public class PagedResponse<T> {
         this.size = size;
         this.total = total;
         this.totalPages = totalPages;
+        this.hasNext = page + 1 < totalPages;
     }
     
     /**
@@ -39,6 +52,49 @@ public class PagedResponse<T> {
         );
     }
     
+    /**
+     * Converte um Slice do Spring Data (sem contagem) para PagedResponse
+     */
+    public static <T> PagedResponse<T> fromSlice(Slice<T> slice) {
+        PagedResponse<T> response = new PagedResponse<>();
+        response.setData(slice.getContent());
+        response.setPage(slice.getNumber());
+        response.setSize(slice.getSize());
+        response.setHasNext(slice.hasNext());
+        return response;
+    }
+    
+    /**
+     * Converte um Slice do Spring Data para PagedResponse com total aproximado.
+     * Na última página o total é conhecido com exatidão e substitui a estimativa.
+     */
+    public static <T> PagedResponse<T> fromSlice(Slice<T> slice, long estimatedTotal) {
+        PagedResponse<T> response = fromSlice(slice);
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : seen;
+        response.setTotal(total);
+        response.setTotalPages(slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize()));
+        response.setTotalEstimated(slice.hasNext());
+        return response;
+    }
+    
+    /**
+     * Retorna uma cópia desta página com as contagens por faceta.
+     * A página original não é alterada, pois pode estar compartilhada pelo cache de consultas.
+     */
+    public PagedResponse<T> withFacets(Map<String, Map<String, Long>> facets) {
+        PagedResponse<T> copy = new PagedResponse<>();
+        copy.data = data;
+        copy.page = page;
+        copy.size = size;
+        copy.total = total;
+        copy.totalPages = totalPages;
+        copy.hasNext = hasNext;
+        copy.totalEstimated = totalEstimated;
+        copy.facets = facets;
+        return copy;
+    }
+    
     // Getters and Setters
     public List<T> getData() {
         return data;
@@ -64,19 +120,43 @@ public class PagedResponse<T> {
         this.size = size;
     }
     
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
     
-    public void setTotal(long total) {
+    public void setTotal(Long total) {
         this.total = total;
     }
     
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
     
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
-}
\ No newline at end of file
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+    
+    public Boolean getTotalEstimated() {
+        return totalEstimated;
+    }
+    
+    public void setTotalEstimated(Boolean totalEstimated) {
+        this.totalEstimated = totalEstimated;
+    }
+    
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+    
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+}
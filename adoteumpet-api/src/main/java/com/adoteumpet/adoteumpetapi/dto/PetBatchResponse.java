@@ -0,0 +1,59 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado do cadastro em lote (POST /api/pets/batch).
+ *
+ * Cada item do pedido tem um item correspondente na resposta, na mesma posição:
+ * com o ID gerado quando o pet foi cadastrado ou com os erros de validação quando foi recusado.
+ *
+ * @param created quantidade de pets cadastrados
+ * @param failed quantidade de itens recusados
+ * @param items resultado de cada item, na ordem do pedido
+ */
+@Schema(description = "Resultado do cadastro em lote de pets")
+public record PetBatchResponse(int created, int failed, List<Item> items) {
+
+    /**
+     * Resultado de um item do lote.
+     *
+     * @param index posição do item no pedido
+     * @param id ID do pet cadastrado (ausente se o item foi recusado)
+     * @param errors erros de validação (ausente se o pet foi cadastrado)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(int index, UUID id, List<FieldError> errors) {
+
+        public static Item created(int index, UUID id) {
+            return new Item(index, id, null);
+        }
+
+        public static Item rejected(int index, List<FieldError> errors) {
+            return new Item(index, null, errors);
+        }
+    }
+
+    /**
+     * Erro de validação de um campo, no mesmo formato dos detalhes do GlobalExceptionHandler.
+     *
+     * @param field nome do campo
+     * @param message mensagem de erro
+     */
+    public record FieldError(String field, String message) {
+    }
+
+    /**
+     * Monta a resposta a partir dos resultados de cada item.
+     * @param items resultado de cada item, na ordem do pedido
+     * @return resposta com os totais calculados
+     */
+    public static PetBatchResponse of(List<Item> items) {
+        int created = (int) items.stream().filter(item -> item.id() != null).count();
+        return new PetBatchResponse(created, items.size() - created, items);
+    }
+}
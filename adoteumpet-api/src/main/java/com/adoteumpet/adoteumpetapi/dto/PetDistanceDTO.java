@@ -0,0 +1,31 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta da busca por proximidade.
+ * Serializa os campos do pet no mesmo nível da distância até a origem da busca.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pet encontrado pela busca por proximidade")
+public class PetDistanceDTO {
+
+    /**
+     * Pet encontrado.
+     */
+    @JsonUnwrapped
+    private Pet pet;
+
+    /**
+     * Distância em linha reta entre a origem da busca e o abrigo, em quilômetros.
+     */
+    @Schema(description = "Distância até a origem da busca em km", example = "3.42")
+    private double distanceKm;
+}
@@ -0,0 +1,101 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Conjunto de filtros aceitos pelas buscas de pets.
+ * Agrupa os parâmetros opcionais para que os diferentes modos de busca
+ * (paginação por offset, por cursor, etc.) apliquem exatamente os mesmos critérios.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetFilter {
+
+    /**
+     * Filtro por nome (busca parcial, case-insensitive).
+     */
+    private String name;
+
+    /**
+     * Filtro por espécie.
+     */
+    private Species species;
+
+    /**
+     * Filtro por raça (busca parcial, case-insensitive).
+     */
+    private String breed;
+
+    /**
+     * Filtro por cidade do abrigo (busca parcial, case-insensitive).
+     */
+    private String shelterCity;
+
+    /**
+     * Filtro por status.
+     */
+    private Status status;
+
+    /**
+     * Retorna uma cópia com os textos aparados e em minúsculas, e textos vazios como null.
+     * Filtros equivalentes passam a ser iguais, o que permite usá-los como chave de cache.
+     * @return filtro normalizado
+     */
+    public PetFilter normalized() {
+        return new PetFilter(normalize(name), species, normalize(breed), normalize(shelterCity), status);
+    }
+
+    /**
+     * Indica se nenhum filtro foi informado.
+     * @return true se a busca abrange todos os pets
+     */
+    public boolean isEmpty() {
+        return isBlank(name) && species == null && isBlank(breed) && isBlank(shelterCity) && status == null;
+    }
+
+    /**
+     * Indica se apenas filtros de igualdade (espécie e status) foram informados,
+     * para os quais as estimativas do planejador do banco são confiáveis.
+     * @return true se não há filtros de busca parcial por texto
+     */
+    public boolean hasOnlyExactFilters() {
+        return isBlank(name) && isBlank(breed) && isBlank(shelterCity);
+    }
+
+    /**
+     * Indica se o pet atende a todos os filtros, com a mesma semântica da consulta ao banco
+     * (igualdade para espécie e status, busca parcial sem diferenciar maiúsculas para textos).
+     * @param pet pet a verificar
+     * @return true se o pet faz parte do resultado da busca
+     */
+    public boolean matches(Pet pet) {
+        return (species == null || species == pet.getSpecies())
+                && (status == null || status == pet.getStatus())
+                && containsIgnoringCase(pet.getName(), name)
+                && containsIgnoringCase(pet.getBreed(), breed)
+                && containsIgnoringCase(pet.getShelterCity(), shelterCity);
+    }
+
+    private static boolean containsIgnoringCase(String value, String term) {
+        if (isBlank(term)) {
+            return true;
+        }
+        return value != null && value.toLowerCase(Locale.ROOT).contains(term.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String normalize(String value) {
+        return isBlank(value) ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
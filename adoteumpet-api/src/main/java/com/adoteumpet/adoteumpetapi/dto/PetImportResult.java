@@ -0,0 +1,20 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * Resultado da importação de pets por CSV (POST /api/pets/import).
+ *
+ * @param importId identificador da importação
+ * @param imported quantidade de linhas gravadas
+ * @param rejected quantidade de linhas recusadas
+ * @param errorReport caminho para baixar o relatório das linhas recusadas (ausente se não houve)
+ * @param elapsedMillis duração da importação em milissegundos
+ */
+@Schema(description = "Resultado da importação de pets por CSV")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PetImportResult(UUID importId, long imported, long rejected, String errorReport, long elapsedMillis) {
+}
@@ -0,0 +1,27 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Estatísticas agregadas de pets (GET /api/pets/stats).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estatísticas de pets agrupadas")
+public class PetStats {
+
+    @Schema(description = "Campos de agrupamento, na ordem solicitada", example = "[\"shelterCity\", \"species\"]")
+    private List<String> groupBy;
+
+    @Schema(description = "Quantidade total de pets que atendem aos filtros", example = "1250")
+    private long total;
+
+    @Schema(description = "Grupos, do maior para o menor")
+    private List<PetStatsGroup> groups;
+}
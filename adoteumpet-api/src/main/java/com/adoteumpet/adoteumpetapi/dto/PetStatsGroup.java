@@ -0,0 +1,36 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Métricas de um grupo das estatísticas de pets.
+ * Apenas as métricas solicitadas são preenchidas.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Métricas de um grupo de pets")
+public class PetStatsGroup {
+
+    @Schema(description = "Valor de cada campo de agrupamento (null para pets sem o campo)",
+            example = "{\"shelterCity\": \"São Paulo\", \"species\": \"DOG\"}")
+    private Map<String, String> key;
+
+    @Schema(description = "Quantidade de pets do grupo", example = "42")
+    private Long count;
+
+    @Schema(description = "Idade média em anos dos pets com idade informada", example = "4.5")
+    private Double avgAge;
+
+    @Schema(description = "Quantidade de pets por idade: a posição i conta os pets com i anos e a última " +
+                          "acumula os pets com essa idade ou mais",
+            example = "[3, 8, 5, 2, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0]")
+    private long[] ageHistogram;
+}
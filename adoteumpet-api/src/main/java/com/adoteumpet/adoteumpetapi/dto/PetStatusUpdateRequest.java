@@ -0,0 +1,30 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pedido de mudança de status de vários pets (PATCH /api/pets/status).
+ *
+ * Os pets são escolhidos pela lista de IDs ou pelo filtro, nunca pelos dois ao mesmo tempo.
+ *
+ * @param status novo status dos pets
+ * @param ids IDs dos pets a alterar
+ * @param filter filtro dos pets a alterar, com a mesma semântica de GET /api/pets
+ */
+@Schema(description = "Mudança de status de vários pets, por lista de IDs ou por filtro")
+public record PetStatusUpdateRequest(
+        @Schema(description = "Novo status dos pets", example = "ADOPTED", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "O status é obrigatório.")
+        Status status,
+
+        @Schema(description = "IDs dos pets a alterar")
+        List<UUID> ids,
+
+        @Schema(description = "Filtro dos pets a alterar (ao menos um critério)")
+        PetFilter filter) {
+}
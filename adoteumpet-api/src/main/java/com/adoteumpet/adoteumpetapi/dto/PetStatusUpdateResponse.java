@@ -0,0 +1,22 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da mudança de status de vários pets.
+ *
+ * @param status novo status dos pets
+ * @param updated quantidade de pets alterados
+ * @param updatedPets IDs e novas versões dos pets alterados, em ordem de ID
+ * @param unchangedIds IDs pedidos que não foram alterados, por já estarem no status ou não
+ * existirem (apenas em pedidos por lista de IDs)
+ */
+@Schema(description = "Resultado da mudança de status de vários pets")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PetStatusUpdateResponse(Status status, int updated, List<PetVersion> updatedPets, List<UUID> unchangedIds) {
+}
@@ -0,0 +1,47 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção imutável de um pet usada pelas listagens.
+ *
+ * É preenchida diretamente pelo banco com expressões construtoras (SELECT NEW ...), sem
+ * passar pelo contexto de persistência: o Hibernate não guarda cópias para dirty checking
+ * nem entradas por entidade. O JSON gerado tem os mesmos campos da entidade Pet.
+ */
+@Schema(description = "Pet retornado pelas listagens")
+public record PetSummary(
+        @Schema(description = "Identificador único do pet", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+        @Schema(description = "Nome do pet", example = "Rex")
+        String name,
+        @Schema(description = "Espécie do pet", example = "DOG", allowableValues = {"DOG", "CAT"})
+        Species species,
+        @Schema(description = "Raça do pet", example = "Golden Retriever")
+        String breed,
+        @Schema(description = "Idade do pet em anos", example = "3")
+        Integer ageYears,
+        @Schema(description = "Cidade onde o abrigo está localizado", example = "São Paulo")
+        String shelterCity,
+        @Schema(description = "Latitude da localização do abrigo", example = "-23.5505199")
+        BigDecimal shelterLat,
+        @Schema(description = "Longitude da localização do abrigo", example = "-46.6333094")
+        BigDecimal shelterLng,
+        @Schema(description = "Status atual do pet", example = "AVAILABLE", allowableValues = {"AVAILABLE", "ADOPTED"})
+        Status status,
+        @Schema(description = "Data e hora de criação do registro", example = "2024-01-15T10:30:00")
+        LocalDateTime createdAt) {
+
+    /**
+     * Expressão construtora JPQL que seleciona um {@code Pet p} como projeção.
+     */
+    public static final String JPQL_CONSTRUCTOR = "new com.adoteumpet.adoteumpetapi.dto.PetSummary("
+            + "p.id, p.name, p.species, p.breed, p.ageYears, p.shelterCity, "
+            + "p.shelterLat, p.shelterLng, p.status, p.createdAt)";
+}
@@ -0,0 +1,41 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Conteúdo de um tile de mapa (z/x/y).
+ * 
+ * Em zoom baixo traz apenas {@code clusters}; em zoom alto traz {@code points},
+ * desde que o tile não ultrapasse o limite de pets individuais.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Pets de um tile de mapa, agrupados ou individuais")
+public class PetTile {
+
+    @Schema(description = "Nível de zoom", example = "12")
+    private int z;
+
+    @Schema(description = "Coluna do tile", example = "1517")
+    private int x;
+
+    @Schema(description = "Linha do tile", example = "2323")
+    private int y;
+
+    @Schema(description = "Quantidade total de pets no tile", example = "128")
+    private long total;
+
+    @Schema(description = "Agrupamentos (zoom baixo ou tile muito denso)")
+    private List<TileCluster> clusters;
+
+    @Schema(description = "Pets individuais (zoom alto)")
+    private List<TilePoint> points;
+}
@@ -0,0 +1,16 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * Identificação de um pet alterado e da versão que ele passou a ter,
+ * para que o cliente possa fazer a próxima escrita condicional (If-Match).
+ *
+ * @param id ID do pet
+ * @param version versão do pet após a alteração
+ */
+@Schema(description = "ID e nova versão de um pet alterado")
+public record PetVersion(UUID id, long version) {
+}
@@ -0,0 +1,32 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Resumo das versões dos pets que atendem a um filtro, usado como ETag fraca das listagens.
+ *
+ * Qualquer escrita que altere o resultado do filtro muda o resumo: cadastros e remoções
+ * mudam a quantidade, atualizações incrementam a versão de um pet (e a soma), e o maior
+ * updated_at distingue uma remoção seguida de um cadastro. É calculado por uma única
+ * consulta de agregação, sem carregar os pets.
+ *
+ * @param count quantidade de pets do filtro
+ * @param versionSum soma das versões (null se não há pets)
+ * @param lastModified maior data de alteração (null se não há pets)
+ */
+public record PetVersionStamp(Long count, Long versionSum, LocalDateTime lastModified) {
+
+    /**
+     * Monta a ETag fraca (W/"...") correspondente ao resumo.
+     * @return valor do cabeçalho ETag
+     */
+    public String toWeakETag() {
+        long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        return String.format("W/\"%s-%s-%s\"",
+                Long.toString(count == null ? 0 : count, 36),
+                Long.toString(versionSum == null ? 0 : versionSum, 36),
+                Long.toString(micros, 36));
+    }
+}
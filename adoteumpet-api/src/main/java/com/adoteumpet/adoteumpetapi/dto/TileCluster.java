@@ -0,0 +1,38 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Agrupamento de pets de uma célula geohash em um tile de mapa de zoom baixo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Agrupamento de pets em um tile de mapa")
+public class TileCluster {
+
+    @Schema(description = "Célula geohash agrupada", example = "6gyf4")
+    private String geohash;
+
+    @Schema(description = "Quantidade de pets no agrupamento", example = "42")
+    private long count;
+
+    @Schema(description = "Latitude média dos abrigos do agrupamento", example = "-23.5505199")
+    private double lat;
+
+    @Schema(description = "Longitude média dos abrigos do agrupamento", example = "-46.6333094")
+    private double lng;
+
+    @Schema(description = "Quantidade de pets por espécie")
+    private Map<Species, Long> species;
+
+    @Schema(description = "Quantidade de pets por status")
+    private Map<Status, Long> status;
+}
@@ -0,0 +1,36 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Pet individual em um tile de mapa de zoom alto.
+ * Contém apenas o necessário para desenhar o marcador; os detalhes vêm de GET /api/pets/{id}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pet individual em um tile de mapa")
+public class TilePoint {
+
+    @Schema(description = "Identificador do pet", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Latitude do abrigo", example = "-23.5505199")
+    private Double lat;
+
+    @Schema(description = "Longitude do abrigo", example = "-46.6333094")
+    private Double lng;
+
+    @Schema(description = "Espécie do pet", example = "DOG")
+    private Species species;
+
+    @Schema(description = "Status do pet", example = "AVAILABLE")
+    private Status status;
+}
@@ -0,0 +1,76 @@
+package com.adoteumpet.adoteumpetapi.event;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo PetService após cada escrita em pets.
+ * 
+ * Estruturas mantidas em memória a partir do banco (índice de busca, caches, etc.)
+ * escutam este evento para se manterem sincronizadas sem que o serviço precise
+ * conhecer cada uma delas. Os pets carregados no evento são cópias desanexadas
+ * do contexto de persistência.
+ * 
+ * @param changes alterações realizadas pela operação
+ */
+public record PetChangedEvent(List<Change> changes) {
+
+    /**
+     * Alteração de um pet.
+     * 
+     * @param id identificador do pet alterado
+     * @param before estado anterior (null em cadastros ou quando desconhecido)
+     * @param after estado atual (null em remoções)
+     */
+    public record Change(UUID id, Pet before, Pet after) {
+
+        /**
+         * Indica se o pet foi removido.
+         * @return true se o pet não existe mais
+         */
+        public boolean isDeletion() {
+            return after == null;
+        }
+    }
+
+    /**
+     * Cria o evento de cadastro de um pet.
+     * @param after o pet cadastrado
+     * @return evento com uma única alteração
+     */
+    public static PetChangedEvent created(Pet after) {
+        return new PetChangedEvent(List.of(new Change(after.getId(), null, after)));
+    }
+
+    /**
+     * Cria o evento de cadastro de vários pets de uma só vez.
+     * @param created os pets cadastrados
+     * @return evento com uma alteração por pet
+     */
+    public static PetChangedEvent created(List<Pet> created) {
+        return new PetChangedEvent(created.stream()
+                .map(pet -> new Change(pet.getId(), null, pet))
+                .toList());
+    }
+
+    /**
+     * Cria o evento de atualização de um pet.
+     * @param before estado anterior
+     * @param after estado atual
+     * @return evento com uma única alteração
+     */
+    public static PetChangedEvent updated(Pet before, Pet after) {
+        return new PetChangedEvent(List.of(new Change(after.getId(), before, after)));
+    }
+
+    /**
+     * Cria o evento de remoção de um pet.
+     * @param before estado anterior à remoção
+     * @return evento com uma única alteração
+     */
+    public static PetChangedEvent deleted(Pet before) {
+        return new PetChangedEvent(List.of(new Change(before.getId(), before, null)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.adoteumpet.adoteumpetapi.event;
+
+/**
+ * Evento publicado após uma carga em massa de pets (POST /api/pets/import).
+ *
+ * A carga grava direto pelo JDBC e pode trazer milhões de linhas, então não há um
+ * {@link PetChangedEvent} por pet: as estruturas mantidas em memória a partir do banco
+ * se reconstroem ou se descartam por inteiro ao receber este evento.
+ *
+ * @param imported quantidade de pets gravados
+ */
+public record PetsImportedEvent(long imported) {
+}
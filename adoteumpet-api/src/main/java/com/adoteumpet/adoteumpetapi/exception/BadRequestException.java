@@ -0,0 +1,26 @@
+package com.adoteumpet.adoteumpetapi.exception;
+
+/**
+ * Exceção customizada para requisições com parâmetros inválidos.
+ * Utilizada quando o cliente envia valores que a API não consegue interpretar,
+ * como cursores de paginação corrompidos ou tamanhos de página fora do limite.
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem personalizada.
+     * @param message a mensagem de erro descritiva
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor com mensagem e causa.
+     * @param message a mensagem de erro descritiva
+     * @param cause a causa da exceção
+     */
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,248 @@
+package com.adoteumpet.adoteumpetapi.generator;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.model.UuidV7Generator;
+import com.adoteumpet.adoteumpetapi.repository.PetBulkLoader;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera um catálogo sintético de pets para testes de carga e de escala.
+ *
+ * A geração é determinística: a mesma semente produz os mesmos pets, na mesma ordem, com os
+ * mesmos ids (UUIDs versão 7 da data de cadastro sorteada), em qualquer máquina. Os dados
+ * seguem as distribuições de um catálogo real:
+ * <ul>
+ *   <li>cidades (data/generator/cities.csv, em ordem de população) sorteadas por uma
+ *       distribuição de Zipf: poucas cidades concentram a maior parte dos pets;</li>
+ *   <li>cada cidade tem {@link #SHELTERS_PER_CITY} abrigos espalhados em torno das coordenadas
+ *       reais, e os pets de um abrigo compartilham as coordenadas dele;</li>
+ *   <li>raças sorteadas pelo peso de data/generator/breeds.csv, com os nomes de TheDogAPI e
+ *       TheCatAPI (consultadas por {@link com.adoteumpet.adoteumpetapi.service.BreedService});
+ *       linhas sem raça representam os pets sem raça definida;</li>
+ *   <li>idades concentradas nos primeiros anos e fração configurável de pets adotados.</li>
+ * </ul>
+ *
+ * Os pets são entregues um a um ao {@link PetBulkLoader} (COPY no PostgreSQL), reaproveitando
+ * o mesmo objeto; a memória usada não depende da quantidade gerada.
+ */
+public final class PetCatalogGenerator implements PetBulkLoader.RowSource {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final double DEFAULT_ADOPTED_RATIO = 0.35;
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+
+    static final int SHELTERS_PER_CITY = 5;
+
+    /**
+     * Desvio padrão, em graus (~3 km), da posição dos abrigos em torno do centro da cidade.
+     */
+    private static final double SHELTER_SPREAD_DEGREES = 0.03;
+    private static final int COORDINATE_SCALE = 6;
+    private static final double MEAN_AGE_YEARS = 3.5;
+    private static final int MAX_AGE_YEARS = 20;
+    private static final double UNKNOWN_AGE_RATIO = 0.05;
+
+    /**
+     * Data de referência fixa das datas de cadastro, para que não dependam do dia da geração.
+     */
+    private static final LocalDateTime CREATED_UNTIL = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final long CREATED_WINDOW_SECONDS = 2L * 365 * 24 * 60 * 60;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final long seed;
+    private final long pets;
+    private final double adoptedRatio;
+    private final double zipfExponent;
+
+    private final List<City> cities;
+    private final double[] cityWeights;
+    private final List<Breed> breeds;
+    private final double[] breedWeights;
+    private final String[] names;
+
+    record City(String name, double lat, double lng) {
+    }
+
+    record Breed(Species species, String name) {
+    }
+
+    /**
+     * @param seed semente do gerador pseudoaleatório
+     * @param pets quantidade de pets a gerar
+     * @param adoptedRatio fração dos pets com status ADOPTED, entre 0 e 1
+     * @param zipfExponent expoente da distribuição de Zipf das cidades (1.0 = Zipf clássica, 0 = uniforme)
+     */
+    public PetCatalogGenerator(long seed, long pets, double adoptedRatio, double zipfExponent) {
+        if (pets < 0) {
+            throw new IllegalArgumentException("A quantidade de pets não pode ser negativa: " + pets);
+        }
+        if (adoptedRatio < 0 || adoptedRatio > 1) {
+            throw new IllegalArgumentException("A fração de adotados deve estar entre 0 e 1: " + adoptedRatio);
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("O expoente de Zipf não pode ser negativo: " + zipfExponent);
+        }
+        this.seed = seed;
+        this.pets = pets;
+        this.adoptedRatio = adoptedRatio;
+        this.zipfExponent = zipfExponent;
+
+        this.cities = readCsv("data/generator/cities.csv").stream()
+                .map(row -> new City(row[0], Double.parseDouble(row[1]), Double.parseDouble(row[2])))
+                .toList();
+        this.cityWeights = new double[cities.size()];
+        for (int rank = 0; rank < cities.size(); rank++) {
+            cityWeights[rank] = 1.0 / Math.pow(rank + 1, zipfExponent);
+        }
+        cumulate(cityWeights);
+
+        List<String[]> breedRows = readCsv("data/generator/breeds.csv");
+        this.breeds = new ArrayList<>(breedRows.size());
+        this.breedWeights = new double[breedRows.size()];
+        for (int i = 0; i < breedRows.size(); i++) {
+            String[] row = breedRows.get(i);
+            breeds.add(new Breed(Species.valueOf(row[0]), row[1].isBlank() ? null : row[1]));
+            breedWeights[i] = Double.parseDouble(row[2]);
+        }
+        cumulate(breedWeights);
+
+        this.names = readLines("data/generator/names.txt");
+    }
+
+    /**
+     * Gerador com a fração de adotados e o expoente de Zipf padrão.
+     */
+    public PetCatalogGenerator(long seed, long pets) {
+        this(seed, pets, DEFAULT_ADOPTED_RATIO, DEFAULT_ZIPF_EXPONENT);
+    }
+
+    /**
+     * Descrição dos parâmetros, registrada em seed_state para identificar a massa gerada.
+     */
+    public String describe() {
+        return "generator:seed=" + seed + ",pets=" + pets + ",adopted-ratio=" + adoptedRatio
+                + ",zipf-exponent=" + zipfExponent;
+    }
+
+    public long getPets() {
+        return pets;
+    }
+
+    /**
+     * Gera todos os pets, entregando cada um ao writer. Cada chamada recomeça da semente.
+     */
+    @Override
+    public void writeTo(PetBulkLoader.RowWriter writer) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        BigDecimal[][] shelters = placeShelters(random);
+
+        Pet pet = new Pet();
+        for (long i = 0; i < pets; i++) {
+            int city = pick(cityWeights, random);
+            BigDecimal[] shelter = shelters[city * SHELTERS_PER_CITY + random.nextInt(SHELTERS_PER_CITY)];
+            Breed breed = breeds.get(pick(breedWeights, random));
+            LocalDateTime createdAt = CREATED_UNTIL.minusSeconds(random.nextLong(CREATED_WINDOW_SECONDS));
+
+            pet.setId(UuidV7Generator.of(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli(),
+                    random.nextLong(), random.nextLong()));
+            pet.setName(names[random.nextInt(names.length)]);
+            pet.setSpecies(breed.species());
+            pet.setBreed(breed.name());
+            pet.setAgeYears(random.nextDouble() < UNKNOWN_AGE_RATIO ? null : age(random));
+            pet.setShelterCity(cities.get(city).name());
+            pet.setShelterLat(shelter[0]);
+            pet.setShelterLng(shelter[1]);
+            pet.setStatus(random.nextDouble() < adoptedRatio ? Status.ADOPTED : Status.AVAILABLE);
+            pet.setCreatedAt(createdAt);
+            writer.write(pet);
+        }
+    }
+
+    /**
+     * Sorteia as coordenadas dos abrigos de cada cidade, em torno do centro, com distribuição normal.
+     */
+    private BigDecimal[][] placeShelters(SplittableRandom random) {
+        BigDecimal[][] shelters = new BigDecimal[cities.size() * SHELTERS_PER_CITY][];
+        for (int c = 0; c < cities.size(); c++) {
+            City city = cities.get(c);
+            for (int s = 0; s < SHELTERS_PER_CITY; s++) {
+                shelters[c * SHELTERS_PER_CITY + s] = new BigDecimal[] {
+                    coordinate(city.lat() + random.nextGaussian() * SHELTER_SPREAD_DEGREES),
+                    coordinate(city.lng() + random.nextGaussian() * SHELTER_SPREAD_DEGREES)
+                };
+            }
+        }
+        return shelters;
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Idade com distribuição exponencial: a maioria dos pets para adoção é jovem.
+     */
+    private static int age(SplittableRandom random) {
+        return (int) Math.min(MAX_AGE_YEARS, -Math.log(1 - random.nextDouble()) * MEAN_AGE_YEARS);
+    }
+
+    /**
+     * Sorteia um índice a partir dos pesos acumulados.
+     */
+    private static int pick(double[] cumulativeWeights, SplittableRandom random) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static void cumulate(double[] weights) {
+        for (int i = 1; i < weights.length; i++) {
+            weights[i] += weights[i - 1];
+        }
+    }
+
+    private static List<String[]> readCsv(String path) {
+        CsvSchema schema = CsvSchema.emptySchema().withSkipFirstDataRow(true);
+        try (InputStream input = new ClassPathResource(path).getInputStream();
+             MappingIterator<String[]> rows = CSV_MAPPER.readerForArrayOf(String.class)
+                     .with(CsvParser.Feature.WRAP_AS_ARRAY)
+                     .with(schema)
+                     .readValues(input)) {
+            return rows.readAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler " + path, e);
+        }
+    }
+
+    private static String[] readLines(String path) {
+        try (InputStream input = new ClassPathResource(path).getInputStream()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .toArray(String[]::new);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler " + path, e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.adoteumpet.adoteumpetapi.geo;
+
+/**
+ * Área de busca circular ao redor de uma coordenada.
+ *
+ * Além do círculo em si, expõe a caixa envolvente e a chave de distância
+ * equirretangular usadas pelas consultas de proximidade. A chave cresce com a
+ * distância real e só usa aritmética simples (o cosseno da latitude de origem é
+ * calculado uma única vez), de modo que o banco pode ordenar e filtrar por ela sem
+ * calcular funções trigonométricas por linha.
+ *
+ * A aproximação equirretangular é adequada para os raios aceitos pela API (até
+ * algumas centenas de km); buscas que cruzam o antimeridiano (±180°) não são tratadas.
+ *
+ * @param lat latitude do centro em graus
+ * @param lng longitude do centro em graus
+ * @param radiusKm raio em quilômetros
+ */
+public record GeoCircle(double lat, double lng, double radiusKm) {
+
+    /**
+     * Fator de correção da longitude na latitude de origem (cos(lat)).
+     * @return cosseno da latitude do centro
+     */
+    public double lngScale() {
+        return Math.cos(Math.toRadians(lat));
+    }
+
+    /**
+     * Raio convertido em graus de latitude.
+     * @return raio em graus
+     */
+    public double radiusDegrees() {
+        return radiusKm / GeoDistance.KM_PER_DEGREE;
+    }
+
+    /**
+     * Maior valor de {@link #distanceKey(double, double)} dentro do círculo.
+     * @return raio em graus ao quadrado
+     */
+    public double maxDistanceKey() {
+        double radius = radiusDegrees();
+        return radius * radius;
+    }
+
+    public double minLat() {
+        return Math.max(-90.0, lat - radiusDegrees());
+    }
+
+    public double maxLat() {
+        return Math.min(90.0, lat + radiusDegrees());
+    }
+
+    public double minLng() {
+        return Math.max(-180.0, lng - lngRadiusDegrees());
+    }
+
+    public double maxLng() {
+        return Math.min(180.0, lng + lngRadiusDegrees());
+    }
+
+    /**
+     * Chave de distância equirretangular (graus ao quadrado) até o ponto informado.
+     * A ordem das operações é a mesma da expressão gerada para o banco.
+     *
+     * @param pointLat latitude do ponto
+     * @param pointLng longitude do ponto
+     * @return chave monotônica em relação à distância
+     */
+    public double distanceKey(double pointLat, double pointLng) {
+        double dLat = pointLat - lat;
+        double dLng = (pointLng - lng) * lngScale();
+        return dLat * dLat + dLng * dLng;
+    }
+
+    private double lngRadiusDegrees() {
+        // Usa a latitude mais próxima do polo dentro do círculo, onde os meridianos estão mais próximos
+        double scale = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(lat) + radiusDegrees())));
+        return scale <= 0 ? 180.0 : radiusDegrees() / scale;
+    }
+}
@@ -0,0 +1,35 @@
+package com.adoteumpet.adoteumpetapi.geo;
+
+/**
+ * Cálculos de distância sobre a superfície terrestre.
+ */
+public final class GeoDistance {
+
+    /**
+     * Raio médio da Terra em quilômetros.
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    /**
+     * Comprimento de um grau de latitude (ou de longitude no equador) em quilômetros.
+     */
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Distância pela fórmula de haversine entre dois pontos.
+     * Usada apenas para exibir a distância dos pets já selecionados pela consulta.
+     *
+     * @return distância em quilômetros
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
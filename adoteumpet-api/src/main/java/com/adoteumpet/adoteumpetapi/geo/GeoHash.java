@@ -0,0 +1,204 @@
+package com.adoteumpet.adoteumpetapi.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Codificação geohash de coordenadas.
+ *
+ * O geohash intercala os bits de longitude e latitude e os representa em base 32,
+ * de modo que pontos próximos compartilham o mesmo prefixo. Guardado em uma coluna
+ * indexada, permite buscar uma região como poucas faixas contíguas do índice B-tree
+ * ({@code geohash BETWEEN 'prefixo000…' AND 'prefixozzz…'}).
+ */
+public final class GeoHash {
+
+    /**
+     * Precisão usada na coluna {@code pets.geohash} (células de poucos centímetros).
+     */
+    public static final int MAX_PRECISION = 12;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoHash() {
+    }
+
+    /**
+     * Codifica uma coordenada com a precisão informada.
+     *
+     * @param lat latitude em graus (-90 a 90)
+     * @param lng longitude em graus (-180 a 180)
+     * @param precision quantidade de caracteres (1 a {@link #MAX_PRECISION})
+     * @return geohash da célula que contém o ponto
+     */
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Altura de uma célula, em graus de latitude, para a precisão informada.
+     */
+    public static double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /**
+     * Largura de uma célula, em graus de longitude, para a precisão informada.
+     */
+    public static double cellWidth(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * Células que cobrem todo o círculo: a célula do centro e suas vizinhas, na maior
+     * precisão em que cada célula é pelo menos tão alta e larga quanto o raio.
+     *
+     * @param circle área de busca
+     * @return prefixos geohash (no máximo 9) que cobrem o círculo
+     */
+    public static Set<String> cellsCovering(GeoCircle circle) {
+        int precision = precisionFor(circle);
+        if (precision == 0) {
+            // Perto dos polos nenhuma célula é larga o bastante: o prefixo vazio cobre o mundo todo
+            return Set.of("");
+        }
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+
+        // Centro da célula que contém o ponto, para que os deslocamentos caiam no meio das vizinhas
+        double lat0 = Math.min(circle.lat(), 90.0 - height / 2);
+        double centerLat = (Math.floor((lat0 + 90.0) / height) + 0.5) * height - 90.0;
+        double centerLng = (Math.floor((circle.lng() + 180.0) / width) + 0.5) * width - 180.0;
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = centerLat + dLat * height;
+            if (lat < -90.0 || lat > 90.0) {
+                continue;
+            }
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                cells.add(encode(lat, normalizeLng(centerLng + dLng * width), precision));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Células que cobrem o retângulo informado: no máximo 2x2 células da maior precisão
+     * em que uma célula é pelo menos tão alta e larga quanto o retângulo.
+     *
+     * @return prefixos geohash (no máximo 4) que cobrem o retângulo
+     */
+    public static Set<String> cellsCovering(double minLat, double maxLat, double minLng, double maxLng) {
+        int precision = 0;
+        for (int candidate = MAX_PRECISION; candidate >= 1; candidate--) {
+            if (cellHeight(candidate) >= maxLat - minLat && cellWidth(candidate) >= maxLng - minLng) {
+                precision = candidate;
+                break;
+            }
+        }
+        if (precision == 0) {
+            return Set.of("");
+        }
+
+        Set<String> cells = new LinkedHashSet<>();
+        cells.add(encode(minLat, minLng, precision));
+        cells.add(encode(minLat, maxLng, precision));
+        cells.add(encode(maxLat, minLng, precision));
+        cells.add(encode(maxLat, maxLng, precision));
+        return cells;
+    }
+
+    /**
+     * Maior precisão cujas células têm pelo menos a largura informada.
+     *
+     * @param minWidth largura mínima da célula em graus de longitude
+     * @return precisão entre 1 e {@link #MAX_PRECISION}
+     */
+    public static int precisionForWidth(double minWidth) {
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            if (cellWidth(precision) >= minWidth) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Menor geohash de precisão máxima que começa com o prefixo.
+     */
+    public static String lowerBound(String prefix) {
+        return pad(prefix, BASE32.charAt(0));
+    }
+
+    /**
+     * Maior geohash de precisão máxima que começa com o prefixo.
+     */
+    public static String upperBound(String prefix) {
+        return pad(prefix, BASE32.charAt(BASE32.length() - 1));
+    }
+
+    private static int precisionFor(GeoCircle circle) {
+        double heightNeeded = circle.radiusDegrees();
+        double scale = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(circle.lat()) + heightNeeded)));
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            double widthKm = cellWidth(precision) * GeoDistance.KM_PER_DEGREE * scale;
+            if (cellHeight(precision) >= heightNeeded && widthKm >= circle.radiusKm()) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    private static double normalizeLng(double lng) {
+        if (lng < -180.0) {
+            return lng + 360.0;
+        }
+        if (lng >= 180.0) {
+            return lng - 360.0;
+        }
+        return lng;
+    }
+
+    private static String pad(String prefix, char fill) {
+        StringBuilder padded = new StringBuilder(MAX_PRECISION).append(prefix);
+        while (padded.length() < MAX_PRECISION) {
+            padded.append(fill);
+        }
+        return padded.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.adoteumpet.adoteumpetapi.geo;
+
+/**
+ * Tile de mapa no esquema XYZ (Web Mercator), o mesmo usado pelo Leaflet e pelo OpenStreetMap.
+ *
+ * @param z nível de zoom
+ * @param x coluna do tile (0 a 2^z - 1, de oeste para leste)
+ * @param y linha do tile (0 a 2^z - 1, de norte para sul)
+ */
+public record MapTile(int z, int x, int y) {
+
+    /**
+     * Maior nível de zoom aceito.
+     */
+    public static final int MAX_ZOOM = 20;
+
+    /**
+     * Latitude máxima representável na projeção Web Mercator.
+     */
+    public static final double MAX_LAT = 85.0511287798066;
+
+    /**
+     * Verifica se zoom e coordenadas do tile estão dentro dos limites.
+     * @return true se o tile existe
+     */
+    public boolean isValid() {
+        long tiles = 1L << Math.max(0, Math.min(z, MAX_ZOOM));
+        return z >= 0 && z <= MAX_ZOOM && x >= 0 && x < tiles && y >= 0 && y < tiles;
+    }
+
+    /**
+     * Tile que contém o ponto no zoom informado.
+     *
+     * @param lat latitude em graus
+     * @param lng longitude em graus
+     * @param z nível de zoom
+     * @return tile que contém o ponto
+     */
+    public static MapTile containing(double lat, double lng, int z) {
+        int tiles = 1 << z;
+        double clampedLat = Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+        double latRad = Math.toRadians(clampedLat);
+        int x = (int) Math.floor((lng + 180.0) / 360.0 * tiles);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * tiles);
+        return new MapTile(z, Math.max(0, Math.min(tiles - 1, x)), Math.max(0, Math.min(tiles - 1, y)));
+    }
+
+    public double minLng() {
+        return lngOf(x);
+    }
+
+    public double maxLng() {
+        return lngOf(x + 1);
+    }
+
+    public double minLat() {
+        return latOf(y + 1);
+    }
+
+    public double maxLat() {
+        return latOf(y);
+    }
+
+    /**
+     * Largura do tile em graus de longitude.
+     * @return largura em graus
+     */
+    public double width() {
+        return 360.0 / (1 << z);
+    }
+
+    private double lngOf(int column) {
+        return column * 360.0 / (1 << z) - 180.0;
+    }
+
+    private double latOf(int row) {
+        double n = Math.PI - 2 * Math.PI * row / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
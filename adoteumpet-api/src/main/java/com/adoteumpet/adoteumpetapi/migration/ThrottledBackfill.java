@@ -0,0 +1,193 @@
+package com.adoteumpet.adoteumpetapi.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Preenche uma coluna nas linhas existentes em lotes pequenos, cada um em sua própria transação.
+ *
+ * Um UPDATE único sobre a tabela inteira trava todas as linhas alteradas até o fim e gera um pico
+ * de escrita (WAL, réplicas, autovacuum). Aqui as linhas pendentes são lidas pela chave primária,
+ * a partir do último ID do lote anterior, atualizadas e confirmadas; entre um lote e outro há
+ * uma pausa, para que as requisições da aplicação não disputem o banco com a migração. Como
+ * cada lote é confirmado, uma migração interrompida recomeça das linhas que ainda estão pendentes.
+ *
+ * O progresso (linhas, percentual e taxa) é registrado no log a cada {@link #PROGRESS_INTERVAL}.
+ * Deve ser usado por migrações Java que retornam false em {@code canExecuteInTransaction()}.
+ */
+public final class ThrottledBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThrottledBackfill.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final Duration DEFAULT_PAUSE = Duration.ofMillis(100);
+
+    /**
+     * Placeholders do Flyway (spring.flyway.placeholders.*) com o tamanho do lote e a pausa.
+     */
+    public static final String BATCH_SIZE_PLACEHOLDER = "backfill-batch-size";
+    public static final String PAUSE_MS_PLACEHOLDER = "backfill-pause-ms";
+
+    static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * Menor UUID na ordem do banco (bytes sem sinal), ponto de partida da leitura por ID.
+     */
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    /**
+     * Preenche o UPDATE de uma linha a partir da linha lida.
+     */
+    @FunctionalInterface
+    public interface RowUpdater {
+
+        /**
+         * @param row linha pendente, com as colunas do SELECT
+         * @param update UPDATE da linha; o ID é vinculado ao último parâmetro pelo backfill
+         */
+        void bind(ResultSet row, PreparedStatement update) throws SQLException;
+    }
+
+    private final String name;
+    private final String table;
+    private final String pendingCondition;
+    private final String selectColumns;
+    private final String updateSql;
+    private final RowUpdater updater;
+    private final int batchSize;
+    private final Duration pause;
+
+    /**
+     * @param name nome do backfill, usado no log
+     * @param table tabela com chave primária UUID {@code id}
+     * @param pendingCondition condição das linhas que ainda precisam ser preenchidas
+     *                         (ex.: {@code geohash IS NULL}); deixa de valer após a atualização
+     * @param selectColumns colunas lidas de cada linha pendente, além do ID
+     * @param updateSql UPDATE de uma linha, terminando em {@code WHERE id = ?}
+     * @param updater preenche os demais parâmetros do UPDATE
+     * @param batchSize linhas por lote (e por transação)
+     * @param pause espera entre dois lotes
+     */
+    public ThrottledBackfill(String name, String table, String pendingCondition, String selectColumns,
+                             String updateSql, RowUpdater updater, int batchSize, Duration pause) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo: " + batchSize);
+        }
+        if (pause.isNegative()) {
+            throw new IllegalArgumentException("A pausa entre lotes não pode ser negativa: " + pause);
+        }
+        this.name = name;
+        this.table = table;
+        this.pendingCondition = pendingCondition;
+        this.selectColumns = selectColumns;
+        this.updateSql = updateSql;
+        this.updater = updater;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    /**
+     * Lê o tamanho do lote e a pausa dos placeholders do Flyway, com os valores padrão quando ausentes.
+     */
+    public ThrottledBackfill(String name, String table, String pendingCondition, String selectColumns,
+                             String updateSql, RowUpdater updater, Map<String, String> placeholders) {
+        this(name, table, pendingCondition, selectColumns, updateSql, updater,
+                Integer.parseInt(placeholders.getOrDefault(BATCH_SIZE_PLACEHOLDER, String.valueOf(DEFAULT_BATCH_SIZE))),
+                Duration.ofMillis(Long.parseLong(placeholders.getOrDefault(PAUSE_MS_PLACEHOLDER,
+                        String.valueOf(DEFAULT_PAUSE.toMillis())))));
+    }
+
+    /**
+     * Executa o backfill até não restarem linhas pendentes.
+     * @param connection conexão em modo autocommit (fora da transação do Flyway)
+     * @return quantidade de linhas atualizadas
+     * @throws IllegalStateException se a conexão estiver dentro de uma transação
+     */
+    public long run(Connection connection) throws SQLException, InterruptedException {
+        if (!connection.getAutoCommit()) {
+            throw new IllegalStateException("O backfill " + name
+                    + " confirma cada lote e deve rodar fora de transação (canExecuteInTransaction = false)");
+        }
+
+        long pending = countPending(connection);
+        logger.info("🔄 Backfill {}: {} linhas pendentes em {} (lotes de {}, pausa de {} ms)",
+                name, pending, table, batchSize, pause.toMillis());
+        if (pending == 0) {
+            return 0;
+        }
+
+        String selectSql = "SELECT id, " + selectColumns + " FROM " + table
+                + " WHERE (" + pendingCondition + ") AND id > ? ORDER BY id LIMIT " + batchSize;
+        long start = System.nanoTime();
+        long lastReport = start;
+        long updated = 0;
+        UUID after = FIRST_ID;
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement select = connection.prepareStatement(selectSql);
+             PreparedStatement update = connection.prepareStatement(updateSql)) {
+            int idParameter = (int) updateSql.chars().filter(c -> c == '?').count();
+            int rows;
+            do {
+                rows = 0;
+                select.setObject(1, after);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        after = resultSet.getObject("id", UUID.class);
+                        updater.bind(resultSet, update);
+                        update.setObject(idParameter, after);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    update.executeBatch();
+                }
+                connection.commit();
+                updated += rows;
+
+                long now = System.nanoTime();
+                if (now - lastReport >= PROGRESS_INTERVAL.toNanos()) {
+                    logProgress(updated, pending, now - start);
+                    lastReport = now;
+                }
+                if (rows == batchSize && !pause.isZero()) {
+                    Thread.sleep(pause.toMillis());
+                }
+            } while (rows == batchSize);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        logProgress(updated, pending, System.nanoTime() - start);
+        logger.info("✅ Backfill {} concluído: {} linhas atualizadas", name, updated);
+        return updated;
+    }
+
+    private long countPending(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT COUNT(*) FROM " + table + " WHERE " + pendingCondition)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void logProgress(long updated, long pending, long elapsedNanos) {
+        long millis = Math.max(1, elapsedNanos / 1_000_000);
+        logger.info("📊 Backfill {}: {}/{} linhas ({}%), {} linhas/s",
+                name, updated, pending, updated * 100 / Math.max(1, pending), updated * 1000 / millis);
+    }
+}
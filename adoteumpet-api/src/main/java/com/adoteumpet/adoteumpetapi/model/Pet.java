@@ -1,12 +1,16 @@
 package com.adoteumpet.adoteumpetapi.model;
 
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
@@ -20,6 +24,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "pets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Pet.CACHE_REGION)
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -27,13 +33,18 @@ import java.util.UUID;
 @Schema(description = "Entidade que representa um pet no sistema")
 public class Pet {
 
+    /**
+     * Região do cache de segundo nível do Hibernate, configurada em application.conf (Caffeine JCache).
+     */
+    public static final String CACHE_REGION = "pets";
+
     /**
      * Identificador único do pet usando UUID para garantir unicidade global.
+     * Novos pets recebem UUIDs versão 7, ordenados pelo momento do cadastro.
      */
     @Schema(description = "Identificador único do pet", example = "123e4567-e89b-12d3-a456-426614174000", accessMode = Schema.AccessMode.READ_ONLY)
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -87,6 +98,15 @@ public class Pet {
     @Column(name = "shelter_lng", precision = 11, scale = 8)
     private BigDecimal shelterLng;
 
+    /**
+     * Geohash da localização do abrigo, derivado de latitude e longitude.
+     * Indexado para as buscas por proximidade; não faz parte da API.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    @Column(name = "geohash", length = GeoHash.MAX_PRECISION)
+    private String geohash;
+
     /**
      * Status atual do pet (disponível, adotado, etc.).
      */
@@ -103,4 +123,35 @@ public class Pet {
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Data e hora da última alteração do registro.
+     * Automaticamente preenchido pelo Spring Data JPA a cada gravação.
+     */
+    @Schema(description = "Data e hora da última alteração do registro", example = "2024-01-20T14:05:00", accessMode = Schema.AccessMode.READ_ONLY)
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Versão do registro, incrementada pelo Hibernate a cada alteração.
+     * Usada como ETag em GET /api/pets/{id}.
+     */
+    @Schema(description = "Versão do registro, incrementada a cada alteração", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Recalcula o geohash sempre que o pet é gravado, mantendo-o coerente com as coordenadas.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateGeohash() {
+        if (shelterLat == null || shelterLng == null) {
+            geohash = null;
+        } else {
+            geohash = GeoHash.encode(shelterLat.doubleValue(), shelterLng.doubleValue(), GeoHash.MAX_PRECISION);
+        }
+    }
 }
\ No newline at end of file
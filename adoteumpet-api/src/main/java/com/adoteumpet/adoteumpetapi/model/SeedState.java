@@ -0,0 +1,98 @@
+package com.adoteumpet.adoteumpetapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma carga inicial de dados executada pelo {@link com.adoteumpet.adoteumpetapi.config.DataSeeder}.
+ * A existência do registro indica que o seeding não deve ser executado de novo.
+ *
+ * Como o ID é atribuído pela aplicação, o registro implementa {@link Persistable}: um registro
+ * novo é sempre gravado com INSERT (persist), nunca com merge. Assim, se duas instâncias
+ * tentarem registrar o mesmo seeding, a segunda falha pela chave primária em vez de
+ * sobrescrever o registro da primeira.
+ */
+@Entity
+@Table(name = "seed_state")
+@Data
+@NoArgsConstructor
+public class SeedState implements Persistable<String> {
+
+    /**
+     * Nome do seeding (ex.: "pets").
+     */
+    @Id
+    @Column(name = "seed_name", length = 100)
+    private String seedName;
+
+    /**
+     * Arquivo de onde os dados foram carregados.
+     */
+    @Column(name = "source", nullable = false)
+    private String source;
+
+    /**
+     * Quantidade de linhas gravadas.
+     */
+    @Column(name = "rows_loaded", nullable = false)
+    private long rowsLoaded;
+
+    /**
+     * Quantidade de linhas recusadas pela validação.
+     */
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    /**
+     * Data de execução do seeding.
+     */
+    @Column(name = "seeded_at", nullable = false)
+    private LocalDateTime seededAt;
+
+    /**
+     * Indica se o registro já existe no banco (lido ou gravado).
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private boolean stored;
+
+    public SeedState(String seedName, String source, long rowsLoaded, long rowsRejected, LocalDateTime seededAt) {
+        this.seedName = seedName;
+        this.source = source;
+        this.rowsLoaded = rowsLoaded;
+        this.rowsRejected = rowsRejected;
+        this.seededAt = seededAt;
+    }
+
+    @Override
+    public String getId() {
+        return seedName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+}
@@ -0,0 +1,23 @@
+package com.adoteumpet.adoteumpetapi.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gera o identificador da entidade como um UUID versão 7 (RFC 9562), ordenado pelo tempo.
+ *
+ * Ids aleatórios (versão 4) espalham as inserções por toda a árvore B da chave primária;
+ * com a versão 7 cada novo id entra no fim do índice, nas mesmas páginas das inserções
+ * anteriores. O tipo da coluna continua UUID, então os ids já gravados não mudam.
+ *
+ * @see UuidV7Generator
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,66 @@
+package com.adoteumpet.adoteumpetapi.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562), usado pela anotação {@link UuidV7} e pela carga em massa.
+ *
+ * Layout: 48 bits com o instante em milissegundos, a versão (7), 12 bits de contador, a
+ * variante e 62 bits aleatórios. O contador torna os ids gerados por esta JVM estritamente
+ * crescentes, mesmo dentro do mesmo milissegundo (método 1 da RFC, seção 6.2); quando ele
+ * se esgota, o instante avança um milissegundo. Como o PostgreSQL compara UUIDs byte a
+ * byte, a ordem dos ids é a ordem de criação.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * Último valor usado: instante em milissegundos seguido dos 12 bits de contador.
+     */
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    /**
+     * Gera um novo id, maior que todos os gerados antes por esta JVM.
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long stamp = LAST_STAMP.updateAndGet(last -> Math.max(last + 1, now));
+        return of(stamp >>> COUNTER_BITS, stamp & COUNTER_MASK, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Monta um UUID versão 7 a partir das partes, sem consultar o relógio.
+     * @param epochMillis instante em milissegundos desde 1970
+     * @param counter 12 bits seguintes ao instante
+     * @param random bits aleatórios (apenas os 62 menos significativos são usados)
+     */
+    public static UUID of(long epochMillis, long counter, long random) {
+        long most = (epochMillis << 16) | VERSION | (counter & COUNTER_MASK);
+        long least = VARIANT | (random & RANDOM_MASK);
+        return new UUID(most, least);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,41 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Identifica o banco de dados em uso.
+ * 
+ * Algumas otimizações dependem de recursos exclusivos do PostgreSQL (estimativas do
+ * planejador, RETURNING, COPY). Em H2, usado nos perfis dev e test, as consultas
+ * recorrem a alternativas portáveis.
+ */
+@Component
+public class DatabaseVendor {
+
+    private final boolean postgreSql;
+
+    public DatabaseVendor(DataSource dataSource) {
+        this.postgreSql = "PostgreSQL".equalsIgnoreCase(detectProductName(dataSource));
+    }
+
+    /**
+     * Indica se a aplicação está conectada a um PostgreSQL.
+     * @return true para PostgreSQL, false para outros bancos (H2)
+     */
+    public boolean isPostgreSql() {
+        return postgreSql;
+    }
+
+    private static String detectProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            return "unknown";
+        }
+    }
+}
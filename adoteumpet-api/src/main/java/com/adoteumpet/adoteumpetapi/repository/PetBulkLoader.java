@@ -0,0 +1,219 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.UuidV7Generator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Carga em massa de pets direto pelo JDBC, sem passar pelo Hibernate.
+ *
+ * No PostgreSQL as linhas são enviadas por {@code COPY pets FROM STDIN}, em blocos de
+ * {@link #COPY_BUFFER_CHARS} caracteres, sem uma instrução por linha. Em H2 (perfis dev e test)
+ * a alternativa são INSERTs em lotes JDBC de {@link #INSERT_BATCH_SIZE}. A carga usa a conexão
+ * da transação corrente: ou todas as linhas entram, ou nenhuma.
+ */
+@Component
+public class PetBulkLoader {
+
+    /**
+     * Colunas preenchidas pela carga, na ordem do COPY e do INSERT.
+     */
+    private static final String COLUMNS = "id, name, species, breed, age_years, shelter_city, shelter_lat, shelter_lng, "
+            + "geohash, status, version, created_at, updated_at";
+
+    private static final String COPY_SQL = "COPY pets (" + COLUMNS + ") FROM STDIN";
+    private static final String INSERT_SQL = "INSERT INTO pets (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int COPY_BUFFER_CHARS = 64 * 1024;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    /**
+     * Recebe as linhas válidas da carga.
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+
+        /**
+         * Envia um pet ao banco. O objeto pode ser reutilizado pelo chamador logo após a chamada.
+         * @param pet dados do pet; version e updatedAt são preenchidos pela carga, assim como id e
+         *            createdAt quando nulos
+         * @throws SQLException se o banco recusar a escrita
+         */
+        void write(Pet pet) throws SQLException;
+    }
+
+    /**
+     * Produz as linhas da carga, entregando cada uma ao {@link RowWriter} assim que é lida.
+     */
+    @FunctionalInterface
+    public interface RowSource {
+
+        void writeTo(RowWriter writer) throws IOException, SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final DatabaseVendor databaseVendor;
+
+    public PetBulkLoader(DataSource dataSource, DatabaseVendor databaseVendor) {
+        this.dataSource = dataSource;
+        this.databaseVendor = databaseVendor;
+    }
+
+    /**
+     * Grava no banco todas as linhas produzidas pela fonte, em uma única transação.
+     * @param source fonte das linhas
+     * @return quantidade de pets gravados
+     * @throws IOException se a leitura da fonte falhar
+     */
+    @Transactional
+    public long load(RowSource source) throws IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return databaseVendor.isPostgreSql() ? copy(connection, source) : insert(connection, source);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Carga em massa de pets", databaseVendor.isPostgreSql() ? COPY_SQL : INSERT_SQL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long copy(Connection connection, RowSource source) throws IOException, SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+        String timestamp = LocalDateTime.now().toString();
+        long[] rows = {0};
+        try {
+            source.writeTo(pet -> {
+                appendCopyRow(buffer, pet, timestamp);
+                rows[0]++;
+                if (buffer.length() >= COPY_BUFFER_CHARS) {
+                    flush(copyIn, buffer);
+                }
+            });
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+            return rows[0];
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Escreve a linha no formato texto do COPY: colunas separadas por tabulação, \N para nulo.
+     */
+    private static void appendCopyRow(StringBuilder buffer, Pet pet, String timestamp) {
+        buffer.append(idOf(pet)).append('\t');
+        appendCopyText(buffer, pet.getName());
+        buffer.append('\t').append(pet.getSpecies().name()).append('\t');
+        appendCopyText(buffer, pet.getBreed());
+        buffer.append('\t');
+        appendCopyValue(buffer, pet.getAgeYears());
+        buffer.append('\t');
+        appendCopyText(buffer, pet.getShelterCity());
+        buffer.append('\t');
+        appendCopyValue(buffer, pet.getShelterLat() == null ? null : pet.getShelterLat().toPlainString());
+        buffer.append('\t');
+        appendCopyValue(buffer, pet.getShelterLng() == null ? null : pet.getShelterLng().toPlainString());
+        buffer.append('\t');
+        appendCopyValue(buffer, geohash(pet));
+        String createdAt = pet.getCreatedAt() == null ? timestamp : pet.getCreatedAt().toString();
+        buffer.append('\t').append(pet.getStatus().name())
+                .append("\t0\t").append(createdAt).append('\t').append(createdAt).append('\n');
+    }
+
+    private static void appendCopyValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            buffer.append("\\N");
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private static void appendCopyText(StringBuilder buffer, String value) {
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+
+    private static long insert(Connection connection, RowSource source) throws IOException, SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        long[] rows = {0};
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            source.writeTo(pet -> {
+                statement.setObject(1, idOf(pet));
+                statement.setString(2, pet.getName());
+                statement.setString(3, pet.getSpecies().name());
+                statement.setString(4, pet.getBreed());
+                statement.setObject(5, pet.getAgeYears(), Types.INTEGER);
+                statement.setString(6, pet.getShelterCity());
+                statement.setBigDecimal(7, pet.getShelterLat());
+                statement.setBigDecimal(8, pet.getShelterLng());
+                statement.setString(9, geohash(pet));
+                statement.setString(10, pet.getStatus().name());
+                statement.setLong(11, 0L);
+                LocalDateTime createdAt = pet.getCreatedAt() == null ? now : pet.getCreatedAt();
+                statement.setObject(12, createdAt);
+                statement.setObject(13, createdAt);
+                statement.addBatch();
+                if (++rows[0] % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            });
+            if (rows[0] % INSERT_BATCH_SIZE != 0) {
+                statement.executeBatch();
+            }
+        }
+        return rows[0];
+    }
+
+    private static UUID idOf(Pet pet) {
+        return pet.getId() == null ? UuidV7Generator.next() : pet.getId();
+    }
+
+    /**
+     * Mesmo geohash que {@link Pet} calcula antes de ser gravado pelo Hibernate.
+     */
+    private static String geohash(Pet pet) {
+        BigDecimal lat = pet.getShelterLat();
+        BigDecimal lng = pet.getShelterLng();
+        return lat == null || lng == null ? null : GeoHash.encode(lat.doubleValue(), lng.doubleValue(), GeoHash.MAX_PRECISION);
+    }
+}
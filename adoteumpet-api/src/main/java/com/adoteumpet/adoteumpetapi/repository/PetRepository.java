@@ -1,5 +1,6 @@
 package com.adoteumpet.adoteumpetapi.repository;
 
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
 import com.adoteumpet.adoteumpetapi.model.Pet;
 import com.adoteumpet.adoteumpetapi.model.Species;
 import com.adoteumpet.adoteumpetapi.model.Status;
@@ -9,43 +10,19 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repositório JPA para gerenciar operações de banco de dados da entidade Pet.
  * Fornece métodos básicos CRUD, consultas customizadas e suporte a Specifications para filtros dinâmicos.
+ * Consultas implementadas manualmente com Criteria API ficam em {@link PetRepositoryCustom}.
+ * As consultas de listagem selecionam direto em {@link PetSummary}, sem entidades gerenciadas.
  */
 @Repository
-public interface PetRepository extends JpaRepository<Pet, UUID>, JpaSpecificationExecutor<Pet> {
-
-    /**
-     * Busca pets por espécie.
-     * @param species a espécie do pet
-     * @return lista de pets da espécie especificada
-     */
-    List<Pet> findBySpecies(Species species);
-
-    /**
-     * Busca pets por status.
-     * @param status o status do pet
-     * @return lista de pets com o status especificado
-     */
-    List<Pet> findByStatus(Status status);
-
-    /**
-     * Busca pets por cidade do abrigo.
-     * @param shelterCity a cidade do abrigo
-     * @return lista de pets na cidade especificada
-     */
-    List<Pet> findByShelterCity(String shelterCity);
-
-    /**
-     * Busca pets disponíveis para adoção.
-     * @return lista de pets disponíveis
-     */
-    @Query("SELECT p FROM Pet p WHERE p.status = 'AVAILABLE'")
-    List<Pet> findAvailablePets();
+public interface PetRepository extends JpaRepository<Pet, UUID>, JpaSpecificationExecutor<Pet>, PetRepositoryCustom {
 
     /**
      * Busca pets por espécie e status.
@@ -71,11 +48,19 @@ public interface PetRepository extends JpaRepository<Pet, UUID>, JpaSpecificatio
     List<Pet> findByName(String name);
 
     /**
-     * Busca pets por faixa etária.
-     * @param minAge idade mínima
-     * @param maxAge idade máxima
-     * @return lista de pets na faixa etária especificada
+     * Busca pets pelos IDs, como projeções (sem ordem garantida).
+     * @param ids identificadores dos pets
+     * @return pets encontrados
+     */
+    @Query("SELECT " + PetSummary.JPQL_CONSTRUCTOR + " FROM Pet p WHERE p.id IN :ids")
+    List<PetSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Busca apenas a versão do pet, sem carregar a entidade (nem passar pelo cache de
+     * segundo nível). No PostgreSQL é atendida pelo índice idx_pets_id_version (Index Only Scan).
+     * @param id identificador do pet
+     * @return a versão, se o pet existir
      */
-    @Query("SELECT p FROM Pet p WHERE p.ageYears BETWEEN :minAge AND :maxAge")
-    List<Pet> findByAgeBetween(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge);
-}
\ No newline at end of file
+    @Query("SELECT p.version FROM Pet p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+}
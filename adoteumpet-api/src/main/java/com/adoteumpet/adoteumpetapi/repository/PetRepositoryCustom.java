@@ -0,0 +1,206 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.dto.PetVersionStamp;
+import com.adoteumpet.adoteumpetapi.dto.TileCluster;
+import com.adoteumpet.adoteumpetapi.dto.TilePoint;
+import com.adoteumpet.adoteumpetapi.geo.GeoCircle;
+import com.adoteumpet.adoteumpetapi.geo.MapTile;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de Pet que não podem ser expressas pelos métodos derivados do Spring Data,
+ * implementadas com a JPA Criteria API em {@link PetRepositoryCustomImpl}.
+ */
+public interface PetRepositoryCustom {
+
+    /**
+     * Pet retornado pela busca por proximidade, com a chave de distância calculada pelo banco.
+     * 
+     * @param pet o pet encontrado
+     * @param distanceKey chave usada na ordenação e no cursor (ver {@link GeoCircle#distanceKey(double, double)})
+     */
+    record NearbyPet(Pet pet, double distanceKey) {
+    }
+
+    /**
+     * Busca no máximo {@code limit} pets que atendem à specification, na ordem informada.
+     * Não executa consulta de contagem, ao contrário de {@code findAll(Specification, Pageable)}.
+     * 
+     * @param spec filtros a aplicar
+     * @param sort ordenação dos resultados
+     * @param limit quantidade máxima de registros
+     * @return lista com até {@code limit} pets
+     */
+    List<Pet> findWindow(Specification<Pet> spec, Sort sort, int limit);
+
+    /**
+     * Percorre todos os pets em lotes ordenados por ID (keyset), sem manter a tabela
+     * inteira em memória. Usado para reconstruir estruturas mantidas em memória.
+     * 
+     * @param batchSize quantidade de pets por lote
+     * @param action ação executada para cada lote
+     */
+    void forEachBatch(int batchSize, Consumer<List<Pet>> action);
+
+    /**
+     * Busca uma página de pets sem executar a consulta de contagem.
+     * Lê um registro a mais que o tamanho da página apenas para saber se há próxima página.
+     * 
+     * @param spec filtros a aplicar
+     * @param pageable paginação e ordenação
+     * @return fatia de resultados com a indicação de próxima página
+     */
+    Slice<Pet> findSlice(Specification<Pet> spec, Pageable pageable);
+
+    /**
+     * Busca uma página de pets como projeções {@link PetSummary}, com a contagem total.
+     * Os pets não entram no contexto de persistência.
+     * 
+     * @param spec filtros a aplicar
+     * @param pageable paginação e ordenação
+     * @return página de projeções
+     */
+    Page<PetSummary> findSummaries(Specification<Pet> spec, Pageable pageable);
+
+    /**
+     * Busca uma página de pets como projeções {@link PetSummary}, sem executar a consulta de contagem.
+     * 
+     * @param spec filtros a aplicar
+     * @param pageable paginação e ordenação
+     * @return fatia de projeções com a indicação de próxima página
+     */
+    Slice<PetSummary> findSummarySlice(Specification<Pet> spec, Pageable pageable);
+
+    /**
+     * Busca no máximo {@code limit} pets como projeções {@link PetSummary}, na ordem informada.
+     * 
+     * @param spec filtros a aplicar
+     * @param sort ordenação dos resultados
+     * @param limit quantidade máxima de registros
+     * @return lista com até {@code limit} projeções
+     */
+    List<PetSummary> findSummaryWindow(Specification<Pet> spec, Sort sort, int limit);
+
+    /**
+     * Lê os pets como projeções {@link PetSummary} por um cursor do banco, buscando
+     * {@code fetchSize} linhas de cada vez em vez de carregar o resultado inteiro.
+     * 
+     * O stream deve ser consumido e fechado dentro de uma transação (no PostgreSQL o
+     * cursor só é mantido no servidor com auto-commit desligado).
+     * 
+     * @param spec filtros a aplicar
+     * @param sort ordenação dos resultados
+     * @param fetchSize quantidade de linhas buscadas por ida ao banco
+     * @return stream de projeções, que deve ser fechado ao final
+     */
+    Stream<PetSummary> streamSummaries(Specification<Pet> spec, Sort sort, int fetchSize);
+
+    /**
+     * Busca no máximo {@code limit} pets que atendem à specification, do mais próximo
+     * ao mais distante do centro do círculo, com o ID como desempate.
+     * 
+     * @param spec filtros a aplicar (normalmente incluindo {@code withinRadius})
+     * @param circle origem da distância
+     * @param limit quantidade máxima de registros
+     * @return lista com até {@code limit} pets e suas chaves de distância
+     */
+    List<NearbyPet> findNearest(Specification<Pet> spec, GeoCircle circle, int limit);
+
+    /**
+     * Agrupa os pets do tile por célula geohash, com contagem, centroide e
+     * distribuição por espécie e status, em uma única consulta GROUP BY.
+     * 
+     * @param tile tile de mapa
+     * @param filter filtros a aplicar (apenas espécie e status são considerados)
+     * @param precision precisão geohash das células agrupadas
+     * @return um agrupamento por célula com pets
+     */
+    List<TileCluster> findTileClusters(MapTile tile, PetFilter filter, int precision);
+
+    /**
+     * Busca no máximo {@code limit} pets do tile, apenas com os campos usados no mapa.
+     * 
+     * @param tile tile de mapa
+     * @param filter filtros a aplicar (apenas espécie e status são considerados)
+     * @param limit quantidade máxima de registros
+     * @return pontos do tile ordenados por ID
+     */
+    List<TilePoint> findTilePoints(MapTile tile, PetFilter filter, int limit);
+
+    /**
+     * Calcula quantidade, soma das versões e maior data de alteração dos pets do filtro,
+     * em uma única consulta de agregação (base da ETag fraca das listagens).
+     * 
+     * @param spec filtros a aplicar
+     * @return resumo das versões
+     */
+    PetVersionStamp findVersionStamp(Specification<Pet> spec);
+
+    /**
+     * Marca o pet como adotado em uma única instrução, apenas se ele ainda estiver disponível
+     * (UPDATE ... WHERE id = ? AND status = 'AVAILABLE'), incrementando a versão.
+     * 
+     * Com vários pedidos simultâneos para o mesmo pet, o banco garante que apenas um deles
+     * altera a linha; os demais recebem vazio.
+     * 
+     * @param id identificador do pet
+     * @return o pet já adotado, ou vazio se não existe ou não estava disponível
+     */
+    Optional<Pet> adoptIfAvailable(UUID id);
+
+    /**
+     * Remove o pet em uma única instrução, devolvendo a linha removida.
+     * 
+     * @param id identificador do pet
+     * @return o pet removido, ou vazio se não existia
+     */
+    Optional<Pet> deleteReturning(UUID id);
+
+    /**
+     * Altera apenas as colunas informadas em uma única instrução, sem carregar o pet,
+     * incrementando a versão. Devolve a linha como estava antes da alteração.
+     * 
+     * @param id identificador do pet
+     * @param changes propriedades de {@link Pet} e seus novos valores (name, species, breed,
+     * ageYears, shelterCity, shelterLat, shelterLng, geohash, status e updatedAt)
+     * @param expectedVersion versão esperada do pet, ou null para alterar qualquer versão
+     * @return o pet antes da alteração, ou vazio se não existe ou a versão não confere
+     */
+    Optional<Pet> patchReturningPrevious(UUID id, Map<String, Object> changes, Long expectedVersion);
+
+    /**
+     * Busca os IDs de no máximo {@code limit} pets que atendem à specification, em ordem de ID.
+     * 
+     * @param spec filtros a aplicar
+     * @param limit quantidade máxima de IDs
+     * @return lista com até {@code limit} IDs
+     */
+    List<UUID> findIds(Specification<Pet> spec, int limit);
+
+    /**
+     * Muda o status de vários pets em uma única instrução (UPDATE ... WHERE status = :from),
+     * incrementando a versão de cada um. Pets que já estão no novo status não são alterados.
+     * 
+     * @param from status atual dos pets a alterar
+     * @param to novo status
+     * @param ids IDs dos pets a alterar
+     * @return os pets alterados, já no novo status
+     */
+    List<Pet> transitionStatus(Status from, Status to, Collection<UUID> ids);
+}
@@ -0,0 +1,460 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.dto.PetVersionStamp;
+import com.adoteumpet.adoteumpetapi.dto.TileCluster;
+import com.adoteumpet.adoteumpetapi.dto.TilePoint;
+import com.adoteumpet.adoteumpetapi.geo.GeoCircle;
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.geo.MapTile;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.specification.PetSpecifications;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementação das consultas customizadas de {@link PetRepositoryCustom}.
+ */
+public class PetRepositoryCustomImpl implements PetRepositoryCustom {
+
+    /**
+     * PostgreSQL devolve as linhas alteradas com RETURNING; o H2 as expõe pelas
+     * tabelas delta FINAL TABLE / OLD TABLE. Em ambos é uma única ida ao banco.
+     */
+    private static final String ADOPT_POSTGRESQL =
+            "UPDATE pets SET status = 'ADOPTED', version = version + 1, updated_at = :now "
+            + "WHERE id = :id AND status = 'AVAILABLE' RETURNING *";
+    private static final String ADOPT_H2 =
+            "SELECT * FROM FINAL TABLE (UPDATE pets SET status = 'ADOPTED', version = version + 1, "
+            + "updated_at = :now WHERE id = :id AND status = 'AVAILABLE')";
+    private static final String DELETE_POSTGRESQL = "DELETE FROM pets WHERE id = :id RETURNING *";
+    private static final String DELETE_H2 = "SELECT * FROM OLD TABLE (DELETE FROM pets WHERE id = :id)";
+
+    /**
+     * Colunas que {@link #patchReturningPrevious(UUID, Map, Long)} pode alterar, por propriedade.
+     */
+    private static final Map<String, String> PATCH_COLUMNS = Map.of(
+            "name", "name",
+            "species", "species",
+            "breed", "breed",
+            "ageYears", "age_years",
+            "shelterCity", "shelter_city",
+            "shelterLat", "shelter_lat",
+            "shelterLng", "shelter_lng",
+            "geohash", "geohash",
+            "status", "status",
+            "updatedAt", "updated_at");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DatabaseVendor databaseVendor;
+
+    @Override
+    public List<Pet> findWindow(Specification<Pet> spec, Sort sort, int limit) {
+        return createQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<UUID> findIds(Specification<Pet> spec, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = criteriaBuilder.createQuery(UUID.class);
+        Root<Pet> root = query.from(Pet.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id")).orderBy(criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<Pet>> action) {
+        UUID lastId = null;
+        List<Pet> batch;
+        do {
+            batch = findWindow(PetSpecifications.idGreaterThan(lastId), Sort.by("id"), batchSize);
+            if (!batch.isEmpty()) {
+                action.accept(batch);
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Override
+    public Slice<Pet> findSlice(Specification<Pet> spec, Pageable pageable) {
+        return slice(createQuery(spec, pageable.getSort()), pageable);
+    }
+
+    @Override
+    public Page<PetSummary> findSummaries(Specification<Pet> spec, Pageable pageable) {
+        TypedQuery<PetSummary> query = createSummaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<PetSummary> findSummarySlice(Specification<Pet> spec, Pageable pageable) {
+        return slice(createSummaryQuery(spec, pageable.getSort()), pageable);
+    }
+
+    @Override
+    public List<PetSummary> findSummaryWindow(Specification<Pet> spec, Sort sort, int limit) {
+        return createSummaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<PetSummary> streamSummaries(Specification<Pet> spec, Sort sort, int fetchSize) {
+        return createSummaryQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public List<NearbyPet> findNearest(Specification<Pet> spec, GeoCircle circle, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Pet> root = query.from(Pet.class);
+        Expression<Double> distanceKey = PetSpecifications.distanceKey(root, criteriaBuilder, circle);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(root, distanceKey)
+                .orderBy(criteriaBuilder.asc(distanceKey), criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> new NearbyPet(tuple.get(0, Pet.class), tuple.get(1, Double.class)))
+                .toList();
+    }
+
+    @Override
+    public List<TileCluster> findTileClusters(MapTile tile, PetFilter filter, int precision) {
+        // A precisão entra como literal para que SELECT e GROUP BY tenham a mesma expressão
+        String cell = "substring(p.geohash, 1, " + precision + ")";
+        Map<String, Object> parameters = new HashMap<>();
+
+        StringBuilder jpql = new StringBuilder("select ").append(cell)
+                .append(", count(p), avg(p.shelterLat), avg(p.shelterLng)");
+        for (Species species : Species.values()) {
+            jpql.append(", sum(case when p.species = :species_").append(species.name()).append(" then 1 else 0 end)");
+            parameters.put("species_" + species.name(), species);
+        }
+        for (Status status : Status.values()) {
+            jpql.append(", sum(case when p.status = :status_").append(status.name()).append(" then 1 else 0 end)");
+            parameters.put("status_" + status.name(), status);
+        }
+        jpql.append(" from Pet p where ");
+        appendTileConditions(jpql, parameters, tile, filter);
+        jpql.append(" group by ").append(cell);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        parameters.forEach(query::setParameter);
+
+        List<TileCluster> clusters = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            int column = 4;
+            Map<Species, Long> bySpecies = new EnumMap<>(Species.class);
+            for (Species species : Species.values()) {
+                bySpecies.put(species, ((Number) row[column++]).longValue());
+            }
+            Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+            for (Status status : Status.values()) {
+                byStatus.put(status, ((Number) row[column++]).longValue());
+            }
+            clusters.add(new TileCluster((String) row[0], ((Number) row[1]).longValue(),
+                    ((Number) row[2]).doubleValue(), ((Number) row[3]).doubleValue(), bySpecies, byStatus));
+        }
+        return clusters;
+    }
+
+    @Override
+    public List<TilePoint> findTilePoints(MapTile tile, PetFilter filter, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("select new ").append(TilePoint.class.getName())
+                .append("(p.id, cast(p.shelterLat as Double), cast(p.shelterLng as Double), p.species, p.status)")
+                .append(" from Pet p where ");
+        appendTileConditions(jpql, parameters, tile, filter);
+        jpql.append(" order by p.id");
+
+        TypedQuery<TilePoint> query = entityManager.createQuery(jpql.toString(), TilePoint.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Restringe a consulta ao tile: faixas do índice geohash que cobrem o tile,
+     * recortadas pelos limites exatos de latitude/longitude (intervalos semiabertos,
+     * para que um pet na borda pertença a um único tile).
+     */
+    private static void appendTileConditions(StringBuilder jpql, Map<String, Object> parameters,
+                                             MapTile tile, PetFilter filter) {
+        jpql.append("(");
+        int index = 0;
+        for (String cell : GeoHash.cellsCovering(tile.minLat(), tile.maxLat(), tile.minLng(), tile.maxLng())) {
+            if (index > 0) {
+                jpql.append(" or ");
+            }
+            jpql.append("p.geohash between :cellFrom").append(index).append(" and :cellTo").append(index);
+            parameters.put("cellFrom" + index, GeoHash.lowerBound(cell));
+            parameters.put("cellTo" + index, GeoHash.upperBound(cell));
+            index++;
+        }
+        jpql.append(")");
+
+        jpql.append(" and p.shelterLat >= :minLat and p.shelterLat < :maxLat")
+                .append(" and p.shelterLng >= :minLng and p.shelterLng < :maxLng");
+        parameters.put("minLat", BigDecimal.valueOf(tile.minLat()));
+        parameters.put("maxLat", BigDecimal.valueOf(tile.maxLat()));
+        parameters.put("minLng", BigDecimal.valueOf(tile.minLng()));
+        parameters.put("maxLng", BigDecimal.valueOf(tile.maxLng()));
+
+        if (filter.getSpecies() != null) {
+            jpql.append(" and p.species = :species");
+            parameters.put("species", filter.getSpecies());
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" and p.status = :status");
+            parameters.put("status", filter.getStatus());
+        }
+    }
+
+    /**
+     * Lê um registro a mais que o tamanho da página apenas para saber se há próxima página.
+     */
+    private static <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList());
+        }
+
+        List<T> content = new ArrayList<>(query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList());
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public PetVersionStamp findVersionStamp(Specification<Pet> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PetVersionStamp> query = criteriaBuilder.createQuery(PetVersionStamp.class);
+        Root<Pet> root = query.from(Pet.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(criteriaBuilder.construct(PetVersionStamp.class,
+                criteriaBuilder.count(root),
+                criteriaBuilder.sum(root.<Long>get("version")),
+                criteriaBuilder.greatest(root.<LocalDateTime>get("updatedAt"))));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Pet> adoptIfAvailable(UUID id) {
+        String sql = databaseVendor.isPostgreSql() ? ADOPT_POSTGRESQL : ADOPT_H2;
+        return writeReturning(id, entityManager.createNativeQuery(sql, Pet.class)
+                .setParameter("now", LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Pet> deleteReturning(UUID id) {
+        String sql = databaseVendor.isPostgreSql() ? DELETE_POSTGRESQL : DELETE_H2;
+        return writeReturning(id, entityManager.createNativeQuery(sql, Pet.class));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Pet> patchReturningPrevious(UUID id, Map<String, Object> changes, Long expectedVersion) {
+        boolean postgreSql = databaseVendor.isPostgreSql();
+        // No PostgreSQL a tabela aparece duas vezes (pets e old), então as colunas são qualificadas
+        String table = postgreSql ? "pets." : "";
+
+        StringBuilder set = new StringBuilder();
+        for (String property : changes.keySet()) {
+            String column = PATCH_COLUMNS.get(property);
+            if (column == null) {
+                throw new IllegalArgumentException("Propriedade não pode ser alterada: " + property);
+            }
+            set.append(column).append(" = :").append(property).append(", ");
+        }
+        set.append("version = ").append(table).append("version + 1");
+        String where = table + "id = :id"
+                + (expectedVersion != null ? " AND " + table + "version = :expectedVersion" : "");
+
+        // No PostgreSQL, RETURNING só devolve a linha nova; a linha anterior vem da subconsulta
+        String sql = postgreSql
+                ? "UPDATE pets SET " + set + " FROM (SELECT * FROM pets WHERE id = :id FOR UPDATE) old "
+                        + "WHERE " + where + " AND pets.id = old.id RETURNING old.*"
+                : "SELECT * FROM OLD TABLE (UPDATE pets SET " + set + " WHERE " + where + ")";
+
+        Query query = entityManager.createNativeQuery(sql, Pet.class);
+        changes.forEach((property, value) -> query.setParameter(property, value instanceof Enum<?> e ? e.name() : value));
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        return writeReturning(id, query);
+    }
+
+    @Override
+    @Transactional
+    public List<Pet> transitionStatus(Status from, Status to, Collection<UUID> ids) {
+        String update = "UPDATE pets SET status = :toStatus, version = version + 1, updated_at = :now "
+                + "WHERE status = :fromStatus AND id IN (:ids)";
+        String sql = databaseVendor.isPostgreSql() ? update + " RETURNING *" : "SELECT * FROM FINAL TABLE (" + update + ")";
+
+        Query query = entityManager.createNativeQuery(sql, Pet.class)
+                .setParameter("fromStatus", from.name())
+                .setParameter("toStatus", to.name())
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("ids", ids);
+        return writeReturningAll(query);
+    }
+
+    /**
+     * Executa uma escrita que devolve a linha alterada como {@link Pet}.
+     */
+    private Optional<Pet> writeReturning(UUID id, Query query) {
+        return writeReturningAll(query.setParameter("id", id)).stream().findFirst();
+    }
+
+    /**
+     * Executa uma escrita que devolve as linhas alteradas como {@link Pet}.
+     * 
+     * A instrução nativa não passa pelo cache de segundo nível: as linhas devolvidas não são
+     * guardadas nele (CacheMode.IGNORE) e as entradas dos pets são removidas de uma vez após o
+     * commit, para que leituras concorrentes feitas antes do commit não deixem o estado antigo em cache.
+     */
+    private List<Pet> writeReturningAll(Query query) {
+        @SuppressWarnings("unchecked")
+        List<Pet> rows = query.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE).getResultList();
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        rows.forEach(entityManager::detach);
+        List<UUID> ids = rows.stream().map(Pet::getId).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManager.getEntityManagerFactory().getCache();
+                ids.forEach(id -> cache.evict(Pet.class, id));
+            }
+        });
+        return rows;
+    }
+
+    private long count(Specification<Pet> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Pet> root = query.from(Pet.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(criteriaBuilder.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Mesma consulta de {@link #createQuery(Specification, Sort)}, mas selecionando as colunas
+     * direto no construtor de {@link PetSummary} em vez da entidade.
+     */
+    private TypedQuery<PetSummary> createSummaryQuery(Specification<Pet> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PetSummary> query = criteriaBuilder.createQuery(PetSummary.class);
+        Root<Pet> root = query.from(Pet.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(criteriaBuilder.construct(PetSummary.class,
+                        root.get("id"), root.get("name"), root.get("species"), root.get("breed"),
+                        root.get("ageYears"), root.get("shelterCity"), root.get("shelterLat"),
+                        root.get("shelterLng"), root.get("status"), root.get("createdAt")))
+                .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query);
+    }
+
+    private TypedQuery<Pet> createQuery(Specification<Pet> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Pet> query = criteriaBuilder.createQuery(Pet.class);
+        Root<Pet> root = query.from(Pet.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query);
+    }
+}
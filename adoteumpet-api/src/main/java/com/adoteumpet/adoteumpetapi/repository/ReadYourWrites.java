@@ -0,0 +1,124 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Indica se as leituras da thread atual devem ir ao banco primário em vez da réplica.
+ *
+ * Uma réplica recebe as alterações do primário com algum atraso. Um cliente que acabou de gravar
+ * e lê em seguida pela réplica pode não ver a própria alteração, então as leituras são presas ao
+ * primário:
+ * <ul>
+ *   <li>durante a requisição de escrita (POST, PUT, PATCH, DELETE) e pela janela seguinte,
+ *       enquanto o cliente envia o cookie definido por ReadYourWritesFilter;</li>
+ *   <li>durante uma transação de escrita, do início até depois dos ouvintes de
+ *       {@code AFTER_COMMIT} (como a reconstrução dos índices após uma importação), em qualquer
+ *       thread. Terminada a transação, a thread volta à réplica;</li>
+ *   <li>durante a carga de um cache compartilhado ({@link #onPrimary(Supplier)}): a entrada vale
+ *       para todos os clientes por minutos e não pode guardar o estado atrasado da réplica.</li>
+ * </ul>
+ * Também registra se a transação somente leitura atual obteve uma conexão da réplica, para
+ * que os caches não guardem o que foi lido dela ({@link #hasReadFromReplica()}).
+ *
+ * @see ReplicaRoutingDataSource
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    /**
+     * Escopos em andamento na thread que leem do primário: transações de escrita (uma transação
+     * REQUIRES_NEW pode abrir dentro de outra) e cargas de cache.
+     */
+    private static final ThreadLocal<Integer> PRIMARY_SCOPES = new ThreadLocal<>();
+
+    private static final ThreadLocal<Boolean> READ_FROM_REPLICA = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Envia ao primário as próximas leituras da thread atual.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Volta a enviar as leituras da thread atual à réplica.
+     */
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+        PRIMARY_SCOPES.remove();
+        READ_FROM_REPLICA.remove();
+    }
+
+    /**
+     * @return true se as leituras da thread atual devem ir ao primário
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null || PRIMARY_SCOPES.get() != null;
+    }
+
+    /**
+     * Executa leituras no primário, como a carga de uma entrada de cache compartilhada.
+     *
+     * Dentro de uma transação somente leitura, só tem efeito se a conexão ainda não foi obtida;
+     * se já foi obtida da réplica, {@link #hasReadFromReplica()} indica que o resultado não
+     * deve ser guardado.
+     *
+     * @param reads leituras a executar
+     * @return resultado das leituras
+     */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        primaryScopeStarted();
+        try {
+            return reads.get();
+        } finally {
+            primaryScopeFinished();
+        }
+    }
+
+    /**
+     * @return true se a transação somente leitura atual obteve uma conexão da réplica, que pode
+     *         estar atrasada: o que foi lido nela não deve ir para caches compartilhados
+     */
+    public static boolean hasReadFromReplica() {
+        return READ_FROM_REPLICA.get() != null;
+    }
+
+    /**
+     * Registra que a transação atual obteve uma conexão da réplica.
+     */
+    static void readFromReplica() {
+        READ_FROM_REPLICA.set(Boolean.TRUE);
+    }
+
+    /**
+     * Esquece a conexão da réplica da transação somente leitura que terminou.
+     */
+    static void readOnlyTransactionFinished() {
+        READ_FROM_REPLICA.remove();
+    }
+
+    /**
+     * Prende as leituras ao primário até o fim do escopo que começou (transação de escrita ou
+     * carga de cache).
+     */
+    static void primaryScopeStarted() {
+        Integer open = PRIMARY_SCOPES.get();
+        PRIMARY_SCOPES.set(open == null ? 1 : open + 1);
+    }
+
+    /**
+     * Libera a marcação do escopo que terminou; as marcações da requisição continuam.
+     */
+    static void primaryScopeFinished() {
+        Integer open = PRIMARY_SCOPES.get();
+        if (open == null || open <= 1) {
+            PRIMARY_SCOPES.remove();
+        } else {
+            PRIMARY_SCOPES.set(open - 1);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Prende ao primário as leituras da thread durante uma transação de escrita.
+ *
+ * O Spring Boot registra este ouvinte no gerenciador de transações. A marcação começa no início
+ * da transação e termina em afterCommit/afterRollback, que o Spring chama depois dos ouvintes de
+ * {@code AFTER_COMMIT} (como a reconstrução dos índices após uma importação): eles ainda leem do
+ * primário o que acabou de ser gravado. Depois disso a thread volta à réplica, inclusive threads
+ * de longa duração fora de requisições (agendamentos, eventos, pools).
+ *
+ * Nas transações somente leitura que vão à réplica, as entidades carregadas não são guardadas no
+ * cache de segundo nível (região "pets"): uma cópia atrasada seria servida a todos os clientes,
+ * inclusive a quem acabou de gravar, e o If-Match com a versão nova receberia 409. As entidades
+ * já em cache continuam sendo lidas dele.
+ */
+public class ReadYourWritesTransactionListener implements TransactionExecutionListener {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public ReadYourWritesTransactionListener(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction()) {
+            return;
+        }
+        if (!transaction.isReadOnly()) {
+            ReadYourWrites.primaryScopeStarted();
+        } else if (!ReadYourWrites.isPinnedToPrimary()) {
+            setSecondLevelCacheStoreMode(CacheStoreMode.BYPASS);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        finished(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        finished(transaction);
+    }
+
+    private void finished(TransactionExecution transaction) {
+        if (!transaction.isNewTransaction()) {
+            return;
+        }
+        if (!transaction.isReadOnly()) {
+            ReadYourWrites.primaryScopeFinished();
+        } else {
+            ReadYourWrites.readOnlyTransactionFinished();
+            setSecondLevelCacheStoreMode(CacheStoreMode.USE);
+        }
+    }
+
+    private void setSecondLevelCacheStoreMode(CacheStoreMode storeMode) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        EntityManager entityManager = factory == null
+                ? null : EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+        if (entityManager != null) {
+            entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, storeMode);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Destino das conexões somente leitura: a réplica, ou o primário quando a thread precisa
+ * ler as próprias escritas ({@link ReadYourWrites}).
+ *
+ * É usado como {@code readOnlyDataSource} de um LazyConnectionDataSourceProxy, que só obtém a
+ * conexão na primeira instrução, depois que a transação {@code @Transactional(readOnly = true)}
+ * marcou a conexão como somente leitura. As demais conexões vão direto ao primário. Cada conexão
+ * entregue da réplica é registrada em {@link ReadYourWrites#hasReadFromReplica()}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadYourWrites.isPinnedToPrimary()) {
+            return Target.PRIMARY;
+        }
+        ReadYourWrites.readFromReplica();
+        return Target.REPLICA;
+    }
+}
@@ -0,0 +1,12 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import com.adoteumpet.adoteumpetapi.model.SeedState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório dos registros de seeding, consultados pela chave primária (seed_name).
+ */
+@Repository
+public interface SeedStateRepository extends JpaRepository<SeedState, String> {
+}
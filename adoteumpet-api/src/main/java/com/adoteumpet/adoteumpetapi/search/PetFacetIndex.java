@@ -0,0 +1,353 @@
+package com.adoteumpet.adoteumpetapi.search;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Índice de facetas em memória usado para contar pets por espécie, status, cidade e raça.
+ *
+ * Cada pet recebe um ordinal denso (0, 1, 2, ...) e cada valor de cada campo guarda um
+ * RoaringBitmap com os ordinais dos pets que o possuem. Contar os pets de um valor sob
+ * um filtro é uma interseção de bitmaps seguida de cardinalidade, sem GROUP BY no banco.
+ *
+ * As contagens são disjuntivas: o filtro de um campo não restringe as contagens do
+ * próprio campo, para que a interface continue exibindo as demais opções.
+ *
+ * O índice é reconstruído a partir do banco quando a aplicação sobe e mantido pelos
+ * {@link PetChangedEvent} publicados pelo PetService. A reconstrução monta um novo conjunto
+ * de bitmaps sem segurar o lock e só o troca pelo atual no final; enquanto isso, as contagens
+ * continuam vindo do índice anterior.
+ */
+@Component
+public class PetFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetFacetIndex.class);
+
+    public static final String SPECIES = "species";
+    public static final String STATUS = "status";
+    public static final String SHELTER_CITY = "shelterCity";
+    public static final String BREED = "breed";
+
+    /**
+     * Campo indexado apenas para aplicar o filtro por nome; não é retornado como faceta.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * Facetas retornadas, na ordem da resposta.
+     */
+    public static final List<String> FACETS = List.of(SPECIES, STATUS, SHELTER_CITY, BREED);
+
+    /**
+     * Quantidade máxima de valores por faceta (os mais frequentes).
+     */
+    public static final int MAX_VALUES_PER_FACET = 50;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PetRepository petRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Impede duas reconstruções simultâneas.
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Índice atual, trocado inteiro ao fim de cada reconstrução.
+     */
+    private Snapshot snapshot = new Snapshot();
+
+    /**
+     * Alterações recebidas durante uma reconstrução, reaplicadas ao novo índice antes da troca
+     * (null quando não há reconstrução em andamento).
+     */
+    private List<PetChangedEvent.Change> pendingChanges;
+
+    public PetFacetIndex(PetRepository petRepository) {
+        this.petRepository = petRepository;
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco, lendo os pets em lotes ordenados por ID.
+     *
+     * O novo índice é montado fora do lock; as alterações que chegarem nesse intervalo são
+     * aplicadas ao índice atual e guardadas, para serem reaplicadas ao novo antes da troca.
+     * Reaplicar uma alteração que a leitura do banco já viu não muda o resultado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Snapshot rebuilt = new Snapshot();
+            try {
+                petRepository.forEachBatch(REBUILD_BATCH_SIZE, batch -> batch.forEach(rebuilt::upsert));
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach(rebuilt::apply);
+                pendingChanges = null;
+                snapshot = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("✅ Índice de facetas reconstruído com {} pets em {} ms",
+                    rebuilt.live.getCardinality(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Aplica ao índice as alterações feitas pelo PetService, após o commit da transação.
+     * @param event alterações realizadas
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.changes().forEach(snapshot::apply);
+            if (pendingChanges != null) {
+                pendingChanges.addAll(event.changes());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstrói o índice após uma carga em massa, que não publica alterações por pet.
+     * @param event carga realizada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetsImported(PetsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Conta os pets por valor de cada faceta sob o filtro informado.
+     *
+     * Os filtros de espécie e status usam o bitmap do valor; os filtros parciais de nome,
+     * raça e cidade unem os bitmaps dos valores distintos que contêm o termo, com a mesma
+     * semântica do LIKE case-insensitive da listagem.
+     *
+     * @param filter filtros da listagem
+     * @return para cada faceta, os valores mais frequentes e suas contagens (ordem decrescente)
+     */
+    public Map<String, Map<String, Long>> facets(PetFilter filter) {
+        PetFilter normalized = filter.normalized();
+        lock.readLock().lock();
+        try {
+            Map<String, Dimension> dimensions = snapshot.dimensions;
+            Map<String, RoaringBitmap> restrictions = new HashMap<>();
+            if (normalized.getSpecies() != null) {
+                restrictions.put(SPECIES, dimensions.get(SPECIES).exact(normalized.getSpecies().name()));
+            }
+            if (normalized.getStatus() != null) {
+                restrictions.put(STATUS, dimensions.get(STATUS).exact(normalized.getStatus().name()));
+            }
+            if (normalized.getShelterCity() != null) {
+                restrictions.put(SHELTER_CITY, dimensions.get(SHELTER_CITY).containing(normalized.getShelterCity()));
+            }
+            if (normalized.getBreed() != null) {
+                restrictions.put(BREED, dimensions.get(BREED).containing(normalized.getBreed()));
+            }
+            if (normalized.getName() != null) {
+                restrictions.put(NAME, dimensions.get(NAME).containing(normalized.getName()));
+            }
+
+            Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+            for (String facet : FACETS) {
+                RoaringBitmap base = snapshot.live.clone();
+                restrictions.forEach((field, bitmap) -> {
+                    if (!field.equals(facet)) {
+                        base.and(bitmap);
+                    }
+                });
+                result.put(facet, dimensions.get(facet).counts(base));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ordinais dos pets e bitmaps de cada campo; uma instância por reconstrução.
+     */
+    private static final class Snapshot {
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+        private final Map<String, Dimension> dimensions = new LinkedHashMap<>();
+
+        Snapshot() {
+            dimensions.put(SPECIES, new Dimension(pet -> pet.getSpecies() == null ? null : pet.getSpecies().name()));
+            dimensions.put(STATUS, new Dimension(pet -> pet.getStatus() == null ? null : pet.getStatus().name()));
+            dimensions.put(SHELTER_CITY, new Dimension(Pet::getShelterCity));
+            dimensions.put(BREED, new Dimension(Pet::getBreed));
+            dimensions.put(NAME, new Dimension(Pet::getName));
+        }
+
+        void apply(PetChangedEvent.Change change) {
+            if (change.isDeletion()) {
+                remove(change.id());
+            } else {
+                upsert(change.after());
+            }
+        }
+
+        void upsert(Pet pet) {
+            Integer ordinal = ordinals.get(pet.getId());
+            if (ordinal == null) {
+                ordinal = allocateOrdinal(pet.getId());
+            }
+            for (Dimension dimension : dimensions.values()) {
+                dimension.set(ordinal, pet);
+            }
+            live.add(ordinal);
+        }
+
+        void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            for (Dimension dimension : dimensions.values()) {
+                dimension.clear(ordinal);
+            }
+            live.remove(ordinal);
+            ids.set(ordinal, null);
+            freeOrdinals.add(ordinal);
+        }
+
+        /**
+         * Reaproveita ordinais de pets removidos para manter a numeração densa.
+         */
+        private int allocateOrdinal(UUID id) {
+            int ordinal;
+            if (freeOrdinals.isEmpty()) {
+                ordinal = ids.size();
+                ids.add(id);
+            } else {
+                ordinal = freeOrdinals.first();
+                freeOrdinals.remove(ordinal);
+                ids.set(ordinal, id);
+            }
+            ordinals.put(id, ordinal);
+            return ordinal;
+        }
+    }
+
+    /**
+     * Um campo indexado: o bitmap de cada valor e o valor atual de cada ordinal.
+     */
+    private static final class Dimension {
+
+        private final Function<Pet, String> extractor;
+        private final Map<String, RoaringBitmap> postings = new HashMap<>();
+        private final List<String> valueByOrdinal = new ArrayList<>();
+
+        Dimension(Function<Pet, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        void set(int ordinal, Pet pet) {
+            clear(ordinal);
+            String value = extractor.apply(pet);
+            while (valueByOrdinal.size() <= ordinal) {
+                valueByOrdinal.add(null);
+            }
+            valueByOrdinal.set(ordinal, value);
+            if (value != null) {
+                postings.computeIfAbsent(value, key -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+
+        void clear(int ordinal) {
+            if (ordinal >= valueByOrdinal.size()) {
+                return;
+            }
+            String previous = valueByOrdinal.set(ordinal, null);
+            if (previous != null) {
+                RoaringBitmap bitmap = postings.get(previous);
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    postings.remove(previous);
+                }
+            }
+        }
+
+        RoaringBitmap exact(String value) {
+            RoaringBitmap bitmap = postings.get(value);
+            return bitmap == null ? new RoaringBitmap() : bitmap;
+        }
+
+        RoaringBitmap containing(String term) {
+            List<RoaringBitmap> matches = new ArrayList<>();
+            postings.forEach((value, bitmap) -> {
+                if (value.toLowerCase(Locale.ROOT).contains(term)) {
+                    matches.add(bitmap);
+                }
+            });
+            return matches.isEmpty() ? new RoaringBitmap() : FastAggregation.or(matches.iterator());
+        }
+
+        Map<String, Long> counts(RoaringBitmap base) {
+            List<Map.Entry<String, Long>> counts = new ArrayList<>();
+            postings.forEach((value, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(base, bitmap);
+                if (count > 0) {
+                    counts.add(Map.entry(value, count));
+                }
+            });
+            counts.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            Map<String, Long> top = new LinkedHashMap<>();
+            for (Map.Entry<String, Long> entry : counts.subList(0, Math.min(MAX_VALUES_PER_FACET, counts.size()))) {
+                top.put(entry.getKey(), entry.getValue());
+            }
+            return top;
+        }
+    }
+}
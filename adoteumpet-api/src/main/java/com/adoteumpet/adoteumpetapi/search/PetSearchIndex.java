@@ -0,0 +1,483 @@
+package com.adoteumpet.adoteumpetapi.search;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Índice Lucene em processo usado pela busca textual ({@code q}) de GET /api/pets.
+ *
+ * Indexa nome, raça e cidade do abrigo de cada pet e ordena os resultados por
+ * relevância, tolerando acentos, prefixos (busca enquanto digita) e pequenos erros
+ * de digitação. O índice é:
+ * - Reconstruído a partir do PetRepository, em lotes, quando a aplicação sobe e, em uma
+ *   thread dedicada, após cada importação
+ * - Mantido em sincronia pelos {@link PetChangedEvent} publicados pelo PetService
+ * - Reaberto em tempo quase real (NRT) por uma thread dedicada
+ *
+ * A reconstrução substitui os documentos no lugar, sem esvaziar o índice: durante ela as
+ * buscas continuam vendo todos os pets, cada um na versão anterior ou já na nova.
+ *
+ * O índice contém apenas IDs e campos de busca; os pets retornados ao cliente são
+ * sempre lidos do banco, de modo que uma defasagem momentânea nunca expõe dados antigos.
+ */
+@Component
+public class PetSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String BREED = "breed";
+    private static final String SHELTER_CITY = "shelterCity";
+    private static final String SPECIES = "species";
+    private static final String STATUS = "status";
+    private static final String REBUILD = "rebuild";
+
+    /**
+     * Campos analisados e o peso de cada um na relevância.
+     */
+    private static final Map<String, Float> TEXT_FIELDS = Map.of(NAME, 3.0f, BREED, 2.0f, SHELTER_CITY, 1.0f);
+
+    /**
+     * Sufixo dos campos com o valor inteiro em minúsculas, usados pelos filtros de substring.
+     */
+    private static final String RAW = ".raw";
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MIN_FUZZY_TERM_LENGTH = 4;
+    private static final double MAX_STALE_SECONDS = 1.0;
+    private static final double MIN_STALE_SECONDS = 0.05;
+    private static final long MAX_VISIBILITY_WAIT_MILLIS = 200;
+
+    private final PetRepository petRepository;
+    private final Analyzer analyzer = new PetAnalyzer();
+    private final Path indexPath;
+    private final boolean temporary;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "pet-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Há uma reconstrução agendada que ainda não começou; importações seguidas geram uma só.
+     */
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    /**
+     * Número da reconstrução atual, gravado em cada documento. Ao final, os documentos com
+     * outro número são de pets que não estão mais no banco. Alterado e lido sob
+     * {@link #rebuildLock}, para que um documento gravado por {@link #onPetChanged} durante a
+     * troca do número não seja removido.
+     */
+    private long rebuildNumber;
+
+    /**
+     * Pets alterados por {@link #onPetChanged} durante a reconstrução em andamento (null fora
+     * dela): o lote lido antes da alteração não sobrescreve o documento mais novo nem recria um
+     * pet removido. Guardado sob {@link #rebuildLock}.
+     */
+    private Set<UUID> changedDuringRebuild;
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Última geração escrita no índice; as buscas só consultam o índice depois que ela
+     * está visível, para que quem acabou de cadastrar um pet já o encontre.
+     */
+    private volatile long lastGeneration = -1;
+
+    /**
+     * Resultado de uma busca no índice.
+     *
+     * @param ids IDs dos pets da página, em ordem de relevância
+     * @param total total de pets que satisfazem a busca
+     */
+    public record Hits(List<UUID> ids, long total) {
+    }
+
+    public PetSearchIndex(PetRepository petRepository,
+                          @Value("${adoteumpet.search.index-dir:}") String indexDir) throws IOException {
+        this.petRepository = petRepository;
+        this.temporary = indexDir == null || indexDir.isBlank();
+        this.indexPath = temporary ? Files.createTempDirectory("adoteumpet-search") : Files.createDirectories(Path.of(indexDir));
+        this.directory = new MMapDirectory(indexPath);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        // O banco é a fonte da verdade: o índice é sempre recriado na subida
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SECONDS, MIN_STALE_SECONDS);
+        reopenThread.setName("pet-search-nrt-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+
+        logger.info("🔎 Índice de busca de pets em {}", indexPath);
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco, lendo os pets em lotes ordenados por ID.
+     *
+     * Cada pet é regravado no lugar com o número desta reconstrução; os documentos que não
+     * foram regravados (pets removidos do banco) são apagados no final. Os pets são lidos do
+     * banco primário, que já tem as cargas que a réplica talvez ainda não recebeu.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() throws IOException {
+        long start = System.currentTimeMillis();
+        String current;
+        synchronized (rebuildLock) {
+            current = Long.toString(++rebuildNumber);
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        AtomicInteger indexed = new AtomicInteger();
+        try {
+            ReadYourWrites.onPrimary(() -> {
+                petRepository.forEachBatch(REBUILD_BATCH_SIZE, batch -> {
+                    synchronized (rebuildLock) {
+                        try {
+                            for (Pet pet : batch) {
+                                if (!changedDuringRebuild.contains(pet.getId())) {
+                                    writer.updateDocument(idTerm(pet.getId()), toDocument(pet, current));
+                                }
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    indexed.addAndGet(batch.size());
+                });
+                return null;
+            });
+
+            lastGeneration = writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term(REBUILD, current)), BooleanClause.Occur.MUST_NOT)
+                    .build());
+        } finally {
+            synchronized (rebuildLock) {
+                changedDuringRebuild = null;
+            }
+        }
+        writer.commit();
+        searcherManager.maybeRefresh();
+        logger.info("✅ Índice de busca reconstruído com {} pets em {} ms", indexed.get(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Aplica ao índice as alterações feitas pelo PetService, após o commit da transação.
+     * @param event alterações realizadas
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        try {
+            synchronized (rebuildLock) {
+                String current = Long.toString(rebuildNumber);
+                for (PetChangedEvent.Change change : event.changes()) {
+                    if (changedDuringRebuild != null) {
+                        changedDuringRebuild.add(change.id());
+                    }
+                    if (change.isDeletion()) {
+                        lastGeneration = writer.deleteDocuments(idTerm(change.id()));
+                    } else {
+                        lastGeneration = writer.updateDocument(idTerm(change.id()), toDocument(change.after(), current));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // O banco já foi alterado; o índice volta a ficar consistente na próxima reconstrução
+            logger.error("Falha ao atualizar o índice de busca de pets: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Agenda a reconstrução do índice após uma carga em massa, que não publica alterações por pet.
+     *
+     * A reconstrução roda na thread "pet-search-rebuild", fora da requisição de importação; até
+     * ela terminar, os pets importados ainda não aparecem na busca textual.
+     *
+     * @param event carga realizada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetsImported(PetsImportedEvent event) {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuildInBackground);
+        }
+    }
+
+    private void rebuildInBackground() {
+        rebuildPending.set(false);
+        try {
+            rebuild();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha ao reconstruir o índice de busca de pets: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busca pets pelo texto informado, combinada com os filtros da listagem.
+     *
+     * Cada palavra do texto precisa aparecer em ao menos um dos campos (nome, raça ou
+     * cidade); a última palavra também casa por prefixo e palavras com 4 letras ou mais
+     * aceitam uma letra de diferença. Nome pesa mais que raça, que pesa mais que cidade.
+     *
+     * @param text texto digitado pelo usuário
+     * @param filter filtros adicionais (espécie, status e substrings de nome/raça/cidade)
+     * @param offset posição do primeiro resultado
+     * @param limit quantidade máxima de resultados
+     * @return IDs da página em ordem de relevância e o total de resultados
+     */
+    public Hits search(String text, PetFilter filter, long offset, int limit) {
+        Query query = buildQuery(text, filter.normalized());
+        IndexSearcher searcher = null;
+        try {
+            awaitLastWrite();
+            searcher = searcherManager.acquire();
+
+            int total = searcher.count(query);
+            if (offset >= total || limit <= 0) {
+                return new Hits(List.of(), total);
+            }
+            int end = (int) Math.min(offset + limit, total);
+            TopDocs top = searcher.search(query, end);
+
+            List<UUID> ids = new ArrayList<>(end - (int) offset);
+            for (int i = (int) offset; i < top.scoreDocs.length; i++) {
+                ScoreDoc hit = top.scoreDocs[i];
+                ids.add(UUID.fromString(searcher.storedFields().document(hit.doc).get(ID)));
+            }
+            return new Hits(ids, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao consultar o índice de busca de pets", e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    private Query buildQuery(String text, PetFilter filter) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+
+        List<String> terms = analyze(text);
+        for (int i = 0; i < terms.size(); i++) {
+            query.add(termQuery(terms.get(i), i == terms.size() - 1), BooleanClause.Occur.MUST);
+        }
+
+        if (filter.getSpecies() != null) {
+            query.add(new TermQuery(new Term(SPECIES, filter.getSpecies().name())), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getStatus() != null) {
+            query.add(new TermQuery(new Term(STATUS, filter.getStatus().name())), BooleanClause.Occur.FILTER);
+        }
+        addContainsFilter(query, NAME, filter.getName());
+        addContainsFilter(query, BREED, filter.getBreed());
+        addContainsFilter(query, SHELTER_CITY, filter.getShelterCity());
+
+        return query.build();
+    }
+
+    /**
+     * Monta a consulta de uma palavra: o melhor campo define a pontuação (DisMax).
+     */
+    private Query termQuery(String term, boolean last) {
+        List<Query> perField = new ArrayList<>();
+        TEXT_FIELDS.forEach((field, boost) -> {
+            BooleanQuery.Builder variants = new BooleanQuery.Builder();
+            variants.add(new TermQuery(new Term(field, term)), BooleanClause.Occur.SHOULD);
+            if (last) {
+                variants.add(new BoostQuery(new PrefixQuery(new Term(field, term)), 0.5f), BooleanClause.Occur.SHOULD);
+            }
+            if (term.length() >= MIN_FUZZY_TERM_LENGTH) {
+                variants.add(new BoostQuery(new FuzzyQuery(new Term(field, term), 1), 0.3f), BooleanClause.Occur.SHOULD);
+            }
+            perField.add(new BoostQuery(variants.build(), boost));
+        });
+        return new DisjunctionMaxQuery(perField, 0.1f);
+    }
+
+    /**
+     * Reproduz no índice a semântica dos filtros LIKE da listagem (substring, case-insensitive).
+     */
+    private static void addContainsFilter(BooleanQuery.Builder query, String field, String value) {
+        if (value == null) {
+            return;
+        }
+        String escaped = value.replace("\\", "\\\\").replace("*", "\\*").replace("?", "\\?");
+        query.add(new WildcardQuery(new Term(field + RAW, "*" + escaped + "*")), BooleanClause.Occur.FILTER);
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(Pet pet, String rebuild) {
+        Document document = new Document();
+        document.add(new StringField(ID, pet.getId().toString(), Field.Store.YES));
+        document.add(new StringField(REBUILD, rebuild, Field.Store.NO));
+        addText(document, NAME, pet.getName());
+        addText(document, BREED, pet.getBreed());
+        addText(document, SHELTER_CITY, pet.getShelterCity());
+        if (pet.getSpecies() != null) {
+            document.add(new StringField(SPECIES, pet.getSpecies().name(), Field.Store.NO));
+        }
+        if (pet.getStatus() != null) {
+            document.add(new StringField(STATUS, pet.getStatus().name(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value == null) {
+            return;
+        }
+        document.add(new TextField(field, value, Field.Store.NO));
+        document.add(new StringField(field + RAW, value.toLowerCase(Locale.ROOT), Field.Store.NO));
+    }
+
+    private static Term idTerm(UUID id) {
+        return new Term(ID, id.toString());
+    }
+
+    /**
+     * Garante que a última escrita esteja visível: espera a thread de reabertura por até
+     * {@link #MAX_VISIBILITY_WAIT_MILLIS} e, se ela não reabrir a tempo, reabre o searcher aqui.
+     */
+    private void awaitLastWrite() throws IOException {
+        long generation = lastGeneration;
+        if (generation < 0) {
+            return;
+        }
+        boolean visible = false;
+        try {
+            visible = reopenThread.waitForGeneration(generation, (int) MAX_VISIBILITY_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!visible) {
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            logger.warn("Falha ao liberar o searcher do índice de pets: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        rebuildExecutor.shutdown();
+        try {
+            rebuildExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+        if (temporary) {
+            FileSystemUtils.deleteRecursively(indexPath);
+        }
+    }
+
+    /**
+     * Tokeniza, converte para minúsculas e remove acentos ("São Paulo" → "sao", "paulo").
+     */
+    private static final class PetAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream result = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            return new TokenStreamComponents(source, result);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.repository.DatabaseVendor;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import com.adoteumpet.adoteumpetapi.specification.PetSpecifications;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Serviço responsável pelo total de registros das buscas paginadas de pets.
+ * 
+ * Um COUNT(*) com os mesmos filtros LIKE da busca custa tanto quanto a própria página
+ * em tabelas grandes. Este serviço oferece duas alternativas mais baratas:
+ * - Estimativa do planejador do PostgreSQL para buscas sem filtros ou só com espécie/status
+ * - Contagem exata em cache por filtro normalizado, invalidada a cada {@link PetChangedEvent}
+ */
+@Service
+public class PetCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetCountService.class);
+
+    /**
+     * Nome do cache de contagens exatas por filtro.
+     */
+    public static final String COUNT_CACHE = "petCounts";
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseVendor databaseVendor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Retorna a quantidade de pets estimada pelo planejador do PostgreSQL (EXPLAIN),
+     * que usa as estatísticas da tabela em vez de percorrê-la.
+     * 
+     * Só é usada para buscas sem filtros ou apenas com espécie/status, em que a estimativa
+     * é confiável; buscas parciais por texto devem usar {@link #countExact(PetFilter)}.
+     * 
+     * @param filter filtro normalizado (ver {@link PetFilter#normalized()})
+     * @return total estimado, ou vazio se a estimativa não se aplica ou não pôde ser obtida
+     */
+    public OptionalLong plannerEstimate(PetFilter filter) {
+        if (!databaseVendor.isPostgreSql() || !filter.hasOnlyExactFilters()) {
+            return OptionalLong.empty();
+        }
+
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM pets WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (filter.getSpecies() != null) {
+            sql.append(" AND species = ?");
+            args.add(filter.getSpecies().name());
+        }
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = ?");
+            args.add(filter.getStatus().name());
+        }
+
+        try {
+            String plan = jdbcTemplate.queryForObject(sql.toString(), String.class, args.toArray());
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return planRows.isNumber() ? OptionalLong.of(planRows.asLong()) : OptionalLong.empty();
+        } catch (DataAccessException | IOException e) {
+            logger.warn("⚠️ Não foi possível obter a estimativa do planejador: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Conta com exatidão os pets que atendem ao filtro, guardando o resultado em cache.
+     *
+     * A contagem é feita no banco primário: um total lido da réplica, atrasado, ficaria em
+     * cache para todos os clientes. Se a transação atual já leu da réplica, o total não é guardado.
+     * 
+     * @param filter filtro normalizado (usado como chave do cache)
+     * @return total exato
+     */
+    @Cacheable(value = COUNT_CACHE, key = "#filter",
+            unless = "T(com.adoteumpet.adoteumpetapi.repository.ReadYourWrites).hasReadFromReplica()")
+    public long countExact(PetFilter filter) {
+        logger.debug("🔢 Contando pets para o filtro {} (CACHE MISS)", filter);
+        return ReadYourWrites.onPrimary(() -> petRepository.count(PetSpecifications.withFilter(filter)));
+    }
+
+    /**
+     * Descarta todas as contagens em cache após qualquer escrita em pets.
+     * @param event evento publicado pelo PetService
+     */
+    @CacheEvict(value = COUNT_CACHE, allEntries = true)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        logger.debug("🧹 Contagens de pets em cache invalidadas");
+    }
+
+    /**
+     * Descarta todas as contagens em cache após uma carga em massa.
+     * @param event evento publicado pelo PetImportService
+     */
+    @CacheEvict(value = COUNT_CACHE, allEntries = true)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetsImported(PetsImportedEvent event) {
+        logger.debug("🧹 Contagens de pets em cache invalidadas após importação de {} pets", event.imported());
+    }
+}
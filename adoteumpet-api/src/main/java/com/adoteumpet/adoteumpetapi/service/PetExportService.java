@@ -0,0 +1,173 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.ExportFormat;
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.specification.PetSpecifications;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável pela exportação do catálogo de pets (GET /api/pets/export).
+ *
+ * Os pets são lidos por um cursor do banco, {@link #FETCH_SIZE} linhas por vez, como
+ * projeções {@link PetSummary} que não entram no contexto de persistência, e escritos
+ * direto na resposta por um gerador Jackson. A memória usada não depende do tamanho da tabela.
+ */
+@Service
+public class PetExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetExportService.class);
+
+    /**
+     * Quantidade de linhas buscadas do banco por vez.
+     */
+    public static final int FETCH_SIZE = 500;
+
+    /**
+     * Quantidade de pets escritos entre cada envio do buffer ao cliente.
+     */
+    private static final int FLUSH_ROWS = 1000;
+
+    /**
+     * Colunas do CSV, na mesma ordem dos campos do JSON.
+     */
+    static final String[] CSV_COLUMNS = {
+        "id", "name", "species", "breed", "ageYears", "shelterCity", "shelterLat", "shelterLng", "status", "createdAt"
+    };
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumns(Arrays.asList(CSV_COLUMNS), CsvSchema.ColumnType.STRING)
+            .setUseHeader(true)
+            .build();
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Converte o parâmetro format da API.
+     * @param format nome do formato (ndjson ou csv)
+     * @return o formato correspondente
+     * @throws BadRequestException se o formato não for suportado
+     */
+    public ExportFormat parseFormat(String format) {
+        return ExportFormat.fromParam(format)
+                .orElseThrow(() -> new BadRequestException(
+                        "Formato de exportação inválido: '" + format + "'. Use ndjson ou csv."));
+    }
+
+    /**
+     * Escreve todos os pets que atendem aos filtros, ordenados por ID, no formato informado.
+     *
+     * Além dos filtros de GET /api/pets, aceita os critérios das listagens por cidade e por
+     * idade, usados pelas suas versões em streaming (GET /api/pets/city/{city}/stream e
+     * GET /api/pets/age/stream).
+     * A transação somente leitura mantém o cursor aberto no banco enquanto a resposta é escrita.
+     *
+     * @param filter filtros da listagem
+     * @param city cidade do abrigo com o nome exato (opcional)
+     * @param minAge idade mínima (opcional)
+     * @param maxAge idade máxima (opcional)
+     * @param format formato de saída
+     * @param output destino (corpo da resposta)
+     * @return quantidade de pets exportados
+     * @throws IOException se a escrita falhar (por exemplo, cliente desconectado)
+     */
+    @Transactional(readOnly = true)
+    public long export(PetFilter filter, String city, Integer minAge, Integer maxAge,
+                       ExportFormat format, OutputStream output) throws IOException {
+        Specification<Pet> spec = PetSpecifications.withFilter(filter)
+                .and(PetSpecifications.hasShelterCityEqualTo(city))
+                .and(PetSpecifications.hasAgeBetween(minAge, maxAge));
+
+        long start = System.currentTimeMillis();
+        try (Stream<PetSummary> pets = petRepository.streamSummaries(spec, Sort.by("id"), FETCH_SIZE)) {
+            long rows = format == ExportFormat.CSV
+                    ? writeCsv(pets.iterator(), output)
+                    : writeNdjson(pets.iterator(), output);
+            logger.info("📤 Exportação {} concluída com {} pets em {} ms",
+                    format, rows, System.currentTimeMillis() - start);
+            return rows;
+        }
+    }
+
+    private long writeNdjson(Iterator<PetSummary> pets, OutputStream output) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (pets.hasNext()) {
+                generator.writeObject(pets.next());
+                generator.writeRaw('\n');
+                if (++rows % FLUSH_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<PetSummary> pets, OutputStream output) throws IOException {
+        long rows = 0;
+        try (SequenceWriter writer = CSV_MAPPER.writer(CSV_SCHEMA).writeValues(output)) {
+            while (pets.hasNext()) {
+                writer.write(toCsvRow(pets.next()));
+                if (++rows % FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Converte o pet nas células do CSV, com os mesmos valores textuais do JSON.
+     * Campos nulos viram células vazias, para que toda linha tenha todas as colunas.
+     */
+    private static String[] toCsvRow(PetSummary pet) {
+        return new String[] {
+            text(pet.id()),
+            text(pet.name()),
+            text(pet.species()),
+            text(pet.breed()),
+            text(pet.ageYears()),
+            text(pet.shelterCity()),
+            pet.shelterLat() == null ? "" : pet.shelterLat().toPlainString(),
+            pet.shelterLng() == null ? "" : pet.shelterLng().toPlainString(),
+            text(pet.status()),
+            pet.createdAt() == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(pet.createdAt())
+        };
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,335 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.PetImportResult;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetBulkLoader;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável pela importação de pets por CSV (POST /api/pets/import).
+ *
+ * O arquivo é lido em streaming pelo parser do Jackson, token a token, reaproveitando o mesmo
+ * vetor de células e o mesmo {@link Pet} em todas as linhas: cada linha válida é entregue ao
+ * {@link PetBulkLoader} (COPY no PostgreSQL) assim que é lida, e cada linha inválida vai para
+ * o relatório de erros, um CSV com a linha, os erros e os valores originais. A memória usada
+ * não depende do tamanho do arquivo.
+ */
+@Service
+public class PetImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetImportService.class);
+
+    /**
+     * Colunas esperadas no arquivo, as mesmas de data/pets-seed.csv.
+     */
+    static final String[] CSV_COLUMNS = {
+        "name", "species", "breed", "age_years", "shelter_city", "shelter_lat", "shelter_lng", "status"
+    };
+
+    private static final int NAME = 0;
+    private static final int SPECIES = 1;
+    private static final int BREED = 2;
+    private static final int AGE_YEARS = 3;
+    private static final int SHELTER_CITY = 4;
+    private static final int SHELTER_LAT = 5;
+    private static final int SHELTER_LNG = 6;
+    private static final int STATUS = 7;
+
+    private static final int MAX_TEXT_LENGTH = 100;
+    private static final int MAX_AGE = 30;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private static final CsvSchema REPORT_SCHEMA = CsvSchema.builder()
+            .addColumn("line")
+            .addColumn("errors")
+            .addColumns(Arrays.asList(CSV_COLUMNS), CsvSchema.ColumnType.STRING)
+            .setUseHeader(true)
+            .build();
+
+    private final PetBulkLoader petBulkLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path reportDirectory;
+
+    public PetImportService(PetBulkLoader petBulkLoader, ApplicationEventPublisher eventPublisher,
+                            @Value("${adoteumpet.import.report-dir:}") String reportDir) throws IOException {
+        this.petBulkLoader = petBulkLoader;
+        this.eventPublisher = eventPublisher;
+        this.reportDirectory = reportDir == null || reportDir.isBlank()
+                ? Files.createTempDirectory("adoteumpet-imports")
+                : Files.createDirectories(Path.of(reportDir));
+    }
+
+    /**
+     * Importa os pets do CSV. As linhas válidas são gravadas em uma única transação.
+     * @param input conteúdo do arquivo, com cabeçalho
+     * @return quantidades importadas e recusadas, e o caminho do relatório de erros
+     * @throws BadRequestException se o arquivo estiver vazio ou o cabeçalho não for o esperado
+     * @throws IOException se a leitura do arquivo ou a escrita do relatório falhar
+     */
+    public PetImportResult importCsv(InputStream input) throws IOException {
+        UUID importId = UUID.randomUUID();
+        long start = System.currentTimeMillis();
+
+        long imported;
+        ErrorReport report = new ErrorReport(reportPath(importId));
+        try (CsvParser parser = CSV_MAPPER.getFactory().createParser(input); report) {
+            readHeader(parser);
+            imported = petBulkLoader.load(writer -> readRows(parser, writer, report));
+        }
+
+        if (imported > 0) {
+            eventPublisher.publishEvent(new PetsImportedEvent(imported));
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        logger.info("📥 Importação {} concluída: {} pets gravados e {} linhas recusadas em {} ms",
+                importId, imported, report.rows, elapsed);
+        return new PetImportResult(importId, imported, report.rows,
+                report.rows > 0 ? "/api/pets/import/" + importId + "/errors" : null, elapsed);
+    }
+
+    /**
+     * Localiza o relatório de erros de uma importação.
+     * @param importId identificador da importação
+     * @return arquivo do relatório, ou vazio se a importação não teve linhas recusadas
+     */
+    public Optional<Path> findErrorReport(UUID importId) {
+        Path path = reportPath(importId);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private Path reportPath(UUID importId) {
+        return reportDirectory.resolve(importId + "-errors.csv");
+    }
+
+    private static void readHeader(CsvParser parser) throws IOException {
+        String[] header = new String[CSV_COLUMNS.length];
+        int count = readRecord(parser, header);
+        if (count < 0) {
+            throw new BadRequestException("O arquivo CSV está vazio.");
+        }
+        boolean valid = count == CSV_COLUMNS.length;
+        for (int i = 0; valid && i < CSV_COLUMNS.length; i++) {
+            // Planilhas costumam gravar o CSV com BOM no início do arquivo
+            String column = i == 0 ? header[i].replace("\uFEFF", "") : header[i];
+            valid = CSV_COLUMNS[i].equalsIgnoreCase(column.trim());
+        }
+        if (!valid) {
+            throw new BadRequestException("Cabeçalho do CSV inválido. As colunas devem ser: "
+                    + String.join(",", CSV_COLUMNS));
+        }
+    }
+
+    private static void readRows(CsvParser parser, PetBulkLoader.RowWriter writer, ErrorReport report)
+            throws IOException, SQLException {
+        String[] cells = new String[CSV_COLUMNS.length];
+        Pet pet = new Pet();
+        StringBuilder errors = new StringBuilder();
+        long line = 1;
+
+        int count;
+        while ((count = readRecord(parser, cells)) >= 0) {
+            line++;
+            errors.setLength(0);
+            if (count != CSV_COLUMNS.length) {
+                errors.append("A linha deve ter ").append(CSV_COLUMNS.length).append(" colunas, mas tem ").append(count);
+                Arrays.fill(cells, Math.min(count, cells.length), cells.length, null);
+            } else {
+                parseRow(cells, pet, errors);
+            }
+
+            if (errors.length() == 0) {
+                writer.write(pet);
+            } else {
+                report.add(line, errors, cells);
+            }
+        }
+    }
+
+    /**
+     * Lê o próximo registro do CSV para o vetor de células, sem alocar um vetor por linha.
+     * @return quantidade de colunas do registro, ou -1 no fim do arquivo
+     */
+    private static int readRecord(CsvParser parser, String[] cells) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return -1;
+        }
+        int count = 0;
+        while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+            if (count < cells.length) {
+                cells[count] = parser.getText();
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Preenche o pet com as células da linha, com as mesmas regras de {@link com.adoteumpet.adoteumpetapi.dto.PetCreateDTO}.
+     * Os erros encontrados são acrescentados a {@code errors}, separados por "; ".
+     */
+    private static void parseRow(String[] cells, Pet pet, StringBuilder errors) {
+        pet.setName(requiredText(cells[NAME], "name", "O nome não pode ser vazio.",
+                "Nome deve ter no máximo 100 caracteres", errors));
+        pet.setSpecies(parseEnum(Species.class, cells[SPECIES], null, "species",
+                "Espécie inválida. Valores válidos são 'dog' ou 'cat'.", errors));
+        pet.setBreed(optionalText(cells[BREED], "breed", "Raça deve ter no máximo 100 caracteres", errors));
+        pet.setAgeYears(parseAge(cells[AGE_YEARS], errors));
+        pet.setShelterCity(requiredText(cells[SHELTER_CITY], "shelter_city", "Cidade do abrigo é obrigatória",
+                "Cidade deve ter no máximo 100 caracteres", errors));
+        pet.setShelterLat(parseCoordinate(cells[SHELTER_LAT], 90, "shelter_lat",
+                "Latitude deve estar entre -90 e 90 graus", errors));
+        pet.setShelterLng(parseCoordinate(cells[SHELTER_LNG], 180, "shelter_lng",
+                "Longitude deve estar entre -180 e 180 graus", errors));
+        pet.setStatus(parseEnum(Status.class, cells[STATUS], Status.AVAILABLE, "status",
+                "Status inválido. Valores válidos são 'AVAILABLE' ou 'ADOPTED'.", errors));
+    }
+
+    private static String requiredText(String cell, String column, String blankMessage, String tooLongMessage,
+                                       StringBuilder errors) {
+        String value = optionalText(cell, column, tooLongMessage, errors);
+        if (value == null) {
+            addError(errors, column, blankMessage);
+        }
+        return value;
+    }
+
+    private static String optionalText(String cell, String column, String tooLongMessage, StringBuilder errors) {
+        String value = cell.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.length() > MAX_TEXT_LENGTH) {
+            addError(errors, column, tooLongMessage);
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String cell, E defaultValue, String column,
+                                                   String message, StringBuilder errors) {
+        String value = cell.trim();
+        if (value.isEmpty() && defaultValue != null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            addError(errors, column, message);
+            return null;
+        }
+    }
+
+    private static Integer parseAge(String cell, StringBuilder errors) {
+        String value = cell.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            int age = Integer.parseInt(value);
+            if (age < 0) {
+                addError(errors, "age_years", "A idade deve ser um número positivo.");
+            } else if (age > MAX_AGE) {
+                addError(errors, "age_years", "Idade deve ser menor que 30 anos");
+            }
+            return age;
+        } catch (NumberFormatException e) {
+            addError(errors, "age_years", "A idade deve ser um número inteiro.");
+            return null;
+        }
+    }
+
+    private static BigDecimal parseCoordinate(String cell, int limit, String column, String message,
+                                              StringBuilder errors) {
+        String value = cell.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal coordinate = new BigDecimal(value);
+            if (coordinate.abs().compareTo(BigDecimal.valueOf(limit)) > 0) {
+                addError(errors, column, message);
+            } else if (coordinate.scale() > 8) {
+                addError(errors, column, "A coordenada deve ter no máximo 8 casas decimais");
+            }
+            return coordinate;
+        } catch (NumberFormatException e) {
+            addError(errors, column, message);
+            return null;
+        }
+    }
+
+    private static void addError(StringBuilder errors, String column, String message) {
+        if (errors.length() > 0) {
+            errors.append("; ");
+        }
+        errors.append(column).append(": ").append(message);
+    }
+
+    /**
+     * Relatório das linhas recusadas. O arquivo só é criado na primeira linha recusada.
+     */
+    private static final class ErrorReport implements Closeable {
+
+        private final Path path;
+        private OutputStream output;
+        private SequenceWriter writer;
+        private long rows;
+
+        ErrorReport(Path path) {
+            this.path = path;
+        }
+
+        void add(long line, CharSequence errors, String[] cells) throws IOException {
+            if (writer == null) {
+                output = new BufferedOutputStream(Files.newOutputStream(path));
+                writer = CSV_MAPPER.writer(REPORT_SCHEMA).writeValues(output);
+            }
+            String[] row = Stream.concat(Stream.of(Long.toString(line), errors.toString()), Arrays.stream(cells))
+                    .toArray(String[]::new);
+            writer.write(row);
+            rows++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                try (OutputStream ignored = output) {
+                    writer.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.PetCreateDTO;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converte um documento JSON Merge Patch (RFC 7396) de pet nas propriedades a alterar.
+ * 
+ * Apenas os campos editáveis são aceitos; cada valor é convertido para o tipo da propriedade
+ * e validado com as mesmas regras de {@link PetCreateDTO}. Um campo com null remove o valor
+ * (apenas para campos opcionais). Latitude e longitude são alteradas juntas, e o geohash é
+ * recalculado a partir delas.
+ */
+@Component
+public class PetPatchReader {
+
+    /**
+     * Campos editáveis e seus tipos, na ordem em que aparecem na entidade.
+     */
+    private static final Map<String, Class<?>> FIELDS = fields();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Lê as alterações do documento.
+     * 
+     * @param patch documento JSON Merge Patch
+     * @return propriedades de {@link com.adoteumpet.adoteumpetapi.model.Pet} e seus novos valores
+     * (vazio se o documento não altera nada)
+     * @throws BadRequestException se o documento tiver campo desconhecido ou valor inválido
+     */
+    public Map<String, Object> read(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("O corpo deve ser um objeto JSON (JSON Merge Patch).");
+        }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> field : patch.properties()) {
+            String name = field.getKey();
+            Class<?> type = FIELDS.get(name);
+            if (type == null) {
+                throw new BadRequestException(String.format(
+                        "Campo '%s' não pode ser alterado. Campos aceitos: %s.", name, String.join(", ", FIELDS.keySet())));
+            }
+            Object value = convert(name, field.getValue(), type);
+            validate(name, value);
+            changes.put(name, value);
+        }
+
+        boolean latitude = changes.containsKey("shelterLat");
+        if (latitude != changes.containsKey("shelterLng")) {
+            throw new BadRequestException("shelterLat e shelterLng devem ser alterados juntos.");
+        }
+        if (latitude) {
+            BigDecimal lat = (BigDecimal) changes.get("shelterLat");
+            BigDecimal lng = (BigDecimal) changes.get("shelterLng");
+            changes.put("geohash", lat == null || lng == null
+                    ? null
+                    : GeoHash.encode(lat.doubleValue(), lng.doubleValue(), GeoHash.MAX_PRECISION));
+        }
+        return changes;
+    }
+
+    private Object convert(String name, JsonNode value, Class<?> type) {
+        if (value.isNull()) {
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(value, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BadRequestException(String.format("Valor inválido para o campo '%s': %s", name, value));
+        }
+    }
+
+    private void validate(String name, Object value) {
+        if (name.equals("status") && value == null) {
+            throw new BadRequestException("O status não pode ser nulo.");
+        }
+        Set<ConstraintViolation<PetCreateDTO>> violations = validator.validateValue(PetCreateDTO.class, name, value);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.iterator().next().getMessage());
+        }
+    }
+
+    private static Map<String, Class<?>> fields() {
+        Map<String, Class<?>> fields = new LinkedHashMap<>();
+        fields.put("name", String.class);
+        fields.put("species", Species.class);
+        fields.put("breed", String.class);
+        fields.put("ageYears", Integer.class);
+        fields.put("shelterCity", String.class);
+        fields.put("shelterLat", BigDecimal.class);
+        fields.put("shelterLng", BigDecimal.class);
+        fields.put("status", Status.class);
+        return fields;
+    }
+}
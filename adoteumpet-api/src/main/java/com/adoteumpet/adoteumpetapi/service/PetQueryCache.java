@@ -0,0 +1,311 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.CountMode;
+import com.adoteumpet.adoteumpetapi.dto.PagedResponse;
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.dto.PetVersionStamp;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache das páginas de GET /api/pets (sem busca textual), por filtro normalizado,
+ * paginação/ordenação e modo de contagem, e dos resumos de versão que geram a ETag
+ * dessas listagens.
+ *
+ * Cada entrada é indexada por uma tag do seu filtro: a cidade, a espécie ou o status, nessa
+ * ordem (filtros sem nenhum deles ficam na tag {@link #UNTAGGED}). Um {@link PetChangedEvent}
+ * consulta apenas as tags do estado anterior e do novo de cada pet alterado e remove, entre
+ * essas entradas, as cujo filtro aceita um dos estados: são as únicas buscas em que o pet
+ * entrou, saiu, mudou de posição ou mudou de conteúdo. Páginas de outros filtros continuam em
+ * memória e não são percorridas. As páginas guardadas são compartilhadas e não devem ser
+ * alteradas.
+ *
+ * As entradas são carregadas do banco primário ({@link ReadYourWrites#onPrimary}): uma página
+ * lida da réplica, atrasada, seria servida a todos os clientes até a próxima invalidação,
+ * inclusive a quem acabou de gravar. Se a transação da busca já leu da réplica, o resultado é
+ * retornado sem ser guardado.
+ */
+@Component
+public class PetQueryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetQueryCache.class);
+
+    /**
+     * Nome do cache de páginas de pets.
+     */
+    public static final String PAGE_CACHE = "petPages";
+
+    /**
+     * Tag das entradas cujo filtro não tem cidade, espécie nem status (todos os pets ou apenas
+     * nome e raça), consultada em toda alteração.
+     */
+    static final String UNTAGGED = "*";
+
+    /**
+     * Chave de uma entrada invalidada pelos critérios do seu filtro.
+     */
+    interface FilteredKey {
+        PetFilter filter();
+    }
+
+    /**
+     * Chave do cache: a mesma busca com filtros escritos de formas diferentes gera a mesma chave.
+     */
+    record PageKey(PetFilter filter, Pageable pageable, CountMode countMode) implements FilteredKey {
+    }
+
+    /**
+     * Chave do resumo de versões de um filtro (independe da página).
+     */
+    record StampKey(PetFilter filter) implements FilteredKey {
+    }
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Quantidade de invalidações já realizadas. Uma página lida enquanto uma invalidação
+     * acontecia pode ter visto o estado anterior ao commit e não é mantida em cache.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Chaves em cache por tag de espécie ("species:DOG"), status ("status:ADOPTED") ou
+     * {@link #UNTAGGED}.
+     */
+    private final ConcurrentMap<String, Set<FilteredKey>> keysByTag = new ConcurrentHashMap<>();
+
+    /**
+     * Chaves em cache por termo de cidade (normalizado). O filtro de cidade é uma busca parcial,
+     * então um pet alcança todos os termos contidos na sua cidade.
+     */
+    private final ConcurrentMap<String, Set<FilteredKey>> keysByCity = new ConcurrentHashMap<>();
+
+    /**
+     * Quantidade aproximada de chaves nos índices. Entradas invalidadas, expiradas ou descartadas
+     * pelo Caffeine continuam indexadas até a próxima limpeza ({@link #pruneIndex}).
+     */
+    private final AtomicInteger indexedKeys = new AtomicInteger();
+
+    /**
+     * Retorna a página em cache ou a carrega e guarda.
+     *
+     * @param filter filtros da busca
+     * @param pageable paginação e ordenação
+     * @param countMode modo de cálculo do total
+     * @param loader consulta ao banco, executada apenas quando a página não está em cache
+     * @return página de pets
+     */
+    public PagedResponse<PetSummary> get(PetFilter filter, Pageable pageable, CountMode countMode,
+                                         Supplier<PagedResponse<PetSummary>> loader) {
+        return load(new PageKey(filter.normalized(), pageable, countMode), loader);
+    }
+
+    /**
+     * Retorna o resumo de versões do filtro em cache ou o calcula e guarda.
+     *
+     * @param filter filtros da busca
+     * @param loader consulta de agregação, executada apenas quando o resumo não está em cache
+     * @return resumo de versões dos pets do filtro
+     */
+    public PetVersionStamp getStamp(PetFilter filter, Supplier<PetVersionStamp> loader) {
+        return load(new StampKey(filter.normalized()), loader);
+    }
+
+    /**
+     * Remove as páginas afetadas pelas alterações, após o commit da transação.
+     * @param event alterações realizadas
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        List<Pet> touched = new ArrayList<>(event.changes().size() * 2);
+        for (PetChangedEvent.Change change : event.changes()) {
+            if (change.before() != null) {
+                touched.add(change.before());
+            }
+            if (change.after() != null) {
+                touched.add(change.after());
+            }
+        }
+
+        invalidations.incrementAndGet();
+        ConcurrentMap<Object, Object> entries = nativeCache();
+        int evicted = 0;
+        // As chaves removidas continuam no índice até a próxima limpeza: retirá-las aqui poderia
+        // desindexar a mesma chave recarregada por outra thread
+        for (Set<FilteredKey> keys : candidates(touched)) {
+            for (FilteredKey key : keys) {
+                if (touched.stream().anyMatch(pet -> key.filter().matches(pet)) && entries.remove(key) != null) {
+                    evicted++;
+                }
+            }
+        }
+        logger.debug("🧹 {} entradas de pets invalidadas ({} mantidas)", evicted, entries.size());
+    }
+
+    /**
+     * Remove todas as páginas e resumos após uma carga em massa, que pode afetar qualquer filtro.
+     * @param event carga realizada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetsImported(PetsImportedEvent event) {
+        invalidations.incrementAndGet();
+        ConcurrentMap<Object, Object> entries = nativeCache();
+        entries.keySet().removeIf(key -> key instanceof FilteredKey);
+        pruneIndex(entries);
+        logger.debug("🧹 Páginas de pets invalidadas após importação de {} pets", event.imported());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(FilteredKey key, Supplier<T> loader) {
+        ConcurrentMap<Object, Object> entries = nativeCache();
+
+        Object cached = entries.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long seen = invalidations.get();
+        T value = ReadYourWrites.onPrimary(loader);
+        if (ReadYourWrites.hasReadFromReplica()) {
+            return value;
+        }
+        entries.put(key, value);
+        // Indexada antes de conferir as invalidações: uma invalidação que começar depois da
+        // conferência já encontra a chave no índice
+        index(key, entries);
+        if (invalidations.get() != seen) {
+            entries.remove(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Conjuntos de chaves cujo filtro pode aceitar algum dos pets: as tags da espécie, do
+     * status e dos termos de cidade contidos na cidade de cada pet, além de {@link #UNTAGGED}.
+     */
+    private Set<Set<FilteredKey>> candidates(List<Pet> pets) {
+        Set<Set<FilteredKey>> candidates = new LinkedHashSet<>();
+        addIfPresent(candidates, keysByTag.get(UNTAGGED));
+        for (Pet pet : pets) {
+            if (pet.getSpecies() != null) {
+                addIfPresent(candidates, keysByTag.get(speciesTag(pet.getSpecies().name())));
+            }
+            if (pet.getStatus() != null) {
+                addIfPresent(candidates, keysByTag.get(statusTag(pet.getStatus().name())));
+            }
+            if (pet.getShelterCity() != null) {
+                String city = pet.getShelterCity().toLowerCase(Locale.ROOT);
+                for (Map.Entry<String, Set<FilteredKey>> entry : keysByCity.entrySet()) {
+                    if (city.contains(entry.getKey())) {
+                        candidates.add(entry.getValue());
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void addIfPresent(Set<Set<FilteredKey>> candidates, Set<FilteredKey> keys) {
+        if (keys != null) {
+            candidates.add(keys);
+        }
+    }
+
+    /**
+     * Indexa a chave pela tag mais seletiva do seu filtro (já normalizado). Basta uma: um pet
+     * aceito pelo filtro sempre alcança essa tag.
+     */
+    private void index(FilteredKey key, ConcurrentMap<Object, Object> entries) {
+        PetFilter filter = key.filter();
+        boolean added;
+        if (filter.getShelterCity() != null) {
+            added = add(keysByCity, filter.getShelterCity(), key);
+        } else if (filter.getSpecies() != null) {
+            added = add(keysByTag, speciesTag(filter.getSpecies().name()), key);
+        } else if (filter.getStatus() != null) {
+            added = add(keysByTag, statusTag(filter.getStatus().name()), key);
+        } else {
+            added = add(keysByTag, UNTAGGED, key);
+        }
+        if (added && indexedKeys.incrementAndGet() > 2 * Math.max(entries.size(), 500)) {
+            pruneIndex(entries);
+        }
+    }
+
+    /**
+     * Acrescenta a chave à tag dentro de compute, atômico em relação à remoção de tags vazias
+     * em {@link #pruneIndex}.
+     */
+    private static boolean add(ConcurrentMap<String, Set<FilteredKey>> index, String tag, FilteredKey key) {
+        boolean[] added = new boolean[1];
+        index.compute(tag, (t, keys) -> {
+            Set<FilteredKey> tagged = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            added[0] = tagged.add(key);
+            return tagged;
+        });
+        return added[0];
+    }
+
+    /**
+     * Remove dos índices as chaves que não estão mais no cache (invalidadas, expiradas ou além do
+     * tamanho máximo), para que os índices não cresçam além do próprio cache. Cada tag é limpa
+     * dentro de computeIfPresent, atômico em relação a {@link #add}: uma chave recarregada já está
+     * no cache quando é indexada de novo.
+     */
+    private void pruneIndex(ConcurrentMap<Object, Object> entries) {
+        indexedKeys.set(prune(keysByTag, entries) + prune(keysByCity, entries));
+    }
+
+    private static int prune(ConcurrentMap<String, Set<FilteredKey>> index, ConcurrentMap<Object, Object> entries) {
+        int remaining = 0;
+        for (String tag : index.keySet()) {
+            Set<FilteredKey> kept = index.computeIfPresent(tag, (t, keys) -> {
+                keys.removeIf(key -> !entries.containsKey(key));
+                return keys.isEmpty() ? null : keys;
+            });
+            remaining += kept == null ? 0 : kept.size();
+        }
+        return remaining;
+    }
+
+    private static String speciesTag(String species) {
+        return "species:" + species;
+    }
+
+    private static String statusTag(String status) {
+        return "status:" + status;
+    }
+
+    private Cache pageCache() {
+        return cacheManager.getCache(PAGE_CACHE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<Object, Object> nativeCache() {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) pageCache().getNativeCache()).asMap();
+    }
+}
@@ -1,20 +1,57 @@
 package com.adoteumpet.adoteumpetapi.service;
 
+import com.adoteumpet.adoteumpetapi.analytics.PetColumnStore;
+import com.adoteumpet.adoteumpetapi.analytics.StatsDimension;
+import com.adoteumpet.adoteumpetapi.analytics.StatsMetric;
+import com.adoteumpet.adoteumpetapi.dto.CountMode;
+import com.adoteumpet.adoteumpetapi.dto.CursorPagedResponse;
 import com.adoteumpet.adoteumpetapi.dto.PagedResponse;
+import com.adoteumpet.adoteumpetapi.dto.PetDistanceDTO;
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetStats;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.dto.PetVersion;
+import com.adoteumpet.adoteumpetapi.dto.PetVersionStamp;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
 import com.adoteumpet.adoteumpetapi.exception.ResourceNotFoundException;
+import com.adoteumpet.adoteumpetapi.geo.GeoCircle;
+import com.adoteumpet.adoteumpetapi.geo.GeoDistance;
 import com.adoteumpet.adoteumpetapi.model.Pet;
 import com.adoteumpet.adoteumpetapi.model.Species;
 import com.adoteumpet.adoteumpetapi.model.Status;
 import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.search.PetFacetIndex;
+import com.adoteumpet.adoteumpetapi.search.PetSearchIndex;
+import com.adoteumpet.adoteumpetapi.specification.DistanceCursor;
+import com.adoteumpet.adoteumpetapi.specification.PetCursor;
 import com.adoteumpet.adoteumpetapi.specification.PetSpecifications;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,9 +61,59 @@ import java.util.UUID;
 @Service
 public class PetService {
 
+    /**
+     * Tamanho máximo de página aceito na paginação por cursor.
+     */
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * Tamanho máximo de página das listagens por espécie, status, cidade e idade.
+     * Pedidos maiores são redirecionados para a exportação em streaming.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Propriedades aceitas na ordenação de GET /api/pets. Cada uma tem um índice (coluna, id)
+     * no PostgreSQL (migração V6), então a página é lida na ordem do índice, sem ordenar
+     * todas as linhas do filtro. O ID é sempre acrescentado como desempate.
+     */
+    public static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("name", "species", "ageYears", "shelterCity", "createdAt", "id");
+
+    /**
+     * Raio máximo aceito na busca por proximidade, em quilômetros.
+     */
+    public static final int MAX_RADIUS_KM = 500;
+
+    /**
+     * Quantidade máxima de pets aceita em um cadastro em lote.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
     @Autowired
     private PetRepository petRepository;
 
+    @Autowired
+    private PetCountService petCountService;
+
+    @Autowired
+    private PetSearchIndex petSearchIndex;
+
+    @Autowired
+    private PetFacetIndex petFacetIndex;
+
+    @Autowired
+    private PetColumnStore petColumnStore;
+
+    @Autowired
+    private PetQueryCache petQueryCache;
+
+    @Autowired
+    private PetPatchReader petPatchReader;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Salva um novo pet no banco de dados.
      * @param pet o pet a ser salvo
@@ -37,15 +124,34 @@ public class PetService {
         if (pet.getStatus() == null) {
             pet.setStatus(Status.AVAILABLE);
         }
-        return petRepository.save(pet);
+        Pet savedPet = petRepository.save(pet);
+        eventPublisher.publishEvent(PetChangedEvent.created(copyOf(savedPet)));
+        return savedPet;
     }
 
     /**
-     * Busca todos os pets cadastrados.
-     * @return lista de todos os pets
+     * Cadastra vários pets em uma única transação.
+     *
+     * Os IDs são gerados na aplicação (UUID), então o Hibernate agrupa os INSERTs em lotes
+     * JDBC (hibernate.jdbc.batch_size) em vez de ir ao banco a cada pet para obter a chave.
+     * Publica um único evento com todos os pets cadastrados.
+     * @param pets os pets a serem salvos (no máximo {@link #MAX_BATCH_SIZE})
+     * @return os pets salvos, na mesma ordem recebida
      */
-    public List<Pet> getAllPets() {
-        return petRepository.findAll();
+    @Transactional
+    public List<Pet> savePets(List<Pet> pets) {
+        if (pets.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(
+                    String.format("O lote deve ter no máximo %d pets.", MAX_BATCH_SIZE));
+        }
+        for (Pet pet : pets) {
+            if (pet.getStatus() == null) {
+                pet.setStatus(Status.AVAILABLE);
+            }
+        }
+        List<Pet> savedPets = petRepository.saveAll(pets);
+        eventPublisher.publishEvent(PetChangedEvent.created(savedPets.stream().map(PetService::copyOf).toList()));
+        return savedPets;
     }
 
     /**
@@ -58,32 +164,297 @@ public class PetService {
      * @param pageable configuração de paginação e ordenação
      * @return resposta paginada com os pets encontrados
      */
-    public PagedResponse<Pet> findPets(String name, Species species, String breed, 
+    @Transactional(readOnly = true)
+    public PagedResponse<PetSummary> findPets(String name, Species species, String breed, 
                                       String shelterCity, Status status, Pageable pageable) {
-        Specification<Pet> spec = Specification.where(null);
-        
-        if (name != null && !name.trim().isEmpty()) {
-            spec = spec.and(PetSpecifications.hasName(name));
+        return findPets(new PetFilter(name, species, breed, shelterCity, status), pageable);
+    }
+
+    /**
+     * Busca pets com filtros, paginação e ordenação.
+     * @param filter filtros a aplicar
+     * @param pageable configuração de paginação e ordenação
+     * @return resposta paginada com os pets encontrados
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<PetSummary> findPets(PetFilter filter, Pageable pageable) {
+        return findPets(filter, pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Busca pets com filtros, paginação e ordenação, escolhendo como o total é calculado.
+     * 
+     * - EXACT: página + COUNT(*) com os mesmos filtros, em cache no {@link PetCountService}
+     * - NONE: apenas a página, informando se existe próxima (sem COUNT)
+     * - ESTIMATED: página + estimativa do planejador ou contagem exata em cache
+     * 
+     * Os pets são lidos como projeções {@link PetSummary} (SELECT NEW), sem entidades gerenciadas.
+     * As páginas ficam no {@link PetQueryCache} até que uma escrita afete o filtro.
+     * 
+     * @param filter filtros a aplicar
+     * @param pageable configuração de paginação e ordenação
+     * @param countMode modo de cálculo do total
+     * @return resposta paginada com os pets encontrados (compartilhada pelo cache; não alterar)
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<PetSummary> findPets(PetFilter filter, Pageable pageable, CountMode countMode) {
+        Pageable indexed = withIndexedSort(pageable);
+        return petQueryCache.get(filter, indexed, countMode, () -> loadPets(filter, indexed, countMode));
+    }
+
+    /**
+     * Restringe a ordenação a uma das {@link #SORTABLE_PROPERTIES} e acrescenta o ID como desempate,
+     * na mesma direção, para que a ordem seja estável e coincida com a dos índices (coluna, id).
+     * Sem ordenação, usa name,asc.
+     * @throws BadRequestException se houver mais de uma propriedade, uma propriedade sem índice
+     *         ou ordenação sem diferenciar maiúsculas (que não usaria o índice)
+     */
+    private static Pageable withIndexedSort(Pageable pageable) {
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() > 1) {
+            throw new BadRequestException("Informe apenas uma propriedade de ordenação.");
+        }
+        Sort.Order order = orders.isEmpty() ? Sort.Order.asc("name") : orders.get(0);
+        if (!SORTABLE_PROPERTIES.contains(order.getProperty()) || order.isIgnoreCase()) {
+            throw new BadRequestException(String.format(
+                    "Ordenação por '%s' não é suportada. Use: %s.",
+                    order.getProperty(), String.join(", ", SORTABLE_PROPERTIES.stream().sorted().toList())));
+        }
+
+        Sort sort = "id".equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order).and(Sort.by(order.getDirection(), "id"));
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort) : pageable;
+    }
+
+    private PagedResponse<PetSummary> loadPets(PetFilter filter, Pageable pageable, CountMode countMode) {
+        Specification<Pet> spec = PetSpecifications.withFilter(filter);
+        PetFilter normalized = filter.normalized();
+
+        Slice<PetSummary> slice = petRepository.findSummarySlice(spec, pageable);
+        if (countMode == CountMode.EXACT) {
+            // O COUNT só é feito quando a página não revela o total (ex.: página cheia)
+            Page<PetSummary> page = PageableExecutionUtils.getPage(slice.getContent(), pageable,
+                    () -> petCountService.countExact(normalized));
+            return PagedResponse.from(page);
+        }
+
+        if (countMode == CountMode.NONE) {
+            return PagedResponse.fromSlice(slice);
+        }
+
+        long total = petCountService.plannerEstimate(normalized)
+                .orElseGet(() -> petCountService.countExact(normalized));
+        return PagedResponse.fromSlice(slice, total);
+    }
+
+    /**
+     * Conta os pets por espécie, status, cidade do abrigo e raça sob os filtros informados.
+     * 
+     * As contagens vêm do {@link PetFacetIndex} (interseção de bitmaps em memória), sem
+     * consultas GROUP BY no banco. O filtro de cada faceta não restringe as contagens
+     * dela mesma, para que a interface continue exibindo as demais opções.
+     * 
+     * @param filter filtros da listagem
+     * @return contagens por valor de cada faceta
+     */
+    public Map<String, Map<String, Long>> countFacets(PetFilter filter) {
+        return petFacetIndex.facets(filter);
+    }
+
+    /**
+     * Calcula estatísticas agregadas dos pets, agrupadas pelos campos informados.
+     * 
+     * Os valores vêm do {@link PetColumnStore} (varredura paralela de colunas em memória),
+     * sem consultas ao banco.
+     * 
+     * @param filter filtros da listagem
+     * @param groupBy campos de agrupamento: species, status, shelterCity e/ou breed (opcional)
+     * @param metrics métricas: count, avgAge e/ou ageHistogram
+     * @return grupos com as métricas solicitadas
+     * @throws BadRequestException se algum campo ou métrica não for reconhecido
+     */
+    public PetStats getStats(PetFilter filter, List<String> groupBy, List<String> metrics) {
+        List<StatsDimension> dimensions = new ArrayList<>();
+        for (String param : groupBy == null ? List.<String>of() : groupBy) {
+            StatsDimension dimension = StatsDimension.fromParam(param.trim())
+                    .orElseThrow(() -> new BadRequestException(
+                            "Campo de agrupamento inválido: '" + param + "'. Use species, status, shelterCity ou breed."));
+            if (dimensions.contains(dimension)) {
+                throw new BadRequestException("Campo de agrupamento repetido: '" + param + "'.");
+            }
+            dimensions.add(dimension);
+        }
+
+        EnumSet<StatsMetric> requested = EnumSet.noneOf(StatsMetric.class);
+        for (String param : metrics == null ? List.<String>of() : metrics) {
+            requested.add(StatsMetric.fromParam(param.trim())
+                    .orElseThrow(() -> new BadRequestException(
+                            "Métrica inválida: '" + param + "'. Use count, avgAge ou ageHistogram.")));
+        }
+        if (requested.isEmpty()) {
+            requested.add(StatsMetric.COUNT);
+        }
+
+        return petColumnStore.aggregate(filter, dimensions, requested);
+    }
+
+    /**
+     * Busca pets por texto livre em nome, raça e cidade do abrigo, ordenados por relevância.
+     * 
+     * A consulta é resolvida pelo {@link PetSearchIndex}; os pets da página são então
+     * carregados do banco pelos IDs e devolvidos na ordem de relevância. A ordenação do
+     * {@code pageable} é ignorada, pois o critério de ordenação é a própria relevância.
+     * 
+     * @param text texto da busca
+     * @param filter filtros adicionais a aplicar
+     * @param pageable página e tamanho desejados
+     * @return resposta paginada com os pets encontrados
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<PetSummary> searchPets(String text, PetFilter filter, Pageable pageable) {
+        PetSearchIndex.Hits hits = petSearchIndex.search(text, filter, pageable.getOffset(), pageable.getPageSize());
+
+        Map<UUID, PetSummary> byId = new HashMap<>();
+        if (!hits.ids().isEmpty()) {
+            petRepository.findSummariesByIdIn(hits.ids()).forEach(pet -> byId.put(pet.id(), pet));
+        }
+        List<PetSummary> pets = new ArrayList<>(hits.ids().size());
+        for (UUID id : hits.ids()) {
+            PetSummary pet = byId.get(id);
+            // Um pet removido ainda não refletido no índice é simplesmente omitido
+            if (pet != null) {
+                pets.add(pet);
+            }
+        }
+
+        int size = pageable.getPageSize();
+        int totalPages = (int) Math.ceil((double) hits.total() / size);
+        return new PagedResponse<>(pets, pageable.getPageNumber(), size, hits.total(), totalPages);
+    }
+
+    /**
+     * Busca pets com filtros usando paginação por cursor (keyset).
+     * 
+     * A ordenação usa a primeira propriedade informada e o ID como desempate, de modo
+     * que cada página é obtida por uma busca de faixa no índice, sem OFFSET e sem COUNT.
+     * 
+     * @param filter filtros a aplicar
+     * @param sort ordenação desejada (apenas a primeira propriedade é considerada)
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página
+     * @return página de pets (projeções, fora do contexto de persistência) com o cursor da próxima página
+     * @throws BadRequestException se a ordenação ou o cursor forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetSummary> scrollPets(PetFilter filter, Sort sort, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException(
+                    String.format("O tamanho da página deve estar entre 1 e %d.", MAX_CURSOR_PAGE_SIZE));
+        }
+
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("name"));
+        if (!PetCursor.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new BadRequestException(String.format(
+                    "Ordenação por '%s' não suporta paginação por cursor. Use: %s.",
+                    order.getProperty(), String.join(", ", PetCursor.SORTABLE_PROPERTIES)));
+        }
+        return scroll(PetSpecifications.withFilter(filter), order, cursor, size);
+    }
+
+    /**
+     * Lê uma página por keyset: cada página é uma busca de faixa no índice a partir do cursor.
+     */
+    private CursorPagedResponse<PetSummary> scroll(Specification<Pet> filterSpec, Sort.Order order,
+                                                   String cursor, int size) {
+        PetCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            position = PetCursor.decode(cursor);
+            if (!position.matches(order)) {
+                throw new BadRequestException("O cursor informado foi gerado com outra ordenação.");
+            }
         }
-        
-        if (species != null) {
-            spec = spec.and(PetSpecifications.hasSpecies(species));
+
+        Specification<Pet> spec = filterSpec.and(PetSpecifications.after(position));
+        Sort keysetSort = "id".equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order).and(Sort.by(order.getDirection(), "id"));
+
+        // Busca um registro a mais para saber se existe próxima página
+        List<PetSummary> pets = petRepository.findSummaryWindow(spec, keysetSort, size + 1);
+        if (pets.size() <= size) {
+            return new CursorPagedResponse<>(pets, size, null);
         }
-        
-        if (breed != null && !breed.trim().isEmpty()) {
-            spec = spec.and(PetSpecifications.hasBreed(breed));
+
+        List<PetSummary> page = pets.subList(0, size);
+        String next = PetCursor.after(page.get(size - 1), order).encode();
+        return new CursorPagedResponse<>(new ArrayList<>(page), size, next);
+    }
+
+    /**
+     * Busca pets próximos a uma coordenada, do mais próximo ao mais distante, com paginação por cursor.
+     * 
+     * O raio é coberto por células geohash resolvidas pelo índice {@code idx_pets_geohash};
+     * a ordenação usa uma chave de distância equirretangular calculada pelo banco apenas
+     * para as linhas dessas células. A distância exibida é calculada por haversine
+     * somente para os pets da página.
+     * 
+     * @param filter filtros a aplicar
+     * @param lat latitude da origem
+     * @param lng longitude da origem
+     * @param radiusKm raio da busca em quilômetros
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página
+     * @return página de pets com distância e o cursor da próxima página
+     * @throws BadRequestException se coordenadas, raio, tamanho ou cursor forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetDistanceDTO> findNearbyPets(PetFilter filter, double lat, double lng,
+                                                             double radiusKm, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException(
+                    String.format("O tamanho da página deve estar entre 1 e %d.", MAX_CURSOR_PAGE_SIZE));
         }
-        
-        if (shelterCity != null && !shelterCity.trim().isEmpty()) {
-            spec = spec.and(PetSpecifications.hasShelterCity(shelterCity));
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new BadRequestException("Coordenadas inválidas: lat deve estar entre -90 e 90 e lng entre -180 e 180.");
         }
-        
-        if (status != null) {
-            spec = spec.and(PetSpecifications.hasStatus(status));
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new BadRequestException(
+                    String.format("O raio deve ser maior que 0 e no máximo %d km.", MAX_RADIUS_KM));
         }
-        
-        Page<Pet> page = petRepository.findAll(spec, pageable);
-        return PagedResponse.from(page);
+
+        GeoCircle circle = new GeoCircle(lat, lng, radiusKm);
+        DistanceCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            position = DistanceCursor.decode(cursor);
+            if (!position.matches(circle)) {
+                throw new BadRequestException("O cursor informado foi gerado para outra origem de busca.");
+            }
+        }
+
+        Specification<Pet> spec = PetSpecifications.withFilter(filter)
+                .and(PetSpecifications.withinRadius(circle))
+                .and(PetSpecifications.afterDistance(position, circle));
+
+        // Busca um registro a mais para saber se existe próxima página
+        List<PetRepository.NearbyPet> nearby = petRepository.findNearest(spec, circle, size + 1);
+        boolean hasNext = nearby.size() > size;
+        List<PetRepository.NearbyPet> page = hasNext ? nearby.subList(0, size) : nearby;
+
+        List<PetDistanceDTO> data = new ArrayList<>(page.size());
+        for (PetRepository.NearbyPet item : page) {
+            Pet pet = item.pet();
+            double distanceKm = GeoDistance.haversineKm(lat, lng,
+                    pet.getShelterLat().doubleValue(), pet.getShelterLng().doubleValue());
+            data.add(new PetDistanceDTO(pet, Math.round(distanceKm * 100) / 100.0));
+        }
+
+        String next = null;
+        if (hasNext) {
+            PetRepository.NearbyPet last = page.get(size - 1);
+            next = DistanceCursor.after(circle, last.distanceKey(), last.pet().getId()).encode();
+        }
+        return new CursorPagedResponse<>(data, size, next);
     }
 
     /**
@@ -92,6 +463,7 @@ public class PetService {
      * @return o pet encontrado
      * @throws ResourceNotFoundException se o pet não for encontrado
      */
+    @Transactional(readOnly = true)
     public Pet getPetById(UUID id) {
         return petRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -99,59 +471,128 @@ public class PetService {
     }
 
     /**
-     * Busca pets por espécie.
+     * Busca apenas a versão de um pet, sem carregar a entidade.
+     * Usada para responder requisições condicionais (If-None-Match) com 304.
+     * @param id o ID do pet
+     * @return a versão atual do pet
+     * @throws ResourceNotFoundException se o pet não for encontrado
+     */
+    @Transactional(readOnly = true)
+    public long getPetVersion(UUID id) {
+        return petRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    String.format("Pet com ID '%s' não encontrado.", id)));
+    }
+
+    /**
+     * Calcula o resumo de versões dos pets que atendem aos filtros, base da ETag fraca
+     * de GET /api/pets. A agregação lê todos os pets do filtro, mais do que um COUNT(*), e só
+     * deve ser usada quando a ETag é enviada. O resumo fica no {@link PetQueryCache} até que uma
+     * alteração atinja o filtro.
+     * @param filter filtros da listagem
+     * @return quantidade, soma das versões e maior data de alteração dos pets do filtro
+     */
+    @Transactional(readOnly = true)
+    public PetVersionStamp getListVersion(PetFilter filter) {
+        return petQueryCache.getStamp(filter,
+                () -> petRepository.findVersionStamp(PetSpecifications.withFilter(filter)));
+    }
+
+    /**
+     * Busca uma página de pets por espécie.
      * @param species a espécie desejada
-     * @return lista de pets da espécie especificada
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (máximo: {@link #MAX_PAGE_SIZE})
+     * @return página de pets da espécie especificada
      */
-    public List<Pet> getPetsBySpecies(Species species) {
-        return petRepository.findBySpecies(species);
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetSummary> getPetsBySpecies(Species species, String cursor, int size) {
+        return listPets(PetSpecifications.hasSpecies(species), cursor, size);
     }
 
     /**
-     * Busca pets por status.
+     * Busca uma página de pets por status.
      * @param status o status desejado
-     * @return lista de pets com o status especificado
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (máximo: {@link #MAX_PAGE_SIZE})
+     * @return página de pets com o status especificado
      */
-    public List<Pet> getPetsByStatus(Status status) {
-        return petRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetSummary> getPetsByStatus(Status status, String cursor, int size) {
+        return listPets(PetSpecifications.hasStatus(status), cursor, size);
     }
 
     /**
-     * Busca pets disponíveis para adoção.
-     * @return lista de pets disponíveis
+     * Busca uma página de pets disponíveis para adoção.
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (máximo: {@link #MAX_PAGE_SIZE})
+     * @return página de pets disponíveis
      */
-    public List<Pet> getAvailablePets() {
-        return petRepository.findAvailablePets();
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetSummary> getAvailablePets(String cursor, int size) {
+        return getPetsByStatus(Status.AVAILABLE, cursor, size);
     }
 
     /**
-     * Busca pets por cidade do abrigo.
+     * Busca uma página de pets por cidade do abrigo (nome exato).
      * @param city a cidade do abrigo
-     * @return lista de pets na cidade especificada
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (máximo: {@link #MAX_PAGE_SIZE})
+     * @return página de pets na cidade especificada
      */
-    public List<Pet> getPetsByCity(String city) {
-        return petRepository.findByShelterCity(city);
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetSummary> getPetsByCity(String city, String cursor, int size) {
+        return listPets(PetSpecifications.hasShelterCityEqualTo(city), cursor, size);
     }
 
     /**
-     * Busca pets por faixa etária.
+     * Busca uma página de pets por faixa etária.
      * @param minAge idade mínima
      * @param maxAge idade máxima
-     * @return lista de pets na faixa etária
+     * @param cursor cursor retornado pela página anterior (opcional)
+     * @param size quantidade de pets por página (máximo: {@link #MAX_PAGE_SIZE})
+     * @return página de pets na faixa etária
      */
-    public List<Pet> getPetsByAgeRange(Integer minAge, Integer maxAge) {
-        return petRepository.findByAgeBetween(minAge, maxAge);
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<PetSummary> getPetsByAgeRange(Integer minAge, Integer maxAge, String cursor, int size) {
+        return listPets(PetSpecifications.hasAgeBetween(minAge, maxAge), cursor, size);
+    }
+
+    /**
+     * Lê uma página das listagens por espécie, status, cidade e idade, ordenada por ID.
+     * 
+     * Usa a paginação por cursor de GET /api/pets/scroll, com o ID como chave: cada página é
+     * uma busca de faixa nos índices (filtro, id), sem OFFSET, e lê no máximo
+     * {@link #MAX_PAGE_SIZE} + 1 linhas. Listas maiores devem usar a versão em streaming.
+     */
+    private CursorPagedResponse<PetSummary> listPets(Specification<Pet> spec, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    String.format("O tamanho da página deve estar entre 1 e %d.", MAX_PAGE_SIZE));
+        }
+        return scroll(spec, Sort.Order.asc("id"), cursor, size);
     }
 
     /**
      * Atualiza um pet existente.
+     * 
+     * A gravação usa o controle otimista de versão: se outra requisição alterar o pet entre
+     * a leitura e a gravação, a atualização é rejeitada em vez de sobrescrever a alteração.
+     * Quando {@code updatedPet} traz uma versão (If-Match em PUT /api/pets/{id}), ela também
+     * precisa ser a versão atual.
+     * 
      * @param id o ID do pet a ser atualizado
      * @param updatedPet os dados atualizados do pet
      * @return o pet atualizado
      * @throws ResourceNotFoundException se o pet não for encontrado
+     * @throws OptimisticLockingFailureException se o pet foi alterado por outra requisição
      */
     public Pet updatePet(UUID id, Pet updatedPet) {
         Pet existingPet = getPetById(id); // Usa o método que já lança exceção
+        if (updatedPet.getVersion() != null && !updatedPet.getVersion().equals(existingPet.getVersion())) {
+            throw versionConflict(id);
+        }
+        Pet before = copyOf(existingPet);
         existingPet.setName(updatedPet.getName());
         existingPet.setSpecies(updatedPet.getSpecies());
         existingPet.setBreed(updatedPet.getBreed());
@@ -160,23 +601,145 @@ public class PetService {
         existingPet.setShelterLat(updatedPet.getShelterLat());
         existingPet.setShelterLng(updatedPet.getShelterLng());
         existingPet.setStatus(updatedPet.getStatus());
-        return petRepository.save(existingPet);
+        Pet savedPet = petRepository.save(existingPet);
+        eventPublisher.publishEvent(PetChangedEvent.updated(before, copyOf(savedPet)));
+        return savedPet;
+    }
+
+    /**
+     * Altera apenas os campos enviados em um documento JSON Merge Patch.
+     * 
+     * O pet não é carregado: a alteração é uma única instrução UPDATE com as colunas enviadas
+     * ({@link PetRepository#patchReturningPrevious(UUID, Map, Long)}), que devolve a linha
+     * anterior para o {@link PetChangedEvent}. Colunas indexadas que não foram enviadas não
+     * são reescritas.
+     * 
+     * @param id o ID do pet
+     * @param patch documento JSON Merge Patch com os campos a alterar
+     * @param expectedVersion versão esperada do pet (If-Match), ou null
+     * @return o pet alterado
+     * @throws BadRequestException se o documento tiver campo desconhecido ou valor inválido
+     * @throws ResourceNotFoundException se o pet não for encontrado
+     * @throws OptimisticLockingFailureException se a versão do pet não for a esperada
+     */
+    public Pet patchPet(UUID id, JsonNode patch, Long expectedVersion) {
+        Map<String, Object> changes = petPatchReader.read(patch);
+        if (changes.isEmpty()) {
+            Pet pet = getPetById(id);
+            if (expectedVersion != null && !expectedVersion.equals(pet.getVersion())) {
+                throw versionConflict(id);
+            }
+            return pet;
+        }
+
+        changes.put("updatedAt", LocalDateTime.now());
+        Optional<Pet> previous = petRepository.patchReturningPrevious(id, changes, expectedVersion);
+        if (previous.isEmpty()) {
+            if (expectedVersion != null && petRepository.existsById(id)) {
+                throw versionConflict(id);
+            }
+            throw new ResourceNotFoundException(String.format("Pet com ID '%s' não encontrado.", id));
+        }
+
+        Pet before = previous.get();
+        Pet after = copyOf(before);
+        new BeanWrapperImpl(after).setPropertyValues(changes);
+        after.setVersion(before.getVersion() + 1);
+        eventPublisher.publishEvent(PetChangedEvent.updated(before, after));
+        return after;
     }
 
     /**
      * Marca um pet como adotado.
+     * 
+     * A verificação do status e a alteração acontecem em uma única instrução no banco
+     * ({@link PetRepository#adoptIfAvailable(UUID)}): com adotantes simultâneos, apenas um
+     * deles adota o pet e os demais recebem false.
+     * 
      * @param id o ID do pet
      * @return true se o pet foi encontrado e atualizado, false se já estava adotado
      * @throws ResourceNotFoundException se o pet não for encontrado
      */
     public boolean adoptPet(UUID id) {
-        Pet pet = getPetById(id); // Usa o método que já lança exceção
-        if (pet.getStatus() == Status.AVAILABLE) {
-            pet.setStatus(Status.ADOPTED);
-            petRepository.save(pet);
-            return true;
+        Optional<Pet> adopted = petRepository.adoptIfAvailable(id);
+        if (adopted.isEmpty()) {
+            if (!petRepository.existsById(id)) {
+                throw new ResourceNotFoundException(String.format("Pet com ID '%s' não encontrado.", id));
+            }
+            return false;
         }
-        return false;
+
+        Pet after = adopted.get();
+        Pet before = copyOf(after);
+        before.setStatus(Status.AVAILABLE);
+        before.setVersion(after.getVersion() - 1);
+        eventPublisher.publishEvent(PetChangedEvent.updated(before, after));
+        return true;
+    }
+
+    /**
+     * Muda o status de vários pets de uma só vez, por lista de IDs ou por filtro.
+     * 
+     * A alteração é uma única instrução no banco ({@link PetRepository#transitionStatus}),
+     * que só altera os pets que ainda não estão no novo status. Um filtro é primeiro convertido
+     * nos IDs dos pets que ele seleciona, com o mesmo limite de {@link #MAX_BATCH_SIZE} pets da
+     * lista de IDs, para que uma única requisição não trave nem carregue uma parte grande da tabela.
+     * Publica um único evento com todos os pets alterados, para que índices e caches sejam
+     * atualizados uma vez.
+     * 
+     * @param status novo status
+     * @param ids IDs dos pets (no máximo {@link #MAX_BATCH_SIZE}), ou null para usar o filtro
+     * @param filter filtro dos pets (que selecione no máximo {@link #MAX_BATCH_SIZE}), ou null para usar os IDs
+     * @return IDs e novas versões dos pets alterados, em ordem de ID
+     * @throws BadRequestException se não houver exatamente um critério de seleção válido,
+     * ou se o filtro selecionar mais de {@link #MAX_BATCH_SIZE} pets
+     */
+    @Transactional
+    public List<PetVersion> updateStatus(Status status, List<UUID> ids, PetFilter filter) {
+        if ((ids == null) == (filter == null)) {
+            throw new BadRequestException("Informe a lista de IDs ou o filtro dos pets, mas não os dois.");
+        }
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE)) {
+            throw new BadRequestException(
+                    String.format("A lista de IDs deve ter entre 1 e %d pets.", MAX_BATCH_SIZE));
+        }
+        if (filter != null && filter.isEmpty()) {
+            throw new BadRequestException("O filtro deve ter ao menos um critério.");
+        }
+
+        Status previous = status == Status.ADOPTED ? Status.AVAILABLE : Status.ADOPTED;
+        Set<UUID> selected;
+        if (ids != null) {
+            selected = new LinkedHashSet<>(ids);
+        } else {
+            List<UUID> matching = petRepository.findIds(
+                    PetSpecifications.withFilter(filter).and(PetSpecifications.hasStatus(previous)), MAX_BATCH_SIZE + 1);
+            if (matching.size() > MAX_BATCH_SIZE) {
+                throw new BadRequestException(String.format(
+                        "O filtro seleciona mais de %d pets. Refine o filtro ou informe a lista de IDs.", MAX_BATCH_SIZE));
+            }
+            selected = new LinkedHashSet<>(matching);
+        }
+        if (selected.isEmpty()) {
+            return List.of();
+        }
+
+        List<Pet> updated = petRepository.transitionStatus(previous, status, selected);
+        if (updated.isEmpty()) {
+            return List.of();
+        }
+        List<PetChangedEvent.Change> changes = new ArrayList<>(updated.size());
+        for (Pet after : updated) {
+            Pet before = copyOf(after);
+            before.setStatus(previous);
+            before.setVersion(after.getVersion() - 1);
+            changes.add(new PetChangedEvent.Change(after.getId(), before, after));
+        }
+        eventPublisher.publishEvent(new PetChangedEvent(changes));
+        return updated.stream()
+                .map(pet -> new PetVersion(pet.getId(), pet.getVersion()))
+                .sorted(Comparator.comparing(PetVersion::id))
+                .toList();
     }
 
     /**
@@ -185,10 +748,30 @@ public class PetService {
      * @return true se o pet foi encontrado e removido, false caso contrário
      */
     public boolean deletePet(UUID id) {
-        if (petRepository.existsById(id)) {
-            petRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        Optional<Pet> removed = petRepository.deleteReturning(id);
+        removed.ifPresent(pet -> eventPublisher.publishEvent(PetChangedEvent.deleted(pet)));
+        return removed.isPresent();
+    }
+
+    /**
+     * Cria o erro de escrita condicional rejeitada por versão desatualizada.
+     * @param id ID do pet
+     * @return exceção tratada como 409 pelo GlobalExceptionHandler
+     */
+    private static OptimisticLockingFailureException versionConflict(UUID id) {
+        return new OptimisticLockingFailureException(
+                String.format("O pet com ID '%s' foi alterado por outra requisição.", id));
+    }
+
+    /**
+     * Cria uma cópia desanexada do pet para ser publicada em eventos,
+     * evitando que os ouvintes vejam alterações posteriores na entidade gerenciada.
+     * @param pet o pet a copiar
+     * @return cópia com os mesmos valores
+     */
+    private static Pet copyOf(Pet pet) {
+        Pet copy = new Pet();
+        BeanUtils.copyProperties(pet, copy);
+        return copy;
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetTile;
+import com.adoteumpet.adoteumpetapi.dto.TileCluster;
+import com.adoteumpet.adoteumpetapi.dto.TilePoint;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.geo.MapTile;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serviço responsável pelos tiles de mapa de pets (GET /api/pets/tiles/{z}/{x}/{y}).
+ *
+ * - Zoom baixo: agrupamentos por célula geohash, calculados pelo banco com GROUP BY
+ * - Zoom alto: pets individuais, limitados a {@link #MAX_POINTS_PER_TILE} por tile
+ *   (tiles mais densos voltam a ser agrupados)
+ *
+ * Os tiles ficam no cache "petTiles" e cada {@link PetChangedEvent} remove apenas
+ * os tiles, em todos os zooms, que contêm a localização anterior ou a nova do pet.
+ * Os tiles são carregados do banco primário, nunca da réplica, para não guardar um estado atrasado.
+ */
+@Service
+public class PetTileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetTileService.class);
+
+    /**
+     * Nome do cache de tiles.
+     */
+    public static final String TILE_CACHE = "petTiles";
+
+    /**
+     * Zoom a partir do qual os tiles trazem pets individuais.
+     */
+    public static final int POINTS_MIN_ZOOM = 14;
+
+    /**
+     * Quantidade máxima de pets individuais em um tile.
+     */
+    public static final int MAX_POINTS_PER_TILE = 500;
+
+    /**
+     * Quantidade aproximada de colunas de agrupamentos por tile; limita o tamanho da resposta.
+     */
+    private static final int CLUSTER_COLUMNS = 8;
+
+    /**
+     * Chave do cache: o tile e os filtros aceitos pelo endpoint.
+     */
+    record TileKey(MapTile tile, Species species, Status status) {
+    }
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Retorna o conteúdo do tile, a partir do cache quando disponível.
+     *
+     * @param tile tile de mapa
+     * @param species filtro por espécie (opcional)
+     * @param status filtro por status (opcional)
+     * @return agrupamentos ou pets individuais do tile
+     * @throws BadRequestException se o tile não existir
+     */
+    public PetTile getTile(MapTile tile, Species species, Status status) {
+        if (!tile.isValid()) {
+            throw new BadRequestException(String.format(
+                    "Tile inválido: z deve estar entre 0 e %d e x, y entre 0 e 2^z - 1.", MapTile.MAX_ZOOM));
+        }
+        TileKey key = new TileKey(tile, species, status);
+        PetTile cached = tileCache().get(key, PetTile.class);
+        if (cached != null) {
+            return cached;
+        }
+        PetTile loaded = ReadYourWrites.onPrimary(() -> loadTile(key));
+        if (!ReadYourWrites.hasReadFromReplica()) {
+            tileCache().put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Remove do cache os tiles afetados pelas alterações, após o commit da transação.
+     * @param event alterações realizadas
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        Set<MapTile> affected = new HashSet<>();
+        for (PetChangedEvent.Change change : event.changes()) {
+            addTiles(affected, change.before());
+            addTiles(affected, change.after());
+        }
+        if (affected.isEmpty()) {
+            return;
+        }
+        nativeCache().keySet().removeIf(key -> key instanceof TileKey tileKey && affected.contains(tileKey.tile()));
+        logger.debug("🧹 Tiles de mapa invalidados em {} posições", affected.size());
+    }
+
+    /**
+     * Remove todos os tiles do cache após uma carga em massa.
+     * @param event carga realizada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetsImported(PetsImportedEvent event) {
+        nativeCache().keySet().removeIf(key -> key instanceof TileKey);
+        logger.debug("🧹 Tiles de mapa invalidados após importação de {} pets", event.imported());
+    }
+
+    private PetTile loadTile(TileKey key) {
+        MapTile tile = key.tile();
+        PetFilter filter = new PetFilter(null, key.species(), null, null, key.status());
+
+        if (tile.z() >= POINTS_MIN_ZOOM) {
+            List<TilePoint> points = petRepository.findTilePoints(tile, filter, MAX_POINTS_PER_TILE + 1);
+            if (points.size() <= MAX_POINTS_PER_TILE) {
+                return new PetTile(tile.z(), tile.x(), tile.y(), points.size(), null, points);
+            }
+        }
+
+        int precision = GeoHash.precisionForWidth(tile.width() / CLUSTER_COLUMNS);
+        List<TileCluster> clusters = petRepository.findTileClusters(tile, filter, precision);
+        long total = clusters.stream().mapToLong(TileCluster::getCount).sum();
+        return new PetTile(tile.z(), tile.x(), tile.y(), total, clusters, null);
+    }
+
+    private static void addTiles(Set<MapTile> tiles, Pet pet) {
+        if (pet == null || pet.getShelterLat() == null || pet.getShelterLng() == null) {
+            return;
+        }
+        double lat = pet.getShelterLat().doubleValue();
+        double lng = pet.getShelterLng().doubleValue();
+        for (int z = 0; z <= MapTile.MAX_ZOOM; z++) {
+            tiles.add(MapTile.containing(lat, lng, z));
+        }
+    }
+
+    private Cache tileCache() {
+        return cacheManager.getCache(TILE_CACHE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<Object, Object> nativeCache() {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) tileCache().getNativeCache()).asMap();
+    }
+}
@@ -0,0 +1,93 @@
+package com.adoteumpet.adoteumpetapi.specification;
+
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.geo.GeoCircle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da busca por proximidade (GET /api/pets/near).
+ *
+ * Guarda a origem da busca, a chave de distância e o ID do último pet entregue.
+ * A próxima página é buscada com {@code (distância, id) > (ultimaDistancia, ultimoId)},
+ * no mesmo esquema de keyset de {@link PetCursor}.
+ */
+public final class DistanceCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final double lat;
+    private final double lng;
+    private final double distanceKey;
+    private final UUID id;
+
+    private DistanceCursor(double lat, double lng, double distanceKey, UUID id) {
+        this.lat = lat;
+        this.lng = lng;
+        this.distanceKey = distanceKey;
+        this.id = id;
+    }
+
+    /**
+     * Cria o cursor que aponta para a posição logo após o pet informado.
+     *
+     * @param circle área da busca atual
+     * @param distanceKey chave de distância do último pet da página
+     * @param id ID do último pet da página
+     * @return cursor para a próxima página
+     */
+    public static DistanceCursor after(GeoCircle circle, double distanceKey, UUID id) {
+        return new DistanceCursor(circle.lat(), circle.lng(), distanceKey, id);
+    }
+
+    /**
+     * Serializa o cursor em um token opaco seguro para URLs.
+     *
+     * @return token Base64 (URL-safe) do cursor
+     */
+    public String encode() {
+        String raw = lat + SEPARATOR + lng + SEPARATOR + distanceKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstrói um cursor a partir do token recebido do cliente.
+     *
+     * @param token o token gerado por {@link #encode()}
+     * @return o cursor decodificado
+     * @throws BadRequestException se o token estiver corrompido
+     */
+    public static DistanceCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Formato de cursor desconhecido");
+            }
+            return new DistanceCursor(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2]), UUID.fromString(parts[3]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor de paginação inválido.", e);
+        }
+    }
+
+    /**
+     * Verifica se o cursor foi gerado para a mesma origem da requisição atual.
+     *
+     * @param circle área da busca atual
+     * @return true se latitude e longitude coincidem
+     */
+    public boolean matches(GeoCircle circle) {
+        return Double.compare(lat, circle.lat()) == 0 && Double.compare(lng, circle.lng()) == 0;
+    }
+
+    public double getDistanceKey() {
+        return distanceKey;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
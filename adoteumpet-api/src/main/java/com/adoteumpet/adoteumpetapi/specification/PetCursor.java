@@ -0,0 +1,125 @@
+package com.adoteumpet.adoteumpetapi.specification;
+
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da paginação por keyset (seek pagination).
+ * 
+ * Guarda o valor da chave de ordenação e o ID do último pet entregue, usado como
+ * critério de desempate. A próxima página é buscada com
+ * {@code WHERE (chave, id) > (valor, ultimoId)} em vez de OFFSET, o que mantém a
+ * latência constante em páginas profundas e evita linhas repetidas ou puladas
+ * quando pets são cadastrados ou adotados entre as requisições.
+ */
+public final class PetCursor {
+
+    /**
+     * Propriedades que podem ser usadas como chave do cursor.
+     * Todas são NOT NULL no banco, requisito para a comparação por keyset. Com "id" a própria
+     * chave já é única e dispensa o desempate.
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "shelterCity", "createdAt", "id");
+
+    private static final String SEPARATOR = "|";
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Object value;
+    private final UUID id;
+
+    private PetCursor(String property, Sort.Direction direction, Object value, UUID id) {
+        this.property = property;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Cria o cursor que aponta para a posição logo após o pet informado.
+     * 
+     * @param pet o último pet da página atual
+     * @param order a ordenação utilizada na busca
+     * @return cursor para a próxima página
+     */
+    public static PetCursor after(PetSummary pet, Sort.Order order) {
+        Object value = switch (order.getProperty()) {
+            case "name" -> pet.name();
+            case "shelterCity" -> pet.shelterCity();
+            case "createdAt" -> pet.createdAt();
+            case "id" -> pet.id();
+            default -> throw new BadRequestException(
+                    String.format("Ordenação por '%s' não suporta paginação por cursor.", order.getProperty()));
+        };
+        return new PetCursor(order.getProperty(), order.getDirection(), value, pet.id());
+    }
+
+    /**
+     * Serializa o cursor em um token opaco seguro para URLs.
+     * 
+     * @return token Base64 (URL-safe) do cursor
+     */
+    public String encode() {
+        String raw = property + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstrói um cursor a partir do token recebido do cliente.
+     * 
+     * @param token o token gerado por {@link #encode()}
+     * @return o cursor decodificado
+     * @throws BadRequestException se o token estiver corrompido
+     */
+    public static PetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // O valor fica por último porque pode conter o separador
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4 || !SORTABLE_PROPERTIES.contains(parts[0])) {
+                throw new IllegalArgumentException("Formato de cursor desconhecido");
+            }
+            Object value = switch (parts[0]) {
+                case "createdAt" -> LocalDateTime.parse(parts[3]);
+                case "id" -> UUID.fromString(parts[3]);
+                default -> parts[3];
+            };
+            return new PetCursor(parts[0], Sort.Direction.valueOf(parts[1]), value, UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor de paginação inválido.", e);
+        }
+    }
+
+    /**
+     * Verifica se o cursor foi gerado com a mesma ordenação da requisição atual.
+     * 
+     * @param order a ordenação da requisição
+     * @return true se propriedade e direção coincidem
+     */
+    public boolean matches(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -1,16 +1,31 @@
 package com.adoteumpet.adoteumpetapi.specification;
 
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.geo.GeoCircle;
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
 import com.adoteumpet.adoteumpetapi.model.Pet;
 import com.adoteumpet.adoteumpetapi.model.Species;
 import com.adoteumpet.adoteumpetapi.model.Status;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
 /**
  * Specifications para filtros dinâmicos de Pet.
  * Utiliza JPA Criteria API para construir consultas dinâmicas baseadas nos filtros fornecidos.
  */
 public class PetSpecifications {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     /**
      * Filtra pets por nome (busca parcial, case-insensitive).
      * 
@@ -22,13 +37,41 @@ public class PetSpecifications {
             if (name == null || name.trim().isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("name")), 
-                "%" + name.toLowerCase() + "%"
-            );
+            return containsIgnoringCase(root.get("name"), criteriaBuilder, name);
         };
     }
 
+    /**
+     * Monta {@code lower(coluna) LIKE '%termo%'}, a mesma expressão dos índices trigram
+     * (pg_trgm) criados na migração V6, para que o PostgreSQL possa atendê-la por índice.
+     * Os curingas digitados pelo usuário (% e _) são escapados e tratados como texto.
+     * Em H2 (perfis dev e test) o mesmo predicado é executado sem índice.
+     * 
+     * @param attribute coluna de texto a ser filtrada
+     * @param criteriaBuilder builder da consulta
+     * @param term termo buscado
+     * @return predicado de busca parcial case-insensitive
+     */
+    private static Predicate containsIgnoringCase(Expression<String> attribute, CriteriaBuilder criteriaBuilder,
+                                                  String term) {
+        return criteriaBuilder.like(criteriaBuilder.lower(attribute), containsPattern(term), LIKE_ESCAPE);
+    }
+
+    /**
+     * Monta o padrão LIKE '%termo%' em minúsculas, com os curingas do termo escapados por
+     * {@link #LIKE_ESCAPE}.
+     * 
+     * @param term termo buscado
+     * @return padrão para {@code lower(coluna) LIKE padrão ESCAPE '\'}
+     */
+    private static String containsPattern(String term) {
+        String escaped = term.trim().toLowerCase(Locale.ROOT)
+                .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
+    }
+
     /**
      * Filtra pets por espécie.
      * 
@@ -76,10 +119,7 @@ public class PetSpecifications {
             if (breed == null || breed.trim().isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("breed")), 
-                "%" + breed.toLowerCase() + "%"
-            );
+            return containsIgnoringCase(root.get("breed"), criteriaBuilder, breed);
         };
     }
 
@@ -94,10 +134,45 @@ public class PetSpecifications {
             if (shelterCity == null || shelterCity.trim().isEmpty()) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("shelterCity")), 
-                "%" + shelterCity.toLowerCase() + "%"
-            );
+            return containsIgnoringCase(root.get("shelterCity"), criteriaBuilder, shelterCity);
+        };
+    }
+
+    /**
+     * Filtra pets pela cidade do abrigo com o nome exato.
+     * 
+     * @param city o nome da cidade do abrigo
+     * @return specification para filtro por cidade exata
+     */
+    public static Specification<Pet> hasShelterCityEqualTo(String city) {
+        return (root, query, criteriaBuilder) -> {
+            if (city == null || city.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.equal(root.get("shelterCity"), city);
+        };
+    }
+
+    /**
+     * Filtra pets pela faixa etária (limites inclusivos). Limites não informados são ignorados.
+     * 
+     * @param minAge idade mínima (opcional)
+     * @param maxAge idade máxima (opcional)
+     * @return specification para filtro por idade
+     */
+    public static Specification<Pet> hasAgeBetween(Integer minAge, Integer maxAge) {
+        return (root, query, criteriaBuilder) -> {
+            Path<Integer> age = root.get("ageYears");
+            if (minAge != null && maxAge != null) {
+                return criteriaBuilder.between(age, minAge, maxAge);
+            }
+            if (minAge != null) {
+                return criteriaBuilder.greaterThanOrEqualTo(age, minAge);
+            }
+            if (maxAge != null) {
+                return criteriaBuilder.lessThanOrEqualTo(age, maxAge);
+            }
+            return criteriaBuilder.conjunction();
         };
     }
 
@@ -155,4 +230,171 @@ public class PetSpecifications {
                 .and(hasShelterCity(shelterCity))
                 .and(hasStatus(status));
     }
-}
\ No newline at end of file
+
+    /**
+     * Combina com operador AND apenas os filtros informados no {@link PetFilter}.
+     * 
+     * @param filter filtros a aplicar
+     * @return specification combinada
+     */
+    public static Specification<Pet> withFilter(PetFilter filter) {
+        Specification<Pet> spec = Specification.where(null);
+        
+        if (filter.getName() != null && !filter.getName().trim().isEmpty()) {
+            spec = spec.and(hasName(filter.getName()));
+        }
+        
+        if (filter.getSpecies() != null) {
+            spec = spec.and(hasSpecies(filter.getSpecies()));
+        }
+        
+        if (filter.getBreed() != null && !filter.getBreed().trim().isEmpty()) {
+            spec = spec.and(hasBreed(filter.getBreed()));
+        }
+        
+        if (filter.getShelterCity() != null && !filter.getShelterCity().trim().isEmpty()) {
+            spec = spec.and(hasShelterCity(filter.getShelterCity()));
+        }
+        
+        if (filter.getStatus() != null) {
+            spec = spec.and(hasStatus(filter.getStatus()));
+        }
+        
+        return spec;
+    }
+
+    /**
+     * Filtra pets com ID maior que o informado, para percorrer a tabela inteira em lotes.
+     * 
+     * @param id último ID do lote anterior (opcional)
+     * @return specification para leitura em lotes ordenada por ID
+     */
+    public static Specification<Pet> idGreaterThan(UUID id) {
+        return (root, query, criteriaBuilder) -> {
+            if (id == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.greaterThan(root.get("id"), id);
+        };
+    }
+
+    /**
+     * Filtra pets cujo abrigo está dentro do círculo informado.
+     * 
+     * O critério seletivo é o geohash: o círculo é coberto por até 9 células e cada uma
+     * vira uma faixa do índice {@code idx_pets_geohash}. A caixa envolvente e a chave de
+     * distância só são avaliadas nas linhas dessas células.
+     * 
+     * @param circle área de busca
+     * @return specification para a busca por proximidade
+     */
+    public static Specification<Pet> withinRadius(GeoCircle circle) {
+        return (root, query, criteriaBuilder) -> {
+            Path<String> geohash = root.get("geohash");
+            Predicate[] cells = GeoHash.cellsCovering(circle).stream()
+                    .map(cell -> criteriaBuilder.between(geohash, GeoHash.lowerBound(cell), GeoHash.upperBound(cell)))
+                    .toArray(Predicate[]::new);
+
+            return criteriaBuilder.and(
+                criteriaBuilder.or(cells),
+                criteriaBuilder.between(root.get("shelterLat"),
+                        BigDecimal.valueOf(circle.minLat()), BigDecimal.valueOf(circle.maxLat())),
+                criteriaBuilder.between(root.get("shelterLng"),
+                        BigDecimal.valueOf(circle.minLng()), BigDecimal.valueOf(circle.maxLng())),
+                criteriaBuilder.le(distanceKey(root, criteriaBuilder, circle), circle.maxDistanceKey())
+            );
+        };
+    }
+
+    /**
+     * Filtra os pets posicionados depois do cursor da busca por proximidade.
+     * 
+     * @param cursor o cursor da página anterior (opcional)
+     * @param circle área da busca atual
+     * @return specification para a busca por keyset sobre a distância
+     */
+    public static Specification<Pet> afterDistance(DistanceCursor cursor, GeoCircle circle) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+            Expression<Double> key = distanceKey(root, criteriaBuilder, circle);
+            return criteriaBuilder.or(
+                criteriaBuilder.gt(key, cursor.getDistanceKey()),
+                criteriaBuilder.and(
+                    criteriaBuilder.equal(key, cursor.getDistanceKey()),
+                    criteriaBuilder.greaterThan(root.get("id"), cursor.getId())
+                )
+            );
+        };
+    }
+
+    /**
+     * Expressão da chave de distância equirretangular, equivalente a
+     * {@link GeoCircle#distanceKey(double, double)}.
+     * 
+     * @param root raiz da consulta
+     * @param criteriaBuilder builder da consulta
+     * @param circle área de busca (origem da distância)
+     * @return expressão em graus ao quadrado
+     */
+    public static Expression<Double> distanceKey(Root<Pet> root, CriteriaBuilder criteriaBuilder, GeoCircle circle) {
+        Expression<Double> lat = root.get("shelterLat").as(Double.class);
+        Expression<Double> lng = root.get("shelterLng").as(Double.class);
+
+        Expression<Double> dLat = criteriaBuilder.diff(lat, circle.lat());
+        Expression<Double> dLng = criteriaBuilder.prod(criteriaBuilder.diff(lng, circle.lng()), circle.lngScale());
+        return criteriaBuilder.sum(criteriaBuilder.prod(dLat, dLat), criteriaBuilder.prod(dLng, dLng));
+    }
+
+    /**
+     * Filtra os pets posicionados depois do cursor informado (keyset pagination).
+     * 
+     * Gera {@code chave >= valor AND (chave > valor OR id > ultimoId)} (ou o inverso
+     * para ordenação decrescente). O primeiro termo permite que o banco use o índice
+     * composto (chave, id) como faixa de busca em vez de percorrer as páginas anteriores.
+     * Quando a chave é o próprio ID, gera apenas {@code id > ultimoId}.
+     * 
+     * @param cursor o cursor da página anterior (opcional)
+     * @return specification para a busca por keyset
+     */
+    public static Specification<Pet> after(PetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+            if (cursor.getValue() instanceof UUID) {
+                return cursor.getDirection().isAscending()
+                        ? criteriaBuilder.greaterThan(root.get("id"), cursor.getId())
+                        : criteriaBuilder.lessThan(root.get("id"), cursor.getId());
+            }
+            if (cursor.getValue() instanceof LocalDateTime dateTime) {
+                return seek(root, criteriaBuilder, cursor, dateTime);
+            }
+            return seek(root, criteriaBuilder, cursor, (String) cursor.getValue());
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(Root<Pet> root, CriteriaBuilder criteriaBuilder,
+                                                                    PetCursor cursor, Y value) {
+        Path<Y> key = root.get(cursor.getProperty());
+        Path<UUID> id = root.get("id");
+
+        if (cursor.getDirection().isAscending()) {
+            return criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(key, value),
+                criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(key, value),
+                    criteriaBuilder.greaterThan(id, cursor.getId())
+                )
+            );
+        }
+        return criteriaBuilder.and(
+            criteriaBuilder.lessThanOrEqualTo(key, value),
+            criteriaBuilder.or(
+                criteriaBuilder.lessThan(key, value),
+                criteriaBuilder.lessThan(id, cursor.getId())
+            )
+        );
+    }
+}
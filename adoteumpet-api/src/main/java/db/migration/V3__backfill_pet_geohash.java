@@ -0,0 +1,36 @@
+package db.migration;
+
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.migration.ThrottledBackfill;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Migração V3: preenche pets.geohash nas linhas já existentes.
+ *
+ * O geohash é calculado em Java com o mesmo {@link GeoHash} usado pela entidade Pet,
+ * já que a codificação não é expressável de forma portável em SQL. As linhas são
+ * atualizadas por {@link ThrottledBackfill}, em lotes confirmados um a um e com pausa
+ * entre eles, fora da transação do Flyway, sem travar a tabela durante a migração.
+ */
+public class V3__backfill_pet_geohash extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        new ThrottledBackfill(
+                "geohash",
+                "pets",
+                "geohash IS NULL AND shelter_lat IS NOT NULL AND shelter_lng IS NOT NULL",
+                "shelter_lat, shelter_lng",
+                "UPDATE pets SET geohash = ? WHERE id = ?",
+                (row, update) -> update.setString(1, GeoHash.encode(
+                        row.getDouble("shelter_lat"), row.getDouble("shelter_lng"), GeoHash.MAX_PRECISION)),
+                context.getConfiguration().getPlaceholders())
+                .run(context.getConnection());
+    }
+}
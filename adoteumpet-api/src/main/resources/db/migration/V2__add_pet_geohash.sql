@@ -0,0 +1,14 @@
+-- ================================================================================================
+-- Migração V2: Coluna geohash para buscas por proximidade
+-- ================================================================================================
+-- Descrição: Adiciona pets.geohash, derivado de shelter_lat/shelter_lng pela aplicação.
+--            GET /api/pets/near transforma o raio de busca em até 9 células geohash, e cada célula
+--            vira uma faixa do índice idx_pets_geohash (geohash BETWEEN 'célula000…' AND
+--            'célulazzz…'), em vez de calcular a distância de todas as linhas da tabela.
+--            O preenchimento das linhas existentes é feito pela migração Java V3, e o índice é
+--            construído sem bloquear a tabela pela migração V6.
+-- Autor: Sistema AdoteUmPet
+-- Data: 2026-10-17
+-- ================================================================================================
+
+ALTER TABLE pets ADD COLUMN geohash VARCHAR(12);
@@ -0,0 +1,17 @@
+-- ================================================================================================
+-- Migração V4: Versão e data de alteração dos pets
+-- ================================================================================================
+-- Descrição: Adiciona pets.version, incrementada pelo Hibernate a cada alteração (@Version), e
+--            pets.updated_at, preenchida pelo Spring Data a cada gravação (@LastModifiedDate).
+--            GET /api/pets/{id} usa a versão como ETag forte e as listagens usam a quantidade,
+--            a soma das versões e a maior updated_at do filtro como ETag fraca, para responder
+--            304 Not Modified sem carregar nem serializar os pets.
+--            Os valores padrão são constantes, então o PostgreSQL adiciona as colunas sem
+--            reescrever a tabela.
+-- Autor: Sistema AdoteUmPet
+-- Data: 2026-10-17
+-- ================================================================================================
+
+ALTER TABLE pets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE pets ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
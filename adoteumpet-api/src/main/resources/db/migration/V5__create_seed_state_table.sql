@@ -0,0 +1,33 @@
+-- ================================================================================================
+-- Migração V5: Estado do seeding
+-- ================================================================================================
+-- Descrição: Cria a tabela seed_state, que registra cada carga inicial executada pelo DataSeeder
+--            (origem, linhas gravadas e recusadas, data). Antes o seeding era marcado por um pet
+--            falso, SEED_MARKER_PET, procurado pelo nome em toda a tabela pets a cada
+--            inicialização. Bancos já populados recebem o registro equivalente ao marcador, que é
+--            removido, para que o seeding não seja executado de novo.
+-- Autor: Sistema AdoteUmPet
+-- Data: 2026-10-17
+-- ================================================================================================
+
+CREATE TABLE seed_state (
+    seed_name VARCHAR(100) PRIMARY KEY,
+    source VARCHAR(255) NOT NULL,
+    rows_loaded BIGINT NOT NULL,
+    rows_rejected BIGINT NOT NULL DEFAULT 0,
+    seeded_at TIMESTAMP NOT NULL
+);
+
+-- O marcador era gravado logo depois dos pets do CSV
+INSERT INTO seed_state (seed_name, source, rows_loaded, rows_rejected, seeded_at)
+SELECT 'pets',
+       'classpath:data/pets-seed.csv',
+       (SELECT COUNT(*) FROM pets p WHERE p.name <> 'SEED_MARKER_PET' AND p.created_at <= m.created_at),
+       0,
+       m.created_at
+FROM pets m
+WHERE m.name = 'SEED_MARKER_PET';
+
+DELETE FROM pets WHERE name = 'SEED_MARKER_PET';
+
+COMMENT ON TABLE seed_state IS 'Cargas iniciais de dados já executadas (uma linha por seeding)';
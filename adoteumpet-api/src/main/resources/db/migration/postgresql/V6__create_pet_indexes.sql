@@ -0,0 +1,75 @@
+-- ================================================================================================
+-- Migração V6: Índices de consulta dos pets, construídos sem bloquear a tabela (somente PostgreSQL)
+-- ================================================================================================
+-- Descrição: Todos os índices usados pelas consultas de pets, além dos de V1:
+--            - idx_pets_name_id, idx_pets_shelter_city_id, idx_pets_created_at_id: paginação por
+--              cursor (keyset) de GET /api/pets/scroll e ordenação de GET /api/pets. Cada página é
+--              uma faixa do índice a partir do último registro entregue, sem OFFSET.
+--            - idx_pets_name_trgm, idx_pets_breed_trgm, idx_pets_shelter_city_trgm: GIN com
+--              gin_trgm_ops sobre lower(coluna), para os filtros lower(coluna) LIKE '%termo%', que
+--              um B-tree não atende com curinga no início do padrão.
+--            - idx_pets_geohash: faixas de células geohash da busca por proximidade.
+--            - idx_pets_species_status_name_id: listagem padrão com espécie e status, ordenada
+--              por nome. INCLUDE traz as demais colunas da projeção PetSummary, então a página é
+--              lida com Index Only Scan, na ordem do índice, sem Sort e sem visitar a tabela.
+--            - idx_pets_available_name_id: apenas pets AVAILABLE (a vitrine), de qualquer espécie,
+--              ordenados por nome, também de cobertura. Parcial, não recebe os pets adotados.
+--            - idx_pets_status_id, idx_pets_species_id, idx_pets_age_years_id: listagens por
+--              status e ordenação por espécie e por idade (PetService.SORTABLE_PROPERTIES).
+--              Substituem idx_pets_status e idx_pets_species (V1), prefixos redundantes.
+--            - idx_pets_id_version: a versão em INCLUDE, para que If-None-Match seja respondido
+--              com Index Only Scan, sem ler a linha.
+--            Custo: a versão muda em toda gravação e está em idx_pets_id_version, então nenhuma
+--            atualização de pets é HOT e cada gravação insere entradas em todos os índices. As
+--            leituras da vitrine e as requisições condicionais, muito mais frequentes, ficam sem
+--            acesso à tabela.
+--            Migração online: cada índice é construído com CONCURRENTLY, que não bloqueia as
+--            escritas, fora de transação (V6__create_pet_indexes.sql.conf). Cada um é precedido de
+--            DROP INDEX CONCURRENTLY IF EXISTS, que remove o índice inválido deixado por uma
+--            falha, para que a migração possa ser repetida após flyway repair.
+--            Fica em db/migration/postgresql porque o H2 não suporta CONCURRENTLY, pg_trgm,
+--            INCLUDE nem índices parciais.
+-- Autor: Sistema AdoteUmPet
+-- Data: 2026-10-17
+-- ================================================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_name_id;
+CREATE INDEX CONCURRENTLY idx_pets_name_id ON pets (name, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_shelter_city_id;
+CREATE INDEX CONCURRENTLY idx_pets_shelter_city_id ON pets (shelter_city, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_created_at_id;
+CREATE INDEX CONCURRENTLY idx_pets_created_at_id ON pets (created_at, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_name_trgm;
+CREATE INDEX CONCURRENTLY idx_pets_name_trgm ON pets USING gin (lower(name) gin_trgm_ops);
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_breed_trgm;
+CREATE INDEX CONCURRENTLY idx_pets_breed_trgm ON pets USING gin (lower(breed) gin_trgm_ops);
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_shelter_city_trgm;
+CREATE INDEX CONCURRENTLY idx_pets_shelter_city_trgm ON pets USING gin (lower(shelter_city) gin_trgm_ops);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_geohash;
+CREATE INDEX CONCURRENTLY idx_pets_geohash ON pets (geohash);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_species_status_name_id;
+CREATE INDEX CONCURRENTLY idx_pets_species_status_name_id ON pets (species, status, name, id)
+    INCLUDE (breed, age_years, shelter_city, shelter_lat, shelter_lng, created_at);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_available_name_id;
+CREATE INDEX CONCURRENTLY idx_pets_available_name_id ON pets (name, id)
+    INCLUDE (species, status, breed, age_years, shelter_city, shelter_lat, shelter_lng, created_at)
+    WHERE status = 'AVAILABLE';
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_status_id;
+CREATE INDEX CONCURRENTLY idx_pets_status_id ON pets (status, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_species_id;
+CREATE INDEX CONCURRENTLY idx_pets_species_id ON pets (species, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_age_years_id;
+CREATE INDEX CONCURRENTLY idx_pets_age_years_id ON pets (age_years, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_id_version;
+CREATE INDEX CONCURRENTLY idx_pets_id_version ON pets (id) INCLUDE (version);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_pets_species;
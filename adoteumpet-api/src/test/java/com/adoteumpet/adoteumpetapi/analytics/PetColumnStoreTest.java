@@ -0,0 +1,151 @@
+package com.adoteumpet.adoteumpetapi.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetStats;
+import com.adoteumpet.adoteumpetapi.dto.PetStatsGroup;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+
+/**
+ * Testes unitários para PetColumnStore
+ * Testa o agrupamento, as métricas e a atualização das colunas pelos eventos de alteração
+ */
+@DisplayName("PetColumnStore - Testes Unitários")
+class PetColumnStoreTest {
+
+    private PetColumnStore store;
+    private Pet rex;
+    private Pet luna;
+
+    @BeforeEach
+    void setUp() {
+        rex = pet("Rex", Species.DOG, "Golden Retriever", 3, "São Paulo", Status.AVAILABLE);
+        luna = pet("Luna", Species.CAT, "Siamês", 2, "São Paulo", Status.ADOPTED);
+        List<Pet> stored = List.of(
+                rex,
+                luna,
+                pet("Thor", Species.DOG, "Labrador", 5, "Curitiba", Status.AVAILABLE),
+                pet("Mel", Species.DOG, null, null, "Curitiba", Status.ADOPTED),
+                pet("Bob", Species.DOG, "Vira-lata", 25, "São Paulo", Status.AVAILABLE));
+
+        PetRepository repository = mock(PetRepository.class);
+        doAnswer(invocation -> {
+            Consumer<List<Pet>> action = invocation.getArgument(1);
+            action.accept(stored);
+            return null;
+        }).when(repository).forEachBatch(anyInt(), any());
+
+        store = new PetColumnStore(repository);
+        store.rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar pelos campos na ordem solicitada")
+    void aggregate_GroupByCityAndSpecies_ShouldCountEachCombination() {
+        // When
+        PetStats stats = store.aggregate(new PetFilter(),
+                List.of(StatsDimension.SHELTER_CITY, StatsDimension.SPECIES), EnumSet.of(StatsMetric.COUNT));
+
+        // Then
+        assertEquals(List.of("shelterCity", "species"), stats.getGroupBy());
+        assertEquals(5, stats.getTotal());
+        assertEquals(3, stats.getGroups().size());
+        PetStatsGroup first = stats.getGroups().get(0);
+        assertEquals(List.of("shelterCity", "species"), List.copyOf(first.getKey().keySet()));
+        assertEquals(2L, first.getCount());
+        assertEquals(2L, count(stats, Map.of("shelterCity", "Curitiba", "species", "DOG")));
+        assertEquals(1L, count(stats, Map.of("shelterCity", "São Paulo", "species", "CAT")));
+    }
+
+    @Test
+    @DisplayName("Deve calcular idade média e histograma ignorando pets sem idade")
+    void aggregate_AgeMetrics_ShouldIgnorePetsWithoutAge() {
+        // When
+        PetStats stats = store.aggregate(new PetFilter(null, Species.DOG, null, null, null),
+                List.of(), EnumSet.of(StatsMetric.AVG_AGE, StatsMetric.AGE_HISTOGRAM));
+
+        // Then
+        assertEquals(4, stats.getTotal());
+        PetStatsGroup group = stats.getGroups().get(0);
+        assertTrue(group.getKey().isEmpty());
+        assertNull(group.getCount());
+        assertEquals(11.0, group.getAvgAge(), 0.0001);
+        long[] histogram = group.getAgeHistogram();
+        assertEquals(PetColumnStore.MAX_HISTOGRAM_AGE + 1, histogram.length);
+        assertEquals(1, histogram[3]);
+        assertEquals(1, histogram[5]);
+        assertEquals(1, histogram[PetColumnStore.MAX_HISTOGRAM_AGE]);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros parciais de texto como a listagem")
+    void aggregate_ShouldApplyPartialTextFilters() {
+        // Given
+        PetFilter filter = new PetFilter(null, null, "RETRIEVER", "paulo", null);
+
+        // When
+        PetStats stats = store.aggregate(filter, List.of(StatsDimension.BREED), EnumSet.of(StatsMetric.COUNT));
+
+        // Then
+        assertEquals(1, stats.getTotal());
+        assertEquals(Map.of("breed", "Golden Retriever"), stats.getGroups().get(0).getKey());
+    }
+
+    @Test
+    @DisplayName("Deve refletir cadastros, atualizações e remoções")
+    void onPetChanged_ShouldUpdateColumns() {
+        // Given
+        Pet adopted = pet("Rex", Species.DOG, "Golden Retriever", 3, "São Paulo", Status.ADOPTED);
+        adopted.setId(rex.getId());
+
+        // When
+        store.onPetChanged(PetChangedEvent.updated(rex, adopted));
+        store.onPetChanged(PetChangedEvent.deleted(luna));
+        store.onPetChanged(PetChangedEvent.created(pet("Nina", Species.CAT, null, 1, "Recife", Status.AVAILABLE)));
+
+        // Then
+        PetStats stats = store.aggregate(new PetFilter(), List.of(StatsDimension.STATUS), EnumSet.of(StatsMetric.COUNT));
+        assertEquals(5, stats.getTotal());
+        assertEquals(3L, count(stats, Map.of("status", "AVAILABLE")));
+        assertEquals(2L, count(stats, Map.of("status", "ADOPTED")));
+    }
+
+    private static Long count(PetStats stats, Map<String, String> key) {
+        return stats.getGroups().stream()
+                .filter(group -> group.getKey().equals(key))
+                .findFirst()
+                .map(PetStatsGroup::getCount)
+                .orElse(null);
+    }
+
+    private static Pet pet(String name, Species species, String breed, Integer age, String city, Status status) {
+        Pet pet = new Pet();
+        pet.setId(UUID.randomUUID());
+        pet.setName(name);
+        pet.setSpecies(species);
+        pet.setBreed(breed);
+        pet.setAgeYears(age);
+        pet.setShelterCity(city);
+        pet.setStatus(status);
+        return pet;
+    }
+}
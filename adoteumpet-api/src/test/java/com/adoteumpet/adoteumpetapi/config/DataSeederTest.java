@@ -1,17 +1,23 @@
 package com.adoteumpet.adoteumpetapi.config;
 
 import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.SeedState;
 import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.repository.SeedStateRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Testes para verificar o funcionamento do sistema de seeding.
@@ -25,13 +31,20 @@ class DataSeederTest {
     @Autowired
     private PetRepository petRepository;
 
+    @Autowired
+    private SeedStateRepository seedStateRepository;
+
     @Autowired
     private DataSeeder dataSeeder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
-        // Limpar o banco antes de cada teste
-        petRepository.deleteAll();
+        // Limpar o banco e o registro do seeding feito na inicialização antes de cada teste
+        petRepository.deleteAllInBatch();
+        seedStateRepository.deleteAllInBatch();
     }
 
     @Test
@@ -45,16 +58,53 @@ class DataSeederTest {
         // Assert - verificar se pets foram carregados
         List<Pet> pets = petRepository.findAll();
         
-        // Deve ter 15 pets do CSV + 1 marcador = 16 total
-        assertThat(pets).hasSize(16);
+        // Deve ter os 30 pets do CSV, sem nenhum pet marcador
+        assertThat(pets).hasSize(30);
         
         // Verificar se alguns pets específicos foram carregados
         assertThat(pets.stream().anyMatch(p -> "Rex".equals(p.getName()))).isTrue();
         assertThat(pets.stream().anyMatch(p -> "Luna".equals(p.getName()))).isTrue();
         assertThat(pets.stream().anyMatch(p -> "Mimi".equals(p.getName()))).isTrue();
-        
-        // Verificar se o marcador foi criado
-        assertThat(pets.stream().anyMatch(p -> "SEED_MARKER_PET".equals(p.getName()))).isTrue();
+        assertThat(pets.stream().noneMatch(p -> "SEED_MARKER_PET".equals(p.getName()))).isTrue();
+    }
+
+    @Test
+    void shouldRecordSeedState() throws Exception {
+        // Act
+        dataSeeder.run();
+
+        // Assert - o seeding é registrado em seed_state
+        SeedState state = seedStateRepository.findById(DataSeeder.SEED_NAME).orElseThrow();
+        assertThat(state.getSource()).isEqualTo("classpath:data/pets-seed.csv");
+        assertThat(state.getRowsLoaded()).isEqualTo(30);
+        assertThat(state.getRowsRejected()).isZero();
+        assertThat(state.getSeededAt()).isNotNull();
+    }
+
+    @Test
+    void shouldSkipWhenSeedStateExists() throws Exception {
+        // Arrange - seeding registrado, mas sem pets (ex.: removidos depois)
+        seedStateRepository.save(new SeedState(DataSeeder.SEED_NAME, "classpath:data/pets-seed.csv", 30, 0,
+                LocalDateTime.now()));
+
+        // Act
+        dataSeeder.run();
+
+        // Assert - não deve carregar o CSV de novo
+        assertThat(petRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldFailWhenSeedStateIsRecordedTwice() {
+        // Arrange - registro gravado por outra instância (fora do contexto de persistência desta)
+        seedStateRepository.saveAndFlush(new SeedState(DataSeeder.SEED_NAME, "file:/data/a.csv", 0, 0,
+                LocalDateTime.now()));
+        entityManager.clear();
+
+        // Act & Assert - um novo registro é inserido, não mesclado sobre o existente
+        assertThatThrownBy(() -> seedStateRepository.saveAndFlush(new SeedState(DataSeeder.SEED_NAME,
+                "file:/data/b.csv", 0, 0, LocalDateTime.now())))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -62,7 +112,7 @@ class DataSeederTest {
         // Arrange - executar seeding uma primeira vez
         dataSeeder.run();
         long firstRunCount = petRepository.count();
-        assertThat(firstRunCount).isEqualTo(16); // 15 pets + 1 marcador
+        assertThat(firstRunCount).isEqualTo(30);
 
         // Act - executar seeding novamente
         dataSeeder.run();
@@ -70,7 +120,7 @@ class DataSeederTest {
         // Assert - não deve ter adicionado novos pets
         long secondRunCount = petRepository.count();
         assertThat(secondRunCount).isEqualTo(firstRunCount);
-        assertThat(secondRunCount).isEqualTo(16);
+        assertThat(secondRunCount).isEqualTo(30);
     }
 
     @Test
@@ -80,19 +130,18 @@ class DataSeederTest {
         dataSeeder.run();
         dataSeeder.run();
 
-        // Assert - deve ter apenas 16 pets (15 + marcador)
-        assertThat(petRepository.count()).isEqualTo(16);
+        // Assert - deve ter apenas os 30 pets do CSV
+        assertThat(petRepository.count()).isEqualTo(30);
         
         // Verificar que não há pets duplicados
         List<Pet> pets = petRepository.findAll();
         List<String> petNames = pets.stream()
                 .map(Pet::getName)
-                .filter(name -> !"SEED_MARKER_PET".equals(name))
                 .toList();
         
         // Não deve haver nomes duplicados
-        assertThat(petNames).hasSize(15);
-        assertThat(petNames.stream().distinct().count()).isEqualTo(15);
+        assertThat(petNames).hasSize(30);
+        assertThat(petNames.stream().distinct().count()).isEqualTo(30);
     }
 
     @Test
@@ -101,10 +150,7 @@ class DataSeederTest {
         dataSeeder.run();
 
         // Assert - verificar se carregou dogs e cats
-        List<Pet> pets = petRepository.findAll()
-                .stream()
-                .filter(p -> !"SEED_MARKER_PET".equals(p.getName()))
-                .toList();
+        List<Pet> pets = petRepository.findAll();
 
         long dogCount = pets.stream()
                 .filter(p -> "DOG".equals(p.getSpecies().name()))
@@ -116,7 +162,7 @@ class DataSeederTest {
 
         assertThat(dogCount).isGreaterThan(0);
         assertThat(catCount).isGreaterThan(0);
-        assertThat(dogCount + catCount).isEqualTo(15);
+        assertThat(dogCount + catCount).isEqualTo(30);
 
         // Verificar que há pets com status AVAILABLE e ADOPTED
         boolean hasAvailable = pets.stream()
@@ -0,0 +1,140 @@
+package com.adoteumpet.adoteumpetapi.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.service.PetQueryCache;
+import com.adoteumpet.adoteumpetapi.service.PetService;
+
+/**
+ * Testes de integração das requisições condicionais (ETag / If-None-Match).
+ * Sem @Transactional: a invalidação dos resumos de versão acontece após o commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("PetController - ETag e 304")
+class PetControllerETagIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Pet rex;
+
+    @BeforeEach
+    void setUp() {
+        petRepository.deleteAll();
+        // deleteAll não publica eventos; descarta resumos e páginas de outros testes
+        cacheManager.getCache(PetQueryCache.PAGE_CACHE).clear();
+
+        rex = petService.savePet(pet("Rex", Species.DOG));
+        petService.savePet(pet("Luna", Species.CAT));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 ao detalhe enquanto a versão do pet não mudar")
+    void getPetById_IfNoneMatch_ShouldReturn304UntilPetChanges() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/pets/{id}", rex.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(get("/api/pets/{id}", rex.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/pets/{id}/adopt", rex.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pets/{id}", rex.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.status").value("ADOPTED"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 à listagem enquanto nenhum pet do filtro mudar")
+    void getPets_IfNoneMatch_ShouldReturn304UntilFilterChanges() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/pets").param("species", "DOG"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then: cadastrar um gato não muda a listagem de cães
+        petService.savePet(pet("Mia", Species.CAT));
+        mockMvc.perform(get("/api/pets").param("species", "DOG").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // When / Then: cadastrar um cão muda
+        petService.savePet(pet("Thor", Species.DOG));
+        String newETag = mockMvc.perform(get("/api/pets").param("species", "DOG").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    @DisplayName("Não deve enviar ETag na listagem com facetas")
+    void getPets_WithFacets_ShouldNotSendETag() throws Exception {
+        mockMvc.perform(get("/api/pets").param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Deve enviar ETag apenas com total exato")
+    void getPets_WithoutExactCount_ShouldNotComputeETag() throws Exception {
+        mockMvc.perform(get("/api/pets").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(get("/api/pets").param("count", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(get("/api/pets").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2));
+    }
+
+    private static Pet pet(String name, Species species) {
+        Pet pet = new Pet();
+        pet.setName(name);
+        pet.setSpecies(species);
+        pet.setShelterCity("São Paulo");
+        pet.setStatus(Status.AVAILABLE);
+        return pet;
+    }
+}
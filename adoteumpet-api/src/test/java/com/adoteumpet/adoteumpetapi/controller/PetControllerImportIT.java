@@ -0,0 +1,168 @@
+package com.adoteumpet.adoteumpetapi.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Testes de integração para POST /api/pets/import (importação de CSV).
+ * Em H2 a carga usa INSERTs em lotes JDBC no lugar do COPY do PostgreSQL.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("PetController - POST /api/pets/import")
+class PetControllerImportIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetControllerImportIT.class);
+
+    private static final String HEADER = "name,species,breed,age_years,shelter_city,shelter_lat,shelter_lng,status\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        petRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as linhas válidas e gerar o relatório das recusadas")
+    void importPets_MixedRows_ShouldImportValidRowsAndReportErrors() throws Exception {
+        // Given
+        String csv = HEADER
+                + "Bidu,DOG,\"Pastor Alemão, mestiço\",3,São Paulo,-23.5505,-46.6333,AVAILABLE\n"
+                + "Mimi,cat,,,Recife,,,\n"
+                + "Piu,BIRD,Calopsita,1,Recife,,,AVAILABLE\n"
+                + "Thor,DOG,Husky,40,Curitiba,-25.4284,-49.2733,ADOPTED\n"
+                + "Rex,DOG,Labrador\n"
+                + "\n"
+                + "Nina,DOG,Beagle,2,Curitiba,-25.4284,-49.2733,ADOPTED\n";
+
+        // When
+        String response = mockMvc.perform(multipart("/api/pets/import").file(file(csv)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then: as linhas válidas estão no banco e nos índices em memória
+        assertEquals(3, petRepository.count());
+        Pet bidu = petRepository.findByName("Bidu").get(0);
+        assertEquals("Pastor Alemão, mestiço", bidu.getBreed());
+        assertEquals(0L, bidu.getVersion());
+        assertEquals(Status.AVAILABLE, petRepository.findByName("Mimi").get(0).getStatus());
+
+        assertEquals(1, awaitSearchHits("bidu", 1));
+
+        // Then: o relatório traz a linha, os erros e os valores originais
+        String errorReport = objectMapper.readTree(response).get("errorReport").asText();
+        String report = mockMvc.perform(get(errorReport))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = report.split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("line,errors,name,species"));
+        assertTrue(lines[1].startsWith("4,") && lines[1].contains("species:") && lines[1].contains("Piu"));
+        assertTrue(lines[2].startsWith("5,") && lines[2].contains("age_years:") && lines[2].contains("Thor"));
+        assertTrue(lines[3].startsWith("6,") && lines[3].contains("mas tem 3") && lines[3].contains("Rex,DOG,Labrador"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cabeçalho inválido e 404 para relatório inexistente")
+    void importPets_InvalidRequests_ShouldReturnErrors() throws Exception {
+        mockMvc.perform(multipart("/api/pets/import").file(file("nome,especie\nRex,DOG\n")))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(multipart("/api/pets/import").file(file("")))
+                .andExpect(status().isBadRequest());
+
+        JsonNode result = objectMapper.readTree(mockMvc.perform(multipart("/api/pets/import")
+                        .file(file(HEADER + "Rex,DOG,,,Recife,,,\n")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorReport").doesNotExist())
+                .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/pets/import/{importId}/errors", result.get("importId").asText()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve importar um arquivo grande em uma única requisição")
+    void importPets_LargeFile_ShouldImportAllRows() throws Exception {
+        // Given
+        int rows = 20_000;
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append("Pet ").append(i).append(',').append(i % 2 == 0 ? "DOG" : "CAT")
+                    .append(",Raça ").append(i % 40).append(',').append(i % 15)
+                    .append(",Cidade ").append(i % 100).append(',')
+                    .append("-23.").append(10 + i % 90).append(",-46.").append(10 + i % 90)
+                    .append(',').append(i % 3 == 0 ? "ADOPTED" : "AVAILABLE").append('\n');
+        }
+
+        // When
+        long start = System.nanoTime();
+        mockMvc.perform(multipart("/api/pets/import").file(file(csv.toString())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(rows))
+                .andExpect(jsonPath("$.rejected").value(0));
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+        // Then
+        logger.info("📊 Importação de {} linhas: {} ms ({} linhas/s)",
+                rows, String.format("%.0f", millis), String.format("%.0f", rows / millis * 1000));
+        assertEquals(rows, petRepository.count());
+    }
+
+    /**
+     * Aguarda a reconstrução do índice de busca, que roda fora da requisição de importação.
+     */
+    private int awaitSearchHits(String q, int expected) throws Exception {
+        int hits = -1;
+        for (int attempt = 0; attempt < 50 && hits != expected; attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(100);
+            }
+            String body = mockMvc.perform(get("/api/pets").param("q", q))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            hits = objectMapper.readTree(body).get("data").size();
+        }
+        return hits;
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "pets.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,190 @@
+package com.adoteumpet.adoteumpetapi.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+
+/**
+ * Testes de integração para as listagens por espécie, status, cidade e idade.
+ * Verifica a paginação por cursor, o redirecionamento para as versões em streaming e as
+ * propriedades de ordenação aceitas por GET /api/pets.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("PetController - listagens paginadas")
+class PetControllerListIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @BeforeEach
+    void setUp() {
+        petRepository.deleteAll();
+        petRepository.saveAll(List.of(
+                pet("Rex", Species.DOG, 3, "São Paulo", Status.AVAILABLE),
+                pet("Luna", Species.CAT, 2, "São Paulo", Status.ADOPTED),
+                pet("Thor", Species.DOG, 5, "São Paulo", Status.AVAILABLE),
+                pet("Mel", Species.DOG, 8, "São Paulo do Norte", Status.AVAILABLE)));
+    }
+
+    @Test
+    @DisplayName("Deve paginar a listagem por cidade por cursor usando o nome exato")
+    void getPetsByCity_ShouldReturnBoundedPageOfExactCity() throws Exception {
+        String body = mockMvc.perform(get("/api/pets/city/{city}", "São Paulo").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String next = JsonPath.read(body, "$.next");
+
+        mockMvc.perform(get("/api/pets/city/{city}", "São Paulo").param("cursor", next).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a primeira página com o tamanho padrão")
+    void getAvailablePets_WithoutPaging_ShouldReturnFirstPage() throws Exception {
+        mockMvc.perform(get("/api/pets/available"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Deve redirecionar para a versão em streaming da listagem quando o tamanho passar do máximo")
+    void getPetsByStatus_OversizedPage_ShouldRedirectToStream() throws Exception {
+        mockMvc.perform(get("/api/pets/status/ADOPTED").param("size", "5000"))
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string("Location", "/api/pets/status/ADOPTED/stream"));
+
+        mockMvc.perform(get("/api/pets/age").param("minAge", "2").param("maxAge", "4").param("size", "101"))
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string("Location", "/api/pets/age/stream?minAge=2&maxAge=4"));
+
+        mockMvc.perform(get("/api/pets/city/{city}", "São Paulo").param("size", "101"))
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string("Location", "/api/pets/city/S%C3%A3o%20Paulo/stream"));
+    }
+
+    @Test
+    @DisplayName("Deve exportar a listagem em streaming no formato pedido")
+    void getPetsByStatusStream_ShouldStartStreamingExport() throws Exception {
+        mockMvc.perform(get("/api/pets/status/ADOPTED/stream").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("pets.csv")));
+
+        mockMvc.perform(get("/api/pets/status/ADOPTED/stream").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve redirecionar a listagem filtrada para a exportação em vez de reduzir o tamanho")
+    void getPets_OversizedPage_ShouldRedirectToExportWithSameFilter() throws Exception {
+        mockMvc.perform(get("/api/pets").param("species", "DOG").param("shelterCity", "paulo").param("size", "500"))
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string("Location", "/api/pets/export?species=DOG&shelterCity=paulo"));
+
+        mockMvc.perform(get("/api/pets").param("q", "rex").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/pets").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(100));
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor retornando as projeções das listagens")
+    void scrollPets_ShouldFollowCursorWithSummaries() throws Exception {
+        String body = mockMvc.perform(get("/api/pets/scroll").param("species", "DOG").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("Mel"))
+                .andExpect(jsonPath("$.data[1].name").value("Rex"))
+                .andExpect(jsonPath("$.data[0].version").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String next = JsonPath.read(body, "$.next");
+
+        mockMvc.perform(get("/api/pets/scroll").param("species", "DOG").param("size", "2").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].name").value("Thor"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para tamanho de página ou cursor inválidos")
+    void getPetsBySpecies_InvalidSizeOrCursor_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/pets/species/DOG").param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/pets/species/DOG").param("cursor", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por uma propriedade indexada com desempate pelo ID")
+    void getPets_SortByIndexedProperty_ShouldReturnOrderedPage() throws Exception {
+        mockMvc.perform(get("/api/pets").param("sort", "ageYears,desc").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("Mel"))
+                .andExpect(jsonPath("$.data[1].name").value("Thor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/pets").param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(4));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para ordenação sem índice")
+    void getPets_SortByUnindexedProperty_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/pets").param("sort", "breed"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("breed")));
+
+        mockMvc.perform(get("/api/pets").param("sort", "name").param("sort", "ageYears"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/pets").param("sort", "shelterLat,asc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Pet pet(String name, Species species, Integer age, String city, Status status) {
+        Pet pet = new Pet();
+        pet.setName(name);
+        pet.setSpecies(species);
+        pet.setAgeYears(age);
+        pet.setShelterCity(city);
+        pet.setStatus(status);
+        return pet;
+    }
+}
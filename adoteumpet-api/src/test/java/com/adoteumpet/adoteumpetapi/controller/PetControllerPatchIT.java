@@ -0,0 +1,149 @@
+package com.adoteumpet.adoteumpetapi.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.service.PetService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes de integração para PATCH /api/pets/{id} (JSON Merge Patch).
+ * Sem @Transactional: a entrada do pet no cache de segundo nível é removida após o commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("PetController - PATCH com JSON Merge Patch")
+class PetControllerPatchIT {
+
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Pet rex;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        pet.setSpecies(Species.DOG);
+        pet.setBreed("Vira-lata");
+        pet.setAgeYears(3);
+        pet.setShelterCity("São Paulo");
+        pet.setShelterLat(new BigDecimal("-23.5505"));
+        pet.setShelterLng(new BigDecimal("-46.6333"));
+        pet.setStatus(Status.AVAILABLE);
+        rex = petService.savePet(pet);
+        petService.getPetById(rex.getId()); // coloca o pet no cache de segundo nível
+    }
+
+    @Test
+    @DisplayName("Deve alterar apenas os campos enviados com uma única instrução SQL")
+    void patchPet_ShouldUpdateOnlySentFieldsInOneStatement() throws Exception {
+        // Given
+        statistics.clear();
+
+        // When
+        mockMvc.perform(patch("/api/pets/{id}", rex.getId())
+                        .contentType(MERGE_PATCH_JSON)
+                        .content("{\"shelterCity\":\"Curitiba\",\"breed\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.shelterCity").value("Curitiba"))
+                .andExpect(jsonPath("$.breed").doesNotExist())
+                .andExpect(jsonPath("$.name").value("Rex"))
+                .andExpect(jsonPath("$.ageYears").value(3));
+
+        // Then: nenhum SELECT antes do UPDATE, e o cache não devolve o estado anterior
+        assertEquals(1, statistics.getPrepareStatementCount());
+        Pet stored = petService.getPetById(rex.getId());
+        assertEquals("Curitiba", stored.getShelterCity());
+        assertNull(stored.getBreed());
+        assertEquals("Rex", stored.getName());
+        assertEquals(Species.DOG, stored.getSpecies());
+        assertEquals(Status.AVAILABLE, stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o geohash ao alterar as coordenadas")
+    void patchPet_Coordinates_ShouldUpdateGeohash() throws Exception {
+        // When
+        mockMvc.perform(patch("/api/pets/{id}", rex.getId())
+                        .contentType(MERGE_PATCH_JSON)
+                        .content("{\"shelterLat\":-25.4284,\"shelterLng\":-49.2733}"))
+                .andExpect(status().isOk());
+
+        // Then
+        Pet stored = petRepository.findById(rex.getId()).orElseThrow();
+        assertEquals(0, new BigDecimal("-25.4284").compareTo(stored.getShelterLat()));
+        assertEquals(GeoHash.encode(-25.4284, -49.2733, GeoHash.MAX_PRECISION), stored.getGeohash());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 409 quando If-Match não for a versão atual")
+    void patchPet_StaleIfMatch_ShouldReturn409() throws Exception {
+        mockMvc.perform(patch("/api/pets/{id}", rex.getId())
+                        .contentType(MERGE_PATCH_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .content("{\"ageYears\":4}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(patch("/api/pets/{id}", rex.getId())
+                        .contentType(MERGE_PATCH_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .content("{\"ageYears\":4}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ageYears").value(4));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para campo não editável e 404 para pet inexistente")
+    void patchPet_InvalidRequests_ShouldReturnErrors() throws Exception {
+        mockMvc.perform(patch("/api/pets/{id}", rex.getId())
+                        .contentType(MERGE_PATCH_JSON)
+                        .content("{\"createdAt\":\"2020-01-01T00:00:00\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/pets/{id}", UUID.randomUUID())
+                        .contentType(MERGE_PATCH_JSON)
+                        .content("{\"ageYears\":4}"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -4,7 +4,10 @@ import com.adoteumpet.adoteumpetapi.dto.PetCreateDTO;
 import com.adoteumpet.adoteumpetapi.model.Pet;
 import com.adoteumpet.adoteumpetapi.model.Species;
 import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.service.PetExportService;
+import com.adoteumpet.adoteumpetapi.service.PetImportService;
 import com.adoteumpet.adoteumpetapi.service.PetService;
+import com.adoteumpet.adoteumpetapi.service.PetTileService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +18,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +41,15 @@ class PetControllerPostTest {
     @MockBean
     private PetService petService;
 
+    @MockBean
+    private PetTileService petTileService;
+
+    @MockBean
+    private PetExportService petExportService;
+
+    @MockBean
+    private PetImportService petImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -312,4 +329,72 @@ class PetControllerPostTest {
                         .content(malformedJson))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Deve criar todos os pets do lote com status 201")
+    void createPets_AllValid_ShouldReturn201WithIds() throws Exception {
+        // Arrange
+        when(petService.savePets(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validPetRequest, validPetRequest))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.items[0].id").exists())
+                .andExpect(jsonPath("$.items[1].index").value(1))
+                .andExpect(jsonPath("$.items[1].errors").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar os itens válidos e devolver os erros dos demais com status 207")
+    void createPets_SomeInvalid_ShouldReturn207WithPerItemErrors() throws Exception {
+        // Arrange
+        String batch = "[" + objectMapper.writeValueAsString(validPetRequest) + ","
+                + "{\"name\":\"\",\"species\":\"DOG\",\"shelterCity\":\"Recife\"},"
+                + "{\"name\":\"Mia\",\"species\":\"BIRD\",\"shelterCity\":\"Recife\"},"
+                + objectMapper.writeValueAsString(validPetRequest) + "]";
+        when(petService.savePets(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.items[0].id").exists())
+                .andExpect(jsonPath("$.items[1].id").doesNotExist())
+                .andExpect(jsonPath("$.items[1].errors[0].field").value("name"))
+                .andExpect(jsonPath("$.items[2].errors[0].field").value("species"))
+                .andExpect(jsonPath("$.items[3].index").value(3))
+                .andExpect(jsonPath("$.items[3].id").exists());
+
+        verify(petService).savePets(argThat(pets -> pets.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o lote estiver vazio ou todos os itens forem inválidos")
+    void createPets_EmptyOrAllInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/pets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/pets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"species\":\"DOG\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.items[0].errors").isArray());
+
+        verify(petService, never()).savePets(anyList());
+    }
+
+    private static List<Pet> withIds(List<Pet> pets) {
+        pets.forEach(pet -> pet.setId(UUID.randomUUID()));
+        return pets;
+    }
 }
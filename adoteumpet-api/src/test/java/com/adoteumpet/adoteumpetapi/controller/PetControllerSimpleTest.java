@@ -12,6 +12,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
 import com.adoteumpet.adoteumpetapi.exception.ResourceNotFoundException;
 import com.adoteumpet.adoteumpetapi.model.Pet;
 import com.adoteumpet.adoteumpetapi.model.Species;
@@ -45,6 +51,7 @@ class PetControllerSimpleTest {
         samplePet.setAgeYears(3);
         samplePet.setShelterCity("São Paulo");
         samplePet.setStatus(Status.AVAILABLE);
+        samplePet.setVersion(2L);
     }
 
     @Test
@@ -53,7 +60,7 @@ class PetControllerSimpleTest {
         when(petService.getPetById(petId)).thenReturn(samplePet);
 
         // When
-        var response = petController.getPetById(petId);
+        var response = petController.getPetById(petId, request());
         Pet result = response.getBody();
 
         // Then
@@ -79,7 +86,7 @@ class PetControllerSimpleTest {
         // When & Then
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
-            () -> petController.getPetById(nonExistentId)
+            () -> petController.getPetById(nonExistentId, request())
         );
         
         assertTrue(exception.getMessage().contains("Pet não encontrado com ID: " + nonExistentId));
@@ -97,11 +104,12 @@ class PetControllerSimpleTest {
         catPet.setAgeYears(2);
         catPet.setShelterCity("Rio de Janeiro");
         catPet.setStatus(Status.AVAILABLE);
+        catPet.setVersion(0L);
 
         when(petService.getPetById(petId)).thenReturn(catPet);
 
         // When
-        var response = petController.getPetById(petId);
+        var response = petController.getPetById(petId, request());
         Pet result = response.getBody();
 
         // Then
@@ -126,12 +134,13 @@ class PetControllerSimpleTest {
         simplePet.setSpecies(Species.DOG);
         simplePet.setShelterCity("Belo Horizonte");
         simplePet.setStatus(Status.AVAILABLE);
+        simplePet.setVersion(0L);
         // breed, ageYears são null
 
         when(petService.getPetById(petId)).thenReturn(simplePet);
 
         // When
-        var response = petController.getPetById(petId);
+        var response = petController.getPetById(petId, request());
         Pet result = response.getBody();
 
         // Then
@@ -153,10 +162,66 @@ class PetControllerSimpleTest {
         when(petService.getPetById(petId)).thenReturn(samplePet);
 
         // When
-        petController.getPetById(petId);
+        petController.getPetById(petId, request());
 
         // Then
         verify(petService, times(1)).getPetById(petId);
         verifyNoMoreInteractions(petService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPetById_ShouldSendVersionAsETag() {
+        // Given
+        when(petService.getPetById(petId)).thenReturn(samplePet);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // When
+        petController.getPetById(petId, request(null, servletResponse));
+
+        // Then
+        assertEquals("\"2\"", servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getPetById_WithMatchingIfNoneMatch_ShouldReturn304WithoutLoadingPet() {
+        // Given
+        when(petService.getPetVersion(petId)).thenReturn(2L);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // When
+        var response = petController.getPetById(petId, request("\"2\"", servletResponse));
+
+        // Then
+        assertNull(response);
+        assertEquals(304, servletResponse.getStatus());
+        verify(petService, never()).getPetById(petId);
+    }
+
+    @Test
+    void getPetById_WithStaleIfNoneMatch_ShouldReturnPet() {
+        // Given
+        when(petService.getPetVersion(petId)).thenReturn(2L);
+        when(petService.getPetById(petId)).thenReturn(samplePet);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // When
+        var response = petController.getPetById(petId, request("\"1\"", servletResponse));
+
+        // Then
+        assertNotNull(response);
+        assertEquals("Buddy", response.getBody().getName());
+        assertEquals("\"2\"", servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    private static WebRequest request() {
+        return request(null, new MockHttpServletResponse());
+    }
+
+    private static WebRequest request(String ifNoneMatch, MockHttpServletResponse servletResponse) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/pets");
+        if (ifNoneMatch != null) {
+            servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(servletRequest, servletResponse);
+    }
+}
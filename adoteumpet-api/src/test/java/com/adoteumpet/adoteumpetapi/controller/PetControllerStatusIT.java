@@ -0,0 +1,181 @@
+package com.adoteumpet.adoteumpetapi.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.service.PetService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes de integração para PATCH /api/pets/status (mudança de status em massa).
+ * Sem @Transactional: as entradas dos pets no cache de segundo nível são removidas após o commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("PetController - PATCH /api/pets/status")
+class PetControllerStatusIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Statistics statistics;
+    private Pet rex;
+    private Pet thor;
+    private Pet luna;
+    private Pet mia;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        petRepository.deleteAll();
+
+        rex = petService.savePet(pet("Rex", Species.DOG, "Recife", Status.AVAILABLE));
+        thor = petService.savePet(pet("Thor", Species.DOG, "Recife", Status.AVAILABLE));
+        luna = petService.savePet(pet("Luna", Species.CAT, "Recife", Status.AVAILABLE));
+        mia = petService.savePet(pet("Mia", Species.CAT, "Curitiba", Status.ADOPTED));
+        petService.getPetById(rex.getId()); // coloca o pet no cache de segundo nível
+        events.clear();
+    }
+
+    @Test
+    @DisplayName("Deve adotar os pets da lista com uma única instrução SQL e informar os não alterados")
+    void updateStatus_ByIds_ShouldUpdateInOneStatement() throws Exception {
+        // Given
+        UUID missing = UUID.randomUUID();
+        String body = String.format("{\"status\":\"ADOPTED\",\"ids\":[\"%s\",\"%s\",\"%s\",\"%s\"]}",
+                rex.getId(), thor.getId(), mia.getId(), missing);
+        statistics.clear();
+
+        // When
+        mockMvc.perform(patch("/api/pets/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ADOPTED"))
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.updatedPets.length()").value(2))
+                .andExpect(jsonPath("$.updatedPets[0].version").value(1))
+                .andExpect(jsonPath("$.unchangedIds[0]").value(mia.getId().toString()))
+                .andExpect(jsonPath("$.unchangedIds[1]").value(missing.toString()));
+
+        // Then: uma instrução, um evento, e o cache não devolve o estado anterior
+        assertEquals(1, statistics.getPrepareStatementCount());
+        List<PetChangedEvent> published = events.stream(PetChangedEvent.class).toList();
+        assertEquals(1, published.size());
+        assertEquals(2, published.get(0).changes().size());
+        assertEquals(Status.AVAILABLE, published.get(0).changes().get(0).before().getStatus());
+
+        Pet stored = petService.getPetById(rex.getId());
+        assertEquals(Status.ADOPTED, stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+        assertEquals(Status.AVAILABLE, petService.getPetById(luna.getId()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve alterar apenas os pets que atendem ao filtro")
+    void updateStatus_ByFilter_ShouldUpdateMatchingPets() throws Exception {
+        mockMvc.perform(patch("/api/pets/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"ADOPTED\",\"filter\":{\"species\":\"DOG\",\"shelterCity\":\"recif\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.unchangedIds").doesNotExist());
+
+        assertEquals(Status.ADOPTED, petRepository.findById(thor.getId()).orElseThrow().getStatus());
+        assertEquals(Status.AVAILABLE, petRepository.findById(luna.getId()).orElseThrow().getStatus());
+
+        // Devolver para adoção todos os adotados de Curitiba
+        mockMvc.perform(patch("/api/pets/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"AVAILABLE\",\"filter\":{\"shelterCity\":\"Curitiba\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedPets[0].id").value(mia.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar filtro que seleciona mais pets que o limite, sem alterar nenhum")
+    void updateStatus_FilterOverLimit_ShouldReturn400() throws Exception {
+        // Given: pets de Recife disponíveis além do limite
+        List<Pet> many = new ArrayList<>();
+        for (int i = 0; i < PetService.MAX_BATCH_SIZE; i++) {
+            many.add(pet("Pet " + i, Species.DOG, "Recife", Status.AVAILABLE));
+        }
+        petRepository.saveAll(many);
+
+        // When / Then
+        mockMvc.perform(patch("/api/pets/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"ADOPTED\",\"filter\":{\"shelterCity\":\"Recife\"}}"))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, petRepository.findAll().stream().filter(p -> p.getStatus() == Status.ADOPTED
+                && "Recife".equals(p.getShelterCity())).count());
+        assertEquals(0, events.stream(PetChangedEvent.class).count());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 sem status ou sem exatamente um critério de seleção")
+    void updateStatus_InvalidRequests_ShouldReturn400() throws Exception {
+        String[] bodies = {
+                "{\"ids\":[\"" + rex.getId() + "\"]}",
+                "{\"status\":\"ADOPTED\"}",
+                "{\"status\":\"ADOPTED\",\"ids\":[]}",
+                "{\"status\":\"ADOPTED\",\"filter\":{}}",
+                "{\"status\":\"ADOPTED\",\"ids\":[\"" + rex.getId() + "\"],\"filter\":{\"species\":\"DOG\"}}"
+        };
+        for (String body : bodies) {
+            mockMvc.perform(patch("/api/pets/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+        assertEquals(Status.AVAILABLE, petRepository.findById(rex.getId()).orElseThrow().getStatus());
+    }
+
+    private static Pet pet(String name, Species species, String city, Status status) {
+        Pet pet = new Pet();
+        pet.setName(name);
+        pet.setSpecies(species);
+        pet.setShelterCity(city);
+        pet.setStatus(status);
+        return pet;
+    }
+}
@@ -0,0 +1,88 @@
+package com.adoteumpet.adoteumpetapi.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Testes unitários para a conversão de páginas e fatias em PagedResponse.
+ */
+class PagedResponseTest {
+
+    @Test
+    void from_WithPage_ShouldReportExactTotalAndHasNext() {
+        // Given
+        var page = new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 5);
+
+        // When
+        PagedResponse<String> response = PagedResponse.from(page);
+
+        // Then
+        assertEquals(5L, response.getTotal());
+        assertEquals(3, response.getTotalPages());
+        assertTrue(response.isHasNext());
+        assertNull(response.getTotalEstimated());
+    }
+
+    @Test
+    void fromSlice_WithoutCount_ShouldOmitTotals() {
+        // Given
+        var slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), true);
+
+        // When
+        PagedResponse<String> response = PagedResponse.fromSlice(slice);
+
+        // Then
+        assertEquals(1, response.getPage());
+        assertEquals(2, response.getSize());
+        assertTrue(response.isHasNext());
+        assertNull(response.getTotal());
+        assertNull(response.getTotalPages());
+    }
+
+    @Test
+    void fromSlice_WithEstimate_ShouldUseEstimateWhileMorePagesExist() {
+        // Given
+        var slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+
+        // When
+        PagedResponse<String> response = PagedResponse.fromSlice(slice, 1000);
+
+        // Then
+        assertEquals(1000L, response.getTotal());
+        assertEquals(500, response.getTotalPages());
+        assertTrue(response.getTotalEstimated());
+    }
+
+    @Test
+    void fromSlice_WithStaleEstimateOnLastPage_ShouldReportExactTotal() {
+        // Given - estimativa desatualizada, mas a última página revela o total real
+        var slice = new SliceImpl<>(List.of("a"), PageRequest.of(3, 2), false);
+
+        // When
+        PagedResponse<String> response = PagedResponse.fromSlice(slice, 1000);
+
+        // Then
+        assertEquals(7L, response.getTotal());
+        assertEquals(4, response.getTotalPages());
+        assertFalse(response.getTotalEstimated());
+    }
+
+    @Test
+    void fromSlice_WithUnderestimate_ShouldNeverReportLessThanSeen() {
+        // Given
+        var slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(4, 2), true);
+
+        // When
+        PagedResponse<String> response = PagedResponse.fromSlice(slice, 3);
+
+        // Then
+        assertEquals(11L, response.getTotal());
+        assertTrue(response.getTotalEstimated());
+    }
+}
@@ -0,0 +1,127 @@
+package com.adoteumpet.adoteumpetapi.generator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+
+/**
+ * Testes unitários do gerador de catálogo sintético: reprodutibilidade e distribuições.
+ */
+@DisplayName("PetCatalogGenerator - Catálogo sintético")
+class PetCatalogGeneratorTest {
+
+    private static final int PETS = 20_000;
+
+    /**
+     * Cópia dos campos de cada pet gerado (o gerador reaproveita o mesmo objeto).
+     */
+    private record Row(UUID id, String name, Species species, String breed, Integer ageYears, String city,
+                       BigDecimal lat, BigDecimal lng, Status status, LocalDateTime createdAt) {
+    }
+
+    @Test
+    @DisplayName("Deve gerar os mesmos pets para a mesma semente")
+    void writeTo_SameSeed_ShouldGenerateSamePets() throws SQLException {
+        // When
+        List<Row> first = generate(new PetCatalogGenerator(7, 1_000));
+        List<Row> second = generate(new PetCatalogGenerator(7, 1_000));
+        List<Row> other = generate(new PetCatalogGenerator(8, 1_000));
+
+        // Then
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertEquals(1_000, first.stream().map(Row::id).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Deve concentrar os pets nas maiores cidades (Zipf)")
+    void writeTo_ShouldDistributeCitiesByZipf() throws SQLException {
+        // When
+        Map<String, Long> byCity = count(generate(new PetCatalogGenerator(42, PETS)), Row::city);
+
+        // Then: com 55 cidades e expoente 1, a primeira recebe 1/H(55) ≈ 22% dos pets e a segunda a metade disso
+        double first = byCity.get("São Paulo") / (double) PETS;
+        double second = byCity.get("Rio de Janeiro") / (double) PETS;
+        assertTrue(first > 0.19 && first < 0.25, "São Paulo: " + first);
+        assertTrue(second > first * 0.4 && second < first * 0.6, "Rio de Janeiro: " + second);
+        assertTrue(byCity.getOrDefault("Palmas", 0L) < byCity.get("Belo Horizonte"));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as coordenadas em poucos abrigos perto da cidade")
+    void writeTo_ShouldClusterCoordinatesAroundCity() throws SQLException {
+        // When
+        List<Row> rows = generate(new PetCatalogGenerator(42, PETS));
+
+        // Then
+        Map<String, Set<String>> shelters = new HashMap<>();
+        for (Row row : rows) {
+            shelters.computeIfAbsent(row.city(), city -> new HashSet<>()).add(row.lat() + "," + row.lng());
+            assertTrue(row.lat().scale() <= 8 && row.lng().scale() <= 8);
+        }
+        shelters.values().forEach(points -> assertTrue(points.size() <= PetCatalogGenerator.SHELTERS_PER_CITY));
+
+        Row paulista = rows.stream().filter(row -> "São Paulo".equals(row.city())).findFirst().orElseThrow();
+        assertEquals(-23.5505, paulista.lat().doubleValue(), 0.3);
+        assertEquals(-46.6333, paulista.lng().doubleValue(), 0.3);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a fração de adotados e as espécies de cada raça")
+    void writeTo_ShouldFollowStatusAndBreedFrequencies() throws SQLException {
+        // When
+        List<Row> rows = generate(new PetCatalogGenerator(42, PETS, 0.25, 1.0));
+
+        // Then
+        double adopted = count(rows, Row::status).get(Status.ADOPTED) / (double) PETS;
+        assertEquals(0.25, adopted, 0.02);
+
+        rows.stream().filter(row -> "Persian".equals(row.breed()))
+                .forEach(row -> assertEquals(Species.CAT, row.species()));
+        rows.stream().filter(row -> "Shih Tzu".equals(row.breed()))
+                .forEach(row -> assertEquals(Species.DOG, row.species()));
+
+        // Sem raça definida é o caso mais comum, seguido das raças de maior peso
+        Map<String, Long> byBreed = count(rows.stream().filter(row -> row.breed() != null).toList(), Row::breed);
+        assertTrue(rows.stream().filter(row -> row.breed() == null).count() > PETS / 2);
+        assertTrue(byBreed.get("Shih Tzu") > byBreed.get("Weimaraner"));
+        assertTrue(rows.stream().allMatch(row -> row.ageYears() == null || row.ageYears() <= 20));
+    }
+
+    @Test
+    @DisplayName("Deve recusar parâmetros inválidos")
+    void constructor_InvalidParameters_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new PetCatalogGenerator(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new PetCatalogGenerator(1, 10, 1.5, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new PetCatalogGenerator(1, 10, 0.3, -1.0));
+    }
+
+    private static List<Row> generate(PetCatalogGenerator generator) throws SQLException {
+        List<Row> rows = new ArrayList<>();
+        generator.writeTo(pet -> rows.add(new Row(pet.getId(), pet.getName(), pet.getSpecies(), pet.getBreed(),
+                pet.getAgeYears(), pet.getShelterCity(), pet.getShelterLat(), pet.getShelterLng(), pet.getStatus(),
+                pet.getCreatedAt())));
+        return rows;
+    }
+
+    private static <K> Map<K, Long> count(List<Row> rows, Function<Row, K> key) {
+        return rows.stream().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+}
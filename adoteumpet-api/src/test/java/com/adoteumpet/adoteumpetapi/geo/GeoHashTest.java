@@ -0,0 +1,85 @@
+package com.adoteumpet.adoteumpetapi.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a codificação geohash e a cobertura de áreas de busca.
+ */
+class GeoHashTest {
+
+    @Test
+    void encode_ShouldMatchReferenceGeohash() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("6gyf4bf", GeoHash.encode(-23.5505, -46.6333, 7));
+    }
+
+    @Test
+    void bounds_ShouldEnclosePrefixAtMaxPrecision() {
+        // Given
+        String hash = GeoHash.encode(-23.5505, -46.6333, GeoHash.MAX_PRECISION);
+        String prefix = hash.substring(0, 5);
+
+        // Then
+        assertTrue(GeoHash.lowerBound(prefix).compareTo(hash) <= 0);
+        assertTrue(GeoHash.upperBound(prefix).compareTo(hash) >= 0);
+        assertEquals(GeoHash.MAX_PRECISION, GeoHash.upperBound(prefix).length());
+    }
+
+    @Test
+    void cellsCovering_ShouldReturnAtMostNineCells() {
+        // When
+        Set<String> cells = GeoHash.cellsCovering(new GeoCircle(-23.5505, -46.6333, 10));
+
+        // Then
+        assertEquals(9, cells.size());
+        assertTrue(cells.contains(GeoHash.encode(-23.5505, -46.6333, 4)));
+    }
+
+    @Test
+    void cellsCovering_ShouldContainEveryPointInsideCircle() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // Given
+            double lat = random.nextDouble() * 170 - 85;
+            double lng = random.nextDouble() * 340 - 170;
+            double radiusKm = 0.05 + random.nextDouble() * 500;
+            GeoCircle circle = new GeoCircle(lat, lng, radiusKm);
+
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double distanceKm = random.nextDouble() * radiusKm * 0.999;
+            double pointLat = lat + Math.sin(angle) * distanceKm / GeoDistance.KM_PER_DEGREE;
+            double pointLng = lng + Math.cos(angle) * distanceKm
+                    / (GeoDistance.KM_PER_DEGREE * Math.cos(Math.toRadians(pointLat)));
+            if (Math.abs(pointLat) > 90 || Math.abs(pointLng) > 180) {
+                continue;
+            }
+
+            // When
+            String hash = GeoHash.encode(pointLat, pointLng, GeoHash.MAX_PRECISION);
+
+            // Then
+            assertTrue(GeoHash.cellsCovering(circle).stream().anyMatch(hash::startsWith),
+                    () -> "Ponto fora das células: " + circle);
+        }
+    }
+
+    @Test
+    void distanceKey_ShouldGrowWithHaversineDistance() {
+        // Given
+        GeoCircle circle = new GeoCircle(-23.5505, -46.6333, 50);
+
+        // When
+        double near = circle.distanceKey(-23.56, -46.64);
+        double far = circle.distanceKey(-23.70, -46.90);
+
+        // Then
+        assertTrue(near < far);
+        assertTrue(far <= circle.maxDistanceKey());
+        assertEquals(31.85, GeoDistance.haversineKm(-23.5505, -46.6333, -23.70, -46.90), 0.01);
+    }
+}
@@ -0,0 +1,191 @@
+package com.adoteumpet.adoteumpetapi.integration;
+
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.exception.ResourceNotFoundException;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.service.PetService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração das escritas condicionais de Pet sob concorrência.
+ * Várias threads disputam o mesmo pet ao mesmo tempo; o banco deve garantir um único vencedor.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("🧪 Testes de Integração - Adoção e remoção concorrentes")
+class PetAdoptionConcurrencyIntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private RecordedEvents recordedEvents;
+
+    private ExecutorService executor;
+
+    /**
+     * Guarda os eventos publicados por qualquer thread (ApplicationEvents só registra os da thread do teste).
+     */
+    static class RecordedEvents {
+
+        final List<PetChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onPetChanged(PetChangedEvent event) {
+            events.add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordedEventsConfig {
+
+        @Bean
+        RecordedEvents recordedEvents() {
+            return new RecordedEvents();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("🏁 Apenas um de muitos adotantes simultâneos deve adotar o pet")
+    void adoptPet_UnderContention_ShouldHaveExactlyOneWinner() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Given
+            UUID petId = petService.savePet(pet()).getId();
+            recordedEvents.events.clear();
+
+            // When
+            List<Boolean> results = race(() -> petService.adoptPet(petId));
+
+            // Then
+            assertEquals(1, results.stream().filter(Boolean::booleanValue).count(), "rodada " + round);
+            Pet adopted = petRepository.findById(petId).orElseThrow();
+            assertEquals(Status.ADOPTED, adopted.getStatus());
+            assertEquals(1L, adopted.getVersion());
+
+            assertEquals(1, recordedEvents.events.size());
+            PetChangedEvent.Change change = recordedEvents.events.get(0).changes().get(0);
+            assertEquals(Status.AVAILABLE, change.before().getStatus());
+            assertEquals(Status.ADOPTED, change.after().getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("🗑️ Apenas uma de muitas remoções simultâneas deve remover o pet")
+    void deletePet_UnderContention_ShouldHaveExactlyOneWinner() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Given
+            UUID petId = petService.savePet(pet()).getId();
+            recordedEvents.events.clear();
+
+            // When
+            List<Boolean> results = race(() -> petService.deletePet(petId));
+
+            // Then
+            assertEquals(1, results.stream().filter(Boolean::booleanValue).count(), "rodada " + round);
+            assertFalse(petRepository.existsById(petId));
+            assertEquals(1, recordedEvents.events.size());
+            assertEquals(petId, recordedEvents.events.get(0).changes().get(0).before().getId());
+        }
+    }
+
+    @Test
+    @DisplayName("❌ Adoção de pet inexistente deve lançar ResourceNotFoundException")
+    void adoptPet_Missing_ShouldThrowResourceNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> petService.adoptPet(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("🔒 Atualização com versão desatualizada deve ser rejeitada")
+    void updatePet_StaleVersion_ShouldBeRejected() {
+        // Given: o pet foi adotado depois de lido na versão 0
+        Pet saved = petService.savePet(pet());
+        assertTrue(petService.adoptPet(saved.getId()));
+
+        Pet changes = pet();
+        changes.setName("Rex II");
+        changes.setVersion(0L);
+
+        // When / Then
+        assertThrows(OptimisticLockingFailureException.class, () -> petService.updatePet(saved.getId(), changes));
+        assertEquals("Rex", petService.getPetById(saved.getId()).getName());
+
+        changes.setVersion(1L);
+        assertEquals(2L, petService.updatePet(saved.getId(), changes).getVersion());
+    }
+
+    /**
+     * Executa a ação em todas as threads ao mesmo tempo e devolve os resultados.
+     */
+    private <T> List<T> race(Callable<T> action) throws Exception {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return action.call();
+            }));
+        }
+
+        assertTrue(ready.await(10, TimeUnit.SECONDS));
+        start.countDown();
+
+        List<T> results = new ArrayList<>(THREADS);
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static Pet pet() {
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        pet.setSpecies(Species.DOG);
+        pet.setShelterCity("São Paulo");
+        pet.setStatus(Status.AVAILABLE);
+        return pet;
+    }
+}
@@ -0,0 +1,125 @@
+package com.adoteumpet.adoteumpetapi.integration;
+
+import com.adoteumpet.adoteumpetapi.exception.ResourceNotFoundException;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.service.PetService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do cache de segundo nível do Hibernate para Pet.
+ * Conta as instruções SQL pelas estatísticas do Hibernate (hibernate.generate_statistics).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("🧪 Testes de Integração - Cache de segundo nível de Pet")
+class PetSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID petId;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        pet.setSpecies(Species.DOG);
+        pet.setBreed("Golden Retriever");
+        pet.setAgeYears(3);
+        pet.setShelterCity("São Paulo");
+        pet.setShelterLat(new BigDecimal("-23.5505"));
+        pet.setShelterLng(new BigDecimal("-46.6333"));
+        pet.setStatus(Status.AVAILABLE);
+        petId = petService.savePet(pet).getId();
+
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("🚀 Leituras repetidas por ID não devem executar SQL")
+    void getPetById_RepeatedCalls_ShouldNotExecuteSql() {
+        // Given: a primeira leitura busca no banco e guarda no cache
+        petService.getPetById(petId);
+        statistics.clear();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Rex", petService.getPetById(petId).getName());
+        }
+
+        // Then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Pet.CACHE_REGION);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(5, region.getHitCount());
+        assertEquals(0, region.getMissCount());
+    }
+
+    @Test
+    @DisplayName("🔄 Adoção deve retirar o pet do cache até a próxima leitura")
+    void adoptPet_ShouldEvictCachedPet() {
+        // Given
+        petService.getPetById(petId);
+
+        // When: a adoção é uma instrução nativa, que remove a entrada após o commit
+        assertTrue(petService.adoptPet(petId));
+
+        // Then: a próxima leitura vai ao banco e volta a ser guardada
+        statistics.clear();
+        assertEquals(Status.ADOPTED, petService.getPetById(petId).getStatus());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertEquals(Status.ADOPTED, petService.getPetById(petId).getStatus());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("✏️ Atualização deve atualizar o pet em cache")
+    void updatePet_ShouldRefreshCachedPet() {
+        // Given
+        Pet changes = petService.getPetById(petId);
+        changes.setName("Rex II");
+
+        // When
+        petService.updatePet(petId, changes);
+
+        // Then
+        assertEquals("Rex II", petService.getPetById(petId).getName());
+    }
+
+    @Test
+    @DisplayName("🗑️ Remoção deve retirar o pet do cache")
+    void deletePet_ShouldEvictCachedPet() {
+        // Given
+        petService.getPetById(petId);
+
+        // When
+        assertTrue(petService.deletePet(petId));
+
+        // Then
+        assertThrows(ResourceNotFoundException.class, () -> petService.getPetById(petId));
+    }
+}
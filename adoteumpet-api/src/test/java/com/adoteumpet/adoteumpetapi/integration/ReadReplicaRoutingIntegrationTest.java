@@ -0,0 +1,267 @@
+package com.adoteumpet.adoteumpetapi.integration;
+
+import com.adoteumpet.adoteumpetapi.config.ReadYourWritesFilter;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.adoteumpet.adoteumpetapi.repository.ReadYourWrites;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do roteamento entre banco primário e réplica de leitura.
+ *
+ * Usa dois bancos H2 em memória. A "replicação" é feita pelo próprio teste, copiando o
+ * primário para a réplica (SCRIPT do H2); entre uma cópia e outra, a réplica fica
+ * atrasada, como uma réplica real com atraso de replicação.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "adoteumpet.datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+        "adoteumpet.datasource.replica.username=sa",
+        "adoteumpet.datasource.replica.password=password",
+        "adoteumpet.datasource.replica.sticky-window=5s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("🧪 Testes de Integração - Réplica de leitura")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String NEW_PET = """
+            {"name": "Bolt", "species": "DOG", "ageYears": 2, "shelterCity": "Campinas", "status": "AVAILABLE"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        petRepository.deleteAllInBatch();
+        replicate();
+    }
+
+    @Test
+    @DisplayName("📚 Listagens devem ler da réplica")
+    void readOnlyListing_ShouldReadFromReplica() throws Exception {
+        // Given: o pet existe apenas no primário
+        mockMvc.perform(post("/api/pets").contentType(MediaType.APPLICATION_JSON).content(NEW_PET))
+                .andExpect(status().isCreated());
+
+        // When / Then: sem o cookie, a leitura vai para a réplica atrasada
+        mockMvc.perform(get("/api/pets/status/AVAILABLE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+
+        replicate();
+        mockMvc.perform(get("/api/pets/status/AVAILABLE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("✍️ Cliente deve ler as próprias escritas no primário durante a janela")
+    void afterWrite_ClientWithCookie_ShouldReadFromPrimary() throws Exception {
+        // Given
+        MvcResult created = mockMvc.perform(post("/api/pets").contentType(MediaType.APPLICATION_JSON).content(NEW_PET))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Set-Cookie", containsString(ReadYourWritesFilter.COOKIE_NAME + "=1")))
+                .andExpect(header().string("Set-Cookie", containsString("Max-Age=5")))
+                .andReturn();
+        Cookie cookie = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+
+        // When / Then: quem gravou vê o pet; os demais clientes ainda leem a réplica
+        mockMvc.perform(get("/api/pets/status/AVAILABLE").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].name").value("Bolt"));
+
+        mockMvc.perform(get("/api/pets/status/AVAILABLE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("🔒 Leituras não devem definir o cookie de leitura no primário")
+    void readRequest_ShouldNotSetCookie() throws Exception {
+        mockMvc.perform(get("/api/pets/status/AVAILABLE"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Set-Cookie"));
+    }
+
+    @Test
+    @DisplayName("🧵 Transação de escrita fora de requisição deve liberar a thread após o commit")
+    void writeTransactionOutsideRequest_ShouldReleaseThreadAfterCommit() {
+        // Given: uma thread sem requisição, como um agendamento ou um ouvinte de evento
+        ReadYourWrites.clear();
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // When
+        write.executeWithoutResult(status -> {
+            Pet pet = new Pet();
+            pet.setName("Bolt");
+            pet.setSpecies(Species.DOG);
+            pet.setShelterCity("Campinas");
+            pet.setStatus(Status.AVAILABLE);
+            petRepository.save(pet);
+            assertTrue(ReadYourWrites.isPinnedToPrimary());
+        });
+
+        // Then: a leitura seguinte da thread volta à réplica, que ainda não recebeu o pet
+        assertFalse(ReadYourWrites.isPinnedToPrimary());
+        Long replicaCount = readOnly.execute(status -> petRepository.count());
+        assertEquals(0L, replicaCount);
+    }
+
+    @Test
+    @DisplayName("🗃️ Leitura da réplica não deve deixar o pet atrasado no cache para quem gravou")
+    void replicaRead_ShouldNotCacheStalePet() throws Exception {
+        // Given: o pet já replicado e depois alterado apenas no primário
+        String id = createReplicatedPet();
+        Cookie cookie = renamePet(id, "Thor");
+
+        // When: outro cliente lê o pet pela réplica atrasada
+        mockMvc.perform(get("/api/pets/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Bolt"));
+
+        // Then: quem gravou recebe a versão nova, e não a cópia da réplica guardada em cache
+        MvcResult read = mockMvc.perform(get("/api/pets/{id}", id).cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Thor"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andReturn();
+
+        // And: a ETag lida é aceita no If-Match, sem 409
+        mockMvc.perform(put("/api/pets/{id}", id).cookie(cookie)
+                        .header(HttpHeaders.IF_MATCH, read.getResponse().getHeader(HttpHeaders.ETAG))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(read.getResponse().getContentAsString().replace("\"Campinas\"", "\"Jundiaí\"")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shelterCity").value("Jundiaí"));
+    }
+
+    @Test
+    @DisplayName("🗃️ Listagem em cache não deve guardar a página atrasada da réplica")
+    void replicaListing_ShouldNotCacheStalePage() throws Exception {
+        // Given: a página já lida uma vez, e o pet alterado apenas no primário
+        String id = createReplicatedPet();
+        mockMvc.perform(get("/api/pets").param("species", "DOG"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("Bolt"));
+        Cookie cookie = renamePet(id, "Thor");
+
+        // When: outro cliente pede a página, que não está mais em cache
+        mockMvc.perform(get("/api/pets").param("species", "DOG"))
+                .andExpect(status().isOk());
+
+        // Then: quem gravou vê a alteração na listagem
+        mockMvc.perform(get("/api/pets").param("species", "DOG").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].name").value("Thor"));
+    }
+
+    /**
+     * Cria um pet e o replica.
+     * @return id do pet
+     */
+    private String createReplicatedPet() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/pets").contentType(MediaType.APPLICATION_JSON).content(NEW_PET))
+                .andExpect(status().isCreated())
+                .andReturn();
+        replicate();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    /**
+     * Altera o nome do pet apenas no primário.
+     * @return cookie de leitura no primário definido pela escrita
+     */
+    private Cookie renamePet(String id, String name) throws Exception {
+        MvcResult patched = mockMvc.perform(patch("/api/pets/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": \"" + name + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        Cookie cookie = patched.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        return cookie;
+    }
+
+    /**
+     * Copia o estado atual do primário para a réplica.
+     */
+    private void replicate() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection connection = primaryDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS")) {
+            while (resultSet.next()) {
+                String sql = resultSet.getString(1);
+                // Sem comentários (contagens de linhas) e sem o usuário, que já existe na réplica
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    script.add(sql);
+                }
+            }
+        }
+
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
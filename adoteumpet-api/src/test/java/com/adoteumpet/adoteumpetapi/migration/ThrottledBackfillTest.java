@@ -0,0 +1,133 @@
+package com.adoteumpet.adoteumpetapi.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do backfill em lotes, sobre uma tabela em um banco H2 em memória.
+ */
+@DisplayName("ThrottledBackfill - preenchimento de colunas em lotes")
+class ThrottledBackfillTest {
+
+    private static final int ROWS = 25;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:backfill_test;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (id UUID PRIMARY KEY, amount INTEGER, doubled INTEGER)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items (id, amount) VALUES (?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setObject(1, UUID.randomUUID());
+                insert.setInt(2, i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE items");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Deve preencher todas as linhas pendentes em vários lotes")
+    void run_ShouldUpdateAllPendingRows() throws Exception {
+        // Given: uma linha já preenchida não é contada nem alterada
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE items SET doubled = -1 WHERE amount = 0");
+        }
+
+        // When
+        long updated = doubling(4, Duration.ZERO).run(connection);
+
+        // Then
+        assertEquals(ROWS - 1, updated);
+        assertEquals(0, count("doubled IS NULL"));
+        assertEquals(0, count("doubled <> amount * 2 AND amount <> 0"));
+        assertEquals(1, count("doubled = -1"));
+        assertTrue(connection.getAutoCommit());
+    }
+
+    @Test
+    @DisplayName("Deve retomar apenas as linhas que ainda estão pendentes")
+    void run_SecondRun_ShouldFindNothingPending() throws Exception {
+        // Given
+        doubling(10, Duration.ZERO).run(connection);
+
+        // When
+        long updated = doubling(10, Duration.ZERO).run(connection);
+
+        // Then
+        assertEquals(0, updated);
+    }
+
+    @Test
+    @DisplayName("Deve recusar conexão dentro de uma transação")
+    void run_InsideTransaction_ShouldFail() throws SQLException {
+        // Given
+        connection.setAutoCommit(false);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> doubling(10, Duration.ZERO).run(connection));
+        connection.rollback();
+        connection.setAutoCommit(true);
+        assertEquals(ROWS, count("doubled IS NULL"));
+    }
+
+    @Test
+    @DisplayName("Deve ler o tamanho do lote e a pausa dos placeholders do Flyway")
+    void constructor_WithPlaceholders_ShouldValidateValues() throws Exception {
+        // Given
+        Map<String, String> placeholders = Map.of(
+                ThrottledBackfill.BATCH_SIZE_PLACEHOLDER, "0",
+                ThrottledBackfill.PAUSE_MS_PLACEHOLDER, "5");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> doubling(placeholders));
+        assertEquals(ROWS, doubling(Map.of(ThrottledBackfill.BATCH_SIZE_PLACEHOLDER, "7")).run(connection));
+    }
+
+    private static ThrottledBackfill doubling(int batchSize, Duration pause) {
+        return new ThrottledBackfill("doubled", "items", "doubled IS NULL", "amount",
+                "UPDATE items SET doubled = ? WHERE id = ?",
+                (row, update) -> update.setInt(1, row.getInt("amount") * 2),
+                batchSize, pause);
+    }
+
+    private static ThrottledBackfill doubling(Map<String, String> placeholders) {
+        return new ThrottledBackfill("doubled", "items", "doubled IS NULL", "amount",
+                "UPDATE items SET doubled = ? WHERE id = ?",
+                (row, update) -> update.setInt(1, row.getInt("amount") * 2),
+                placeholders);
+    }
+
+    private long count(String condition) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM items WHERE " + condition)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.adoteumpet.adoteumpetapi.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários do gerador de UUIDs versão 7.
+ */
+@DisplayName("UuidV7Generator - UUIDs ordenados pelo tempo")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs versão 7 com o instante atual")
+    void next_ShouldEncodeVersionVariantAndTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = UuidV7Generator.next();
+
+        // Then: rajadas de mais de 4096 ids por milissegundo adiantam o instante em alguns milissegundos
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1_000, "instante: " + millis);
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids estritamente crescentes na ordem de bytes do PostgreSQL")
+    void next_ShouldBeStrictlyIncreasing() {
+        // Given: a representação textual tem largura fixa, então a ordem das strings é a ordem dos bytes
+        String previous = UuidV7Generator.next().toString();
+
+        // When / Then: muitos ids no mesmo milissegundo exercitam o contador
+        for (int i = 0; i < 100_000; i++) {
+            String current = UuidV7Generator.next().toString();
+            assertTrue(current.compareTo(previous) > 0, previous + " >= " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids únicos entre threads")
+    void next_ConcurrentCalls_ShouldBeUnique() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7Generator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("Deve montar o UUID a partir do instante, do contador e dos bits aleatórios")
+    void of_ShouldPlaceFieldsInRfcLayout() {
+        // When
+        UUID id = UuidV7Generator.of(0x0190_1234_5678L, 0xABC, -1L);
+
+        // Then
+        assertEquals("01901234-5678-7abc-bfff-ffffffffffff", id.toString());
+        assertTrue(UuidV7Generator.of(2, 0, 0).toString().compareTo(UuidV7Generator.of(1, 0xFFF, -1L).toString()) > 0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.adoteumpet.adoteumpetapi.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compara, no PostgreSQL, a inserção de chaves UUID aleatórias (versão 4) e ordenadas pelo tempo (versão 7).
+ *
+ * Grava a mesma quantidade de linhas (10 milhões por padrão) em duas tabelas de um schema
+ * descartável, com a chave primária UUID de pets, e registra no log o tempo de carga e o
+ * tamanho do índice da chave primária. Com ids aleatórios cada inserção cai em uma página
+ * qualquer do índice, que se divide pela metade; com ids versão 7 as páginas são preenchidas
+ * em sequência. Exige que o índice das chaves versão 7 seja menor.
+ *
+ * Requer um PostgreSQL acessível; execute com:
+ * PLAN_TEST_DATASOURCE_URL=jdbc:postgresql://localhost:5432/adoteumpet_test ./mvnw verify
+ * (UUID_BENCHMARK_ROWS altera a quantidade de linhas)
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_TEST_DATASOURCE_URL", matches = ".+")
+class UuidV7InsertBenchmarkIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(UuidV7InsertBenchmarkIT.class);
+
+    private static final String SCHEMA = "uuid_insert_benchmark";
+    private static final long ROWS = Long.parseLong(System.getenv().getOrDefault("UUID_BENCHMARK_ROWS", "10000000"));
+    private static final int COPY_BUFFER_CHARS = 64 * 1024;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            System.getenv("PLAN_TEST_DATASOURCE_URL"),
+            System.getenv().getOrDefault("PLAN_TEST_DATASOURCE_USERNAME", "postgres"),
+            System.getenv().getOrDefault("PLAN_TEST_DATASOURCE_PASSWORD", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            for (String table : new String[] {"ids_v4", "ids_v7"}) {
+                statement.execute("CREATE TABLE " + table
+                        + " (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    private record Result(long millis, long indexBytes) {
+
+        long rowsPerSecond() {
+            return ROWS * 1000 / Math.max(1, millis);
+        }
+    }
+
+    @Test
+    void uuidV7Keys_ShouldBuildSmallerPrimaryKeyIndex() throws SQLException {
+        // When
+        Result v4 = load("ids_v4", UUID::randomUUID);
+        Result v7 = load("ids_v7", UuidV7Generator::next);
+
+        // Then
+        logger.info("📊 Inserção de {} chaves UUID na chave primária", ROWS);
+        logger.info("   versão 4: {} ms ({} linhas/s), índice {} MB",
+                v4.millis(), v4.rowsPerSecond(), v4.indexBytes() / (1024 * 1024));
+        logger.info("   versão 7: {} ms ({} linhas/s), índice {} MB ({}% menor)",
+                v7.millis(), v7.rowsPerSecond(), v7.indexBytes() / (1024 * 1024),
+                100 - v7.indexBytes() * 100 / Math.max(1, v4.indexBytes()));
+
+        assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+    }
+
+    /**
+     * Carrega as linhas por COPY, como a carga em massa de pets, e mede o tempo e o tamanho do índice.
+     */
+    private static Result load(String table, Supplier<UUID> ids) throws SQLException {
+        String timestamp = LocalDateTime.now().toString();
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 128);
+
+        long start = System.nanoTime();
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + SCHEMA + "." + table + " (id, created_at) FROM STDIN");
+        try {
+            for (long i = 0; i < ROWS; i++) {
+                buffer.append(ids.get()).append('\t').append(timestamp).append('\n');
+                if (buffer.length() >= COPY_BUFFER_CHARS) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            statement.setString(1, SCHEMA + "." + table + "_pkey");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new Result(millis, resultSet.getLong(1));
+            }
+        }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,128 @@
+package com.adoteumpet.adoteumpetapi.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.generator.PetCatalogGenerator;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.specification.PetSpecifications;
+
+/**
+ * Compara a leitura das listagens como entidades gerenciadas e como projeções {@link com.adoteumpet.adoteumpetapi.dto.PetSummary}.
+ *
+ * Cada cenário roda dentro de uma transação, como acontecia com open-in-view: as entidades
+ * entram no contexto de persistência e passam pelo dirty checking no commit. Mede bytes
+ * alocados pela thread e latência média por chamada, registra a comparação no log e exige
+ * que as projeções aloquem menos.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PetSummaryProjectionBenchmarkIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetSummaryProjectionBenchmarkIT.class);
+
+    private static final int PETS = 5_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private PetBulkLoader petBulkLoader;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        transaction = new TransactionTemplate(transactionManager);
+        petRepository.deleteAll();
+
+        // Mesma massa reproduzível do perfil "generate", gravada pela carga em massa
+        petBulkLoader.load(new PetCatalogGenerator(PetCatalogGenerator.DEFAULT_SEED, PETS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        petRepository.deleteAll();
+    }
+
+    @Test
+    void pagedSearch_SummariesShouldAllocateLessThanEntities() {
+        Specification<Pet> spec = PetSpecifications.withFilter(new PetFilter(null, Species.DOG, null, null, null));
+        Pageable pageable = PageRequest.of(3, 100, Sort.by("name"));
+
+        Measurement entities = measure(() -> petRepository.findAll(spec, pageable).getNumberOfElements());
+        Measurement summaries = measure(() -> petRepository.findSummaries(spec, pageable).getNumberOfElements());
+
+        report("GET /api/pets (página de 100)", entities, summaries);
+        assertThat(summaries.rows()).isEqualTo(entities.rows());
+        assertThat(summaries.bytesPerCall()).isLessThan(entities.bytesPerCall());
+    }
+
+    @Test
+    void statusList_SummariesShouldAllocateLessThanEntities() {
+        Specification<Pet> spec = PetSpecifications.hasStatus(Status.AVAILABLE);
+        Pageable pageable = PageRequest.of(0, 100, Sort.by("id"));
+
+        Measurement entities = measure(() -> petRepository.findSlice(spec, pageable).getNumberOfElements());
+        Measurement summaries = measure(() -> petRepository.findSummarySlice(spec, pageable).getNumberOfElements());
+
+        report("GET /api/pets/status/AVAILABLE (página de 100)", entities, summaries);
+        assertThat(summaries.rows()).isEqualTo(entities.rows());
+        assertThat(summaries.bytesPerCall()).isLessThan(entities.bytesPerCall());
+    }
+
+    private record Measurement(int rows, long bytesPerCall, double millisPerCall) {
+    }
+
+    private Measurement measure(Supplier<Integer> read) {
+        for (int i = 0; i < WARMUP; i++) {
+            transaction.execute(status -> read.get());
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int rows = 0;
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows = transaction.execute(status -> read.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+
+        return new Measurement(rows, bytes / ITERATIONS, elapsed / 1_000_000.0 / ITERATIONS);
+    }
+
+    private static void report(String scenario, Measurement entities, Measurement summaries) {
+        logger.info("📊 {} - {} pets por chamada", scenario, entities.rows());
+        logger.info("   entidades: {} KB alocados, {} ms",
+                entities.bytesPerCall() / 1024, String.format("%.2f", entities.millisPerCall()));
+        logger.info("   projeções: {} KB alocados, {} ms ({}% menos memória)",
+                summaries.bytesPerCall() / 1024, String.format("%.2f", summaries.millisPerCall()),
+                100 - summaries.bytesPerCall() * 100 / Math.max(1, entities.bytesPerCall()));
+    }
+}
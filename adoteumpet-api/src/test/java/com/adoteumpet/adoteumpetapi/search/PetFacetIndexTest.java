@@ -0,0 +1,157 @@
+package com.adoteumpet.adoteumpetapi.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+
+/**
+ * Testes unitários para PetFacetIndex
+ * Testa as contagens disjuntivas e a atualização do índice pelos eventos de alteração
+ */
+@DisplayName("PetFacetIndex - Testes Unitários")
+class PetFacetIndexTest {
+
+    private PetFacetIndex index;
+    private PetRepository repository;
+    private Pet rex;
+    private Pet luna;
+
+    @BeforeEach
+    void setUp() {
+        rex = pet("Rex", Species.DOG, "Golden Retriever", "São Paulo", Status.AVAILABLE);
+        luna = pet("Luna", Species.CAT, "Siamês", "São Paulo", Status.ADOPTED);
+        List<Pet> stored = List.of(
+                rex,
+                luna,
+                pet("Thor", Species.DOG, "Labrador", "Curitiba", Status.AVAILABLE),
+                pet("Mel", Species.DOG, "Golden Retriever", "Curitiba", Status.ADOPTED));
+
+        repository = mock(PetRepository.class);
+        doAnswer(invocation -> {
+            Consumer<List<Pet>> action = invocation.getArgument(1);
+            action.accept(stored);
+            return null;
+        }).when(repository).forEachBatch(anyInt(), any());
+
+        index = new PetFacetIndex(repository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Deve contar todos os valores sem filtros")
+    void facets_WithoutFilters_ShouldCountEveryValue() {
+        // When
+        Map<String, Map<String, Long>> facets = index.facets(new PetFilter());
+
+        // Then
+        assertEquals(Map.of("DOG", 3L, "CAT", 1L), facets.get(PetFacetIndex.SPECIES));
+        assertEquals(Map.of("AVAILABLE", 2L, "ADOPTED", 2L), facets.get(PetFacetIndex.STATUS));
+        assertEquals(Map.of("São Paulo", 2L, "Curitiba", 2L), facets.get(PetFacetIndex.SHELTER_CITY));
+        assertEquals(List.of("Golden Retriever", "Labrador", "Siamês"),
+                List.copyOf(facets.get(PetFacetIndex.BREED).keySet()));
+    }
+
+    @Test
+    @DisplayName("Não deve restringir a faceta pelo seu próprio filtro")
+    void facets_ShouldNotRestrictTheFilteredFacetItself() {
+        // Given
+        PetFilter filter = new PetFilter(null, Species.DOG, null, null, null);
+
+        // When
+        Map<String, Map<String, Long>> facets = index.facets(filter);
+
+        // Then
+        assertEquals(Map.of("DOG", 3L, "CAT", 1L), facets.get(PetFacetIndex.SPECIES));
+        assertEquals(Map.of("AVAILABLE", 2L, "ADOPTED", 1L), facets.get(PetFacetIndex.STATUS));
+        assertEquals(Map.of("Golden Retriever", 2L, "Labrador", 1L), facets.get(PetFacetIndex.BREED));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros parciais de texto como a listagem")
+    void facets_ShouldApplyPartialTextFiltersLikeTheListing() {
+        // Given
+        PetFilter filter = new PetFilter("E", null, "golden", "paulo", null);
+
+        // When
+        Map<String, Map<String, Long>> facets = index.facets(filter);
+
+        // Then
+        assertEquals(Map.of("DOG", 1L), facets.get(PetFacetIndex.SPECIES));
+        assertEquals(Map.of("Golden Retriever", 1L), facets.get(PetFacetIndex.BREED));
+        assertEquals(Map.of("São Paulo", 1L, "Curitiba", 1L), facets.get(PetFacetIndex.SHELTER_CITY));
+    }
+
+    @Test
+    @DisplayName("Deve mover contagens na atualização e removê-las na exclusão")
+    void onPetChanged_ShouldMoveCountsOnUpdateAndDropThemOnDelete() {
+        // Given
+        Pet adopted = pet("Rex", Species.DOG, "Golden Retriever", "São Paulo", Status.ADOPTED);
+        adopted.setId(rex.getId());
+
+        // When
+        index.onPetChanged(PetChangedEvent.updated(rex, adopted));
+        index.onPetChanged(PetChangedEvent.deleted(luna));
+        index.onPetChanged(PetChangedEvent.created(pet("Nina", Species.CAT, null, "Recife", Status.AVAILABLE)));
+
+        // Then
+        Map<String, Map<String, Long>> facets = index.facets(new PetFilter());
+        assertEquals(Map.of("AVAILABLE", 2L, "ADOPTED", 2L), facets.get(PetFacetIndex.STATUS));
+        assertEquals(Map.of("Curitiba", 2L, "São Paulo", 1L, "Recife", 1L), facets.get(PetFacetIndex.SHELTER_CITY));
+        assertFalse(facets.get(PetFacetIndex.BREED).containsKey("Siamês"));
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice anterior durante a reconstrução e preservar alterações recebidas nela")
+    void rebuild_ShouldKeepServingAndReplayChangesReceivedMeanwhile() {
+        // Given: o banco tem só Rex e Luna; durante a leitura, Luna é devolvida para adoção
+        Pet available = pet("Luna", Species.CAT, "Siamês", "São Paulo", Status.AVAILABLE);
+        available.setId(luna.getId());
+        AtomicReference<Map<String, Map<String, Long>>> duringRebuild = new AtomicReference<>();
+        doAnswer(invocation -> {
+            duringRebuild.set(index.facets(new PetFilter()));
+            index.onPetChanged(PetChangedEvent.updated(luna, available));
+            Consumer<List<Pet>> action = invocation.getArgument(1);
+            action.accept(List.of(rex, luna));
+            return null;
+        }).when(repository).forEachBatch(anyInt(), any());
+
+        // When
+        index.rebuild();
+
+        // Then: as contagens não ficaram vazias durante a leitura, e a alteração sobreviveu à troca
+        assertEquals(Map.of("DOG", 3L, "CAT", 1L), duringRebuild.get().get(PetFacetIndex.SPECIES));
+        Map<String, Map<String, Long>> facets = index.facets(new PetFilter());
+        assertEquals(Map.of("DOG", 1L, "CAT", 1L), facets.get(PetFacetIndex.SPECIES));
+        assertEquals(Map.of("AVAILABLE", 2L), facets.get(PetFacetIndex.STATUS));
+    }
+
+    private static Pet pet(String name, Species species, String breed, String city, Status status) {
+        Pet pet = new Pet();
+        pet.setId(UUID.randomUUID());
+        pet.setName(name);
+        pet.setSpecies(species);
+        pet.setBreed(breed);
+        pet.setShelterCity(city);
+        pet.setStatus(status);
+        return pet;
+    }
+}
@@ -0,0 +1,198 @@
+package com.adoteumpet.adoteumpetapi.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+
+/**
+ * Testes unitários para o índice de busca textual de pets.
+ */
+class PetSearchIndexTest {
+
+    private PetSearchIndex index;
+    private PetRepository repository;
+    private Pet rex;
+    private Pet mia;
+    private Pet thor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = mock(PetRepository.class);
+        index = new PetSearchIndex(repository, "");
+        rex = index(pet("Rex", Species.DOG, "Golden Retriever", "São Paulo", Status.AVAILABLE));
+        mia = index(pet("Mia", Species.CAT, "Siamês", "Rio de Janeiro", Status.AVAILABLE));
+        thor = index(pet("Thor", Species.DOG, "Rex Terrier", "Curitiba", Status.ADOPTED));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveBreedMatches() {
+        // When
+        PetSearchIndex.Hits hits = index.search("rex", new PetFilter(), 0, 10);
+
+        // Then
+        assertEquals(2, hits.total());
+        assertEquals(rex.getId(), hits.ids().get(0));
+        assertEquals(thor.getId(), hits.ids().get(1));
+    }
+
+    @Test
+    void search_ShouldIgnoreAccentsAndMatchPrefixOfLastWord() {
+        // When
+        PetSearchIndex.Hits hits = index.search("sao pau", new PetFilter(), 0, 10);
+
+        // Then
+        assertEquals(1, hits.total());
+        assertEquals(rex.getId(), hits.ids().get(0));
+    }
+
+    @Test
+    void search_ShouldTolerateOneTypo() {
+        // When
+        PetSearchIndex.Hits hits = index.search("golfen", new PetFilter(), 0, 10);
+
+        // Then
+        assertEquals(1, hits.total());
+        assertEquals(rex.getId(), hits.ids().get(0));
+    }
+
+    @Test
+    void search_ShouldRequireEveryWord() {
+        // When
+        PetSearchIndex.Hits hits = index.search("rex curitiba", new PetFilter(), 0, 10);
+
+        // Then
+        assertEquals(1, hits.total());
+        assertEquals(thor.getId(), hits.ids().get(0));
+    }
+
+    @Test
+    void search_ShouldApplyListingFilters() {
+        // Given
+        PetFilter filter = new PetFilter(null, Species.DOG, "golden", null, Status.AVAILABLE);
+
+        // When
+        PetSearchIndex.Hits hits = index.search("rex", filter, 0, 10);
+
+        // Then
+        assertEquals(1, hits.total());
+        assertEquals(rex.getId(), hits.ids().get(0));
+    }
+
+    @Test
+    void search_ShouldPageResultsAndKeepTotal() {
+        // When
+        PetSearchIndex.Hits hits = index.search("rex", new PetFilter(), 1, 1);
+
+        // Then
+        assertEquals(2, hits.total());
+        assertEquals(1, hits.ids().size());
+        assertEquals(thor.getId(), hits.ids().get(0));
+    }
+
+    @Test
+    void onPetChanged_ShouldReflectUpdatesAndDeletions() {
+        // Given
+        Pet renamed = pet("Bob", Species.CAT, "Siamês", "Rio de Janeiro", Status.AVAILABLE);
+        renamed.setId(mia.getId());
+
+        // When
+        index.onPetChanged(PetChangedEvent.updated(mia, renamed));
+        index.onPetChanged(PetChangedEvent.deleted(thor));
+
+        // Then
+        assertEquals(0, index.search("mia", new PetFilter(), 0, 10).total());
+        assertEquals(mia.getId(), index.search("bob", new PetFilter(), 0, 10).ids().get(0));
+        assertEquals(1, index.search("rex", new PetFilter(), 0, 10).total());
+    }
+
+    @Test
+    void rebuild_ShouldKeepServingDuringRebuildAndDropRemovedPets() throws Exception {
+        // Given: o banco tem Rex e Mia (Thor foi removido); durante a leitura, Bidu é cadastrado
+        // e Mia, já lida no lote seguinte, é renomeada para Luna
+        Pet bidu = pet("Bidu", Species.DOG, "Vira-lata", "Recife", Status.AVAILABLE);
+        Pet luna = pet("Luna", Species.CAT, "Siamês", "Rio de Janeiro", Status.AVAILABLE);
+        luna.setId(mia.getId());
+        AtomicLong duringRebuild = new AtomicLong();
+        doAnswer(invocation -> {
+            Consumer<List<Pet>> action = invocation.getArgument(1);
+            action.accept(List.of(rex));
+            duringRebuild.set(index.search("rex", new PetFilter(), 0, 10).total());
+            index.onPetChanged(PetChangedEvent.created(bidu));
+            index.onPetChanged(PetChangedEvent.updated(mia, luna));
+            action.accept(List.of(mia));
+            return null;
+        }).when(repository).forEachBatch(anyInt(), any());
+
+        // When
+        index.rebuild();
+
+        // Then: a busca nunca ficou vazia, Thor saiu e as alterações feitas no meio foram mantidas
+        assertEquals(2, duringRebuild.get());
+        assertEquals(List.of(rex.getId()), index.search("rex", new PetFilter(), 0, 10).ids());
+        assertEquals(1, index.search("bidu", new PetFilter(), 0, 10).total());
+        assertEquals(0, index.search("mia", new PetFilter(), 0, 10).total());
+        assertEquals(List.of(mia.getId()), index.search("luna", new PetFilter(), 0, 10).ids());
+    }
+
+    @Test
+    void onPetsImported_ShouldRebuildOutsideCallerThread() throws Exception {
+        // Given
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        AtomicReference<String> rebuildThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            rebuildThread.set(Thread.currentThread().getName());
+            rebuilt.countDown();
+            return null;
+        }).when(repository).forEachBatch(anyInt(), any());
+
+        // When
+        index.onPetsImported(new PetsImportedEvent(3));
+
+        // Then
+        assertTrue(rebuilt.await(5, TimeUnit.SECONDS));
+        assertEquals("pet-search-rebuild", rebuildThread.get());
+    }
+
+    private Pet index(Pet pet) {
+        index.onPetChanged(PetChangedEvent.created(pet));
+        return pet;
+    }
+
+    private static Pet pet(String name, Species species, String breed, String city, Status status) {
+        Pet pet = new Pet();
+        pet.setId(UUID.randomUUID());
+        pet.setName(name);
+        pet.setSpecies(species);
+        pet.setBreed(breed);
+        pet.setShelterCity(city);
+        pet.setStatus(status);
+        return pet;
+    }
+}
@@ -0,0 +1,130 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compara o cadastro de pets um a um (POST /api/pets) com o cadastro em lote (POST /api/pets/batch).
+ *
+ * Conta as instruções preparadas pelas estatísticas do Hibernate: um a um, cada pet custa uma
+ * transação e um INSERT; em lote, os INSERTs são agrupados em lotes JDBC de hibernate.jdbc.batch_size.
+ * Registra a vazão de cada cenário no log.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PetBatchInsertBenchmarkIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(PetBatchInsertBenchmarkIT.class);
+
+    private static final int PETS = 2 * PetService.MAX_BATCH_SIZE;
+    private static final int JDBC_BATCH_SIZE = 50; // spring.jpa.properties.hibernate.jdbc.batch_size
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        petRepository.deleteAll();
+
+        // aquecimento dos dois caminhos
+        for (int i = 0; i < 50; i++) {
+            petService.savePet(pet(i));
+        }
+        petService.savePets(pets(50));
+        petRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        petRepository.deleteAll();
+    }
+
+    @Test
+    void batchInsert_ShouldGroupInsertsIntoJdbcBatches() {
+        // um a um
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < PETS; i++) {
+            petService.savePet(pet(i));
+        }
+        double singleMillis = (System.nanoTime() - start) / 1_000_000.0;
+        long singleStatements = statistics.getPrepareStatementCount();
+        long singleTransactions = statistics.getTransactionCount();
+
+        // em lote
+        petRepository.deleteAll();
+        statistics.clear();
+        start = System.nanoTime();
+        for (int offset = 0; offset < PETS; offset += PetService.MAX_BATCH_SIZE) {
+            petService.savePets(pets(PetService.MAX_BATCH_SIZE));
+        }
+        double batchMillis = (System.nanoTime() - start) / 1_000_000.0;
+        long batchStatements = statistics.getPrepareStatementCount();
+        long batchTransactions = statistics.getTransactionCount();
+
+        logger.info("📊 Cadastro de {} pets", PETS);
+        logger.info("   um a um: {} instruções, {} transações, {} ms ({} pets/s)",
+                singleStatements, singleTransactions, String.format("%.0f", singleMillis),
+                String.format("%.0f", PETS / singleMillis * 1000));
+        logger.info("   em lote: {} instruções, {} transações, {} ms ({} pets/s)",
+                batchStatements, batchTransactions, String.format("%.0f", batchMillis),
+                String.format("%.0f", PETS / batchMillis * 1000));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(PETS);
+        assertThat(petRepository.count()).isEqualTo(PETS);
+        assertThat(singleStatements).isGreaterThanOrEqualTo(PETS);
+        assertThat(batchStatements).isLessThanOrEqualTo(PETS / JDBC_BATCH_SIZE);
+        assertThat(batchTransactions).isEqualTo(PETS / PetService.MAX_BATCH_SIZE);
+    }
+
+    private static List<Pet> pets(int count) {
+        List<Pet> pets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pets.add(pet(i));
+        }
+        return pets;
+    }
+
+    private static Pet pet(int i) {
+        Pet pet = new Pet();
+        pet.setName("Pet " + i);
+        pet.setSpecies(i % 2 == 0 ? Species.DOG : Species.CAT);
+        pet.setBreed("Raça " + (i % 40));
+        pet.setAgeYears(i % 15);
+        pet.setShelterCity("Cidade " + (i % 100));
+        pet.setShelterLat(BigDecimal.valueOf(-23.5 + (i % 100) * 0.01));
+        pet.setShelterLng(BigDecimal.valueOf(-46.6 + (i % 100) * 0.01));
+        pet.setStatus(Status.AVAILABLE);
+        return pet;
+    }
+}
@@ -0,0 +1,124 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.ExportFormat;
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para PetExportService
+ * Testa a escrita em NDJSON e CSV a partir do cursor do repositório
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PetExportService - Testes Unitários")
+class PetExportServiceTest {
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private PetExportService petExportService;
+
+    private final PetSummary rex = new PetSummary(
+            UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "Rex", Species.DOG, "Golden Retriever", 3,
+            "São Paulo", new BigDecimal("-23.5505199"), new BigDecimal("-46.6333094"), Status.AVAILABLE,
+            LocalDateTime.of(2024, 1, 15, 10, 30));
+
+    private final PetSummary luna = new PetSummary(
+            UUID.fromString("223e4567-e89b-12d3-a456-426614174000"), "Luna, a gata", Species.CAT, null, null,
+            "Curitiba", null, null, Status.ADOPTED, null);
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha")
+    void export_Ndjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Given
+        when(petRepository.streamSummaries(any(), eq(Sort.by("id")), eq(PetExportService.FETCH_SIZE)))
+                .thenReturn(Stream.of(rex, luna));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = petExportService.export(new PetFilter(), null, null, null, ExportFormat.NDJSON, output);
+
+        // Then
+        assertEquals(2, rows);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Rex", first.get("name").asText());
+        assertEquals("DOG", first.get("species").asText());
+        assertEquals("2024-01-15T10:30:00", first.get("createdAt").asText());
+        assertEquals("Luna, a gata", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Deve escrever CSV com cabeçalho e valores escapados")
+    void export_Csv_ShouldWriteHeaderAndRows() throws Exception {
+        // Given
+        when(petRepository.streamSummaries(any(), eq(Sort.by("id")), eq(PetExportService.FETCH_SIZE)))
+                .thenReturn(Stream.of(rex, luna));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = petExportService.export(new PetFilter(), null, null, null, ExportFormat.CSV, output);
+
+        // Then
+        assertEquals(2, rows);
+        List<String[]> lines = new CsvMapper()
+                .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+                .readerFor(String[].class)
+                .<String[]>readValues(output.toString(StandardCharsets.UTF_8))
+                .readAll();
+        assertEquals(3, lines.size());
+        assertArrayEquals(PetExportService.CSV_COLUMNS, lines.get(0));
+        assertArrayEquals(new String[] {
+            "123e4567-e89b-12d3-a456-426614174000", "Rex", "DOG", "Golden Retriever", "3", "São Paulo",
+            "-23.5505199", "-46.6333094", "AVAILABLE", "2024-01-15T10:30:00"
+        }, lines.get(1));
+        assertArrayEquals(new String[] {
+            "223e4567-e89b-12d3-a456-426614174000", "Luna, a gata", "CAT", "", "", "Curitiba",
+            "", "", "ADOPTED", ""
+        }, lines.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato de exportação desconhecido")
+    void parseFormat_UnknownFormat_ShouldThrowBadRequest() {
+        // When / Then
+        assertEquals(ExportFormat.CSV, petExportService.parseFormat("CSV"));
+        assertThrows(BadRequestException.class, () -> petExportService.parseFormat("xml"));
+    }
+}
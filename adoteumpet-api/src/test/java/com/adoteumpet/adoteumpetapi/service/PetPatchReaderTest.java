@@ -0,0 +1,105 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.geo.GeoHash;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para PetPatchReader
+ * Testa a conversão e a validação dos documentos JSON Merge Patch
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PetPatchReader - Testes Unitários")
+class PetPatchReaderTest {
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private PetPatchReader petPatchReader;
+
+    @Test
+    @DisplayName("Deve converter apenas os campos enviados, na ordem do documento")
+    void read_ShouldConvertOnlySentFields() throws Exception {
+        // When
+        Map<String, Object> changes = read("{\"status\":\"ADOPTED\",\"ageYears\":4,\"species\":\"CAT\"}");
+
+        // Then
+        assertEquals(List.of("status", "ageYears", "species"), List.copyOf(changes.keySet()));
+        assertEquals(Status.ADOPTED, changes.get("status"));
+        assertEquals(4, changes.get("ageYears"));
+        assertEquals(Species.CAT, changes.get("species"));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar null em campo opcional para remover o valor")
+    void read_NullOnOptionalField_ShouldClearValue() throws Exception {
+        // When
+        Map<String, Object> changes = read("{\"breed\":null}");
+
+        // Then
+        assertTrue(changes.containsKey("breed"));
+        assertNull(changes.get("breed"));
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o geohash quando as coordenadas mudam")
+    void read_Coordinates_ShouldDeriveGeohash() throws Exception {
+        // When
+        Map<String, Object> changes = read("{\"shelterLat\":-23.5505199,\"shelterLng\":-46.6333094}");
+
+        // Then
+        assertEquals(new BigDecimal("-23.5505199"), changes.get("shelterLat"));
+        assertEquals(GeoHash.encode(-23.5505199, -46.6333094, GeoHash.MAX_PRECISION), changes.get("geohash"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campos desconhecidos ou não editáveis")
+    void read_UnknownField_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> read("{\"id\":\"123e4567-e89b-12d3-a456-426614174000\"}"));
+        assertThrows(BadRequestException.class, () -> read("{\"version\":3}"));
+        assertThrows(BadRequestException.class, () -> read("{\"color\":\"preto\"}"));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as mesmas validações do cadastro")
+    void read_InvalidValues_ShouldThrowBadRequest() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> read("{\"ageYears\":31}"));
+        assertEquals("Idade deve ser menor que 30 anos", exception.getMessage());
+
+        assertThrows(BadRequestException.class, () -> read("{\"name\":null}"));
+        assertThrows(BadRequestException.class, () -> read("{\"shelterCity\":\"  \"}"));
+        assertThrows(BadRequestException.class, () -> read("{\"status\":null}"));
+        assertThrows(BadRequestException.class, () -> read("{\"species\":\"BIRD\"}"));
+        assertThrows(BadRequestException.class, () -> read("[]"));
+    }
+
+    @Test
+    @DisplayName("Deve exigir latitude e longitude juntas")
+    void read_OnlyLatitude_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> read("{\"shelterLat\":-23.55}"));
+    }
+
+    private Map<String, Object> read(String json) throws Exception {
+        return petPatchReader.read(objectMapper.readTree(json));
+    }
+}
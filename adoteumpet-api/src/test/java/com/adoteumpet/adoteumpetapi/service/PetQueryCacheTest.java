@@ -0,0 +1,162 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.CountMode;
+import com.adoteumpet.adoteumpetapi.dto.PagedResponse;
+import com.adoteumpet.adoteumpetapi.dto.PetFilter;
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.event.PetsImportedEvent;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para PetQueryCache
+ * Testa a chave normalizada e a invalidação apenas das páginas afetadas por cada alteração
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PetQueryCache - Testes Unitários")
+class PetQueryCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 12, Sort.by("name"));
+
+    @Spy
+    private CacheManager cacheManager = new CaffeineCacheManager(PetQueryCache.PAGE_CACHE);
+
+    @InjectMocks
+    private PetQueryCache petQueryCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Deve reutilizar a página para filtros equivalentes")
+    void get_EquivalentFilters_ShouldLoadOnce() {
+        // When
+        PagedResponse<PetSummary> first = load(new PetFilter(null, null, null, " São Paulo ", Status.AVAILABLE));
+        PagedResponse<PetSummary> second = load(new PetFilter("", null, null, "são paulo", Status.AVAILABLE));
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar apenas as páginas cujo filtro aceita o pet alterado")
+    void onPetChanged_ShouldEvictOnlyAffectedPages() {
+        // Given
+        PetFilter availableDogs = new PetFilter(null, Species.DOG, null, null, Status.AVAILABLE);
+        PetFilter cats = new PetFilter(null, Species.CAT, null, null, null);
+        PetFilter curitiba = new PetFilter(null, null, null, "curitiba", null);
+        load(availableDogs);
+        load(cats);
+        load(curitiba);
+        assertEquals(3, loads.get());
+
+        // When: um cão de São Paulo é adotado
+        Pet before = pet(Species.DOG, "São Paulo", Status.AVAILABLE);
+        Pet after = pet(Species.DOG, "São Paulo", Status.ADOPTED);
+        after.setId(before.getId());
+        petQueryCache.onPetChanged(PetChangedEvent.updated(before, after));
+
+        // Then: só a página de cães disponíveis é recarregada
+        load(availableDogs);
+        load(cats);
+        load(curitiba);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar as páginas que passam a incluir um pet cadastrado")
+    void onPetChanged_Created_ShouldEvictPagesThatNowMatch() {
+        // Given
+        PetFilter curitiba = new PetFilter(null, null, null, "curitiba", null);
+        PetFilter recife = new PetFilter(null, null, null, "recife", null);
+        load(curitiba);
+        load(recife);
+
+        // When
+        petQueryCache.onPetChanged(PetChangedEvent.created(pet(Species.CAT, "Curitiba", Status.AVAILABLE)));
+
+        // Then
+        load(curitiba);
+        load(recife);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pelas tags as páginas por parte da cidade e as páginas sem tag")
+    void onPetChanged_ShouldEvictPartialCityAndUntaggedPages() {
+        // Given
+        PetFilter paulo = new PetFilter(null, null, null, "paulo", null);
+        PetFilter recife = new PetFilter(null, null, null, "recife", null);
+        PetFilter named = new PetFilter("rex", null, null, null, null);
+        PetFilter all = new PetFilter();
+        load(paulo);
+        load(recife);
+        load(named);
+        load(all);
+        assertEquals(4, loads.get());
+
+        // When
+        petQueryCache.onPetChanged(PetChangedEvent.created(pet(Species.DOG, "São Paulo", Status.AVAILABLE)));
+
+        // Then: só a página de Recife continua em cache
+        load(paulo);
+        load(recife);
+        load(named);
+        load(all);
+        assertEquals(7, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve continuar invalidando páginas recarregadas após uma importação")
+    void onPetsImported_ShouldEvictAllAndKeepIndexingReloadedPages() {
+        // Given
+        PetFilter dogs = new PetFilter(null, Species.DOG, null, null, null);
+        load(dogs);
+        petQueryCache.onPetsImported(new PetsImportedEvent(10));
+        load(dogs);
+        assertEquals(2, loads.get());
+
+        // When
+        petQueryCache.onPetChanged(PetChangedEvent.created(pet(Species.DOG, "Recife", Status.AVAILABLE)));
+
+        // Then
+        load(dogs);
+        assertEquals(3, loads.get());
+    }
+
+    private PagedResponse<PetSummary> load(PetFilter filter) {
+        return petQueryCache.get(filter, FIRST_PAGE, CountMode.EXACT, () -> {
+            loads.incrementAndGet();
+            return new PagedResponse<>(List.of(), 0, 12, 0, 0);
+        });
+    }
+
+    private static Pet pet(Species species, String city, Status status) {
+        Pet pet = new Pet();
+        pet.setId(UUID.randomUUID());
+        pet.setName("Rex");
+        pet.setSpecies(species);
+        pet.setShelterCity(city);
+        pet.setStatus(status);
+        return pet;
+    }
+}
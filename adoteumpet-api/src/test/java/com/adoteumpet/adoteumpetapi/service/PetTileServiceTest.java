@@ -0,0 +1,156 @@
+package com.adoteumpet.adoteumpetapi.service;
+
+import com.adoteumpet.adoteumpetapi.dto.PetTile;
+import com.adoteumpet.adoteumpetapi.dto.TileCluster;
+import com.adoteumpet.adoteumpetapi.dto.TilePoint;
+import com.adoteumpet.adoteumpetapi.event.PetChangedEvent;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.geo.MapTile;
+import com.adoteumpet.adoteumpetapi.model.Pet;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+import com.adoteumpet.adoteumpetapi.repository.PetRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para PetTileService
+ * Testa a escolha entre agrupamentos e pontos e a invalidação do cache por tile
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PetTileService - Testes Unitários")
+class PetTileServiceTest {
+
+    private static final double SAO_PAULO_LAT = -23.5505;
+    private static final double SAO_PAULO_LNG = -46.6333;
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Spy
+    private CacheManager cacheManager = new CaffeineCacheManager(PetTileService.TILE_CACHE);
+
+    @InjectMocks
+    private PetTileService petTileService;
+
+    @Test
+    @DisplayName("Deve agrupar pets em zoom baixo")
+    void getTile_LowZoom_ShouldReturnClusters() {
+        // Given
+        MapTile tile = MapTile.containing(SAO_PAULO_LAT, SAO_PAULO_LNG, 5);
+        TileCluster cluster = new TileCluster("6gy", 3, SAO_PAULO_LAT, SAO_PAULO_LNG,
+                Map.of(Species.DOG, 2L, Species.CAT, 1L), Map.of(Status.AVAILABLE, 3L, Status.ADOPTED, 0L));
+        when(petRepository.findTileClusters(eq(tile), any(), anyInt())).thenReturn(List.of(cluster));
+
+        // When
+        PetTile result = petTileService.getTile(tile, null, null);
+
+        // Then
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getClusters().size());
+        assertNull(result.getPoints());
+        verify(petRepository, never()).findTilePoints(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar pets individuais em zoom alto")
+    void getTile_HighZoom_ShouldReturnPoints() {
+        // Given
+        MapTile tile = MapTile.containing(SAO_PAULO_LAT, SAO_PAULO_LNG, PetTileService.POINTS_MIN_ZOOM);
+        TilePoint point = new TilePoint(UUID.randomUUID(), SAO_PAULO_LAT, SAO_PAULO_LNG, Species.DOG, Status.AVAILABLE);
+        when(petRepository.findTilePoints(eq(tile), any(), eq(PetTileService.MAX_POINTS_PER_TILE + 1)))
+                .thenReturn(List.of(point));
+
+        // When
+        PetTile result = petTileService.getTile(tile, Species.DOG, null);
+
+        // Then
+        assertEquals(1, result.getTotal());
+        assertEquals(List.of(point), result.getPoints());
+        assertNull(result.getClusters());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar tile de zoom alto que ultrapassa o limite de pontos")
+    void getTile_DenseHighZoomTile_ShouldFallBackToClusters() {
+        // Given
+        MapTile tile = MapTile.containing(SAO_PAULO_LAT, SAO_PAULO_LNG, 16);
+        TilePoint point = new TilePoint(UUID.randomUUID(), SAO_PAULO_LAT, SAO_PAULO_LNG, Species.DOG, Status.AVAILABLE);
+        when(petRepository.findTilePoints(eq(tile), any(), anyInt()))
+                .thenReturn(Collections.nCopies(PetTileService.MAX_POINTS_PER_TILE + 1, point));
+        when(petRepository.findTileClusters(eq(tile), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        PetTile result = petTileService.getTile(tile, null, null);
+
+        // Then
+        assertNotNull(result.getClusters());
+        assertNull(result.getPoints());
+    }
+
+    @Test
+    @DisplayName("Deve servir tiles repetidos a partir do cache")
+    void getTile_Repeated_ShouldHitCache() {
+        // Given
+        MapTile tile = new MapTile(3, 2, 4);
+        when(petRepository.findTileClusters(eq(tile), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        petTileService.getTile(tile, null, null);
+        petTileService.getTile(tile, null, null);
+
+        // Then
+        verify(petRepository, times(1)).findTileClusters(eq(tile), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar apenas os tiles que contêm o pet alterado")
+    void onPetChanged_ShouldEvictOnlyAffectedTiles() {
+        // Given
+        MapTile affected = MapTile.containing(SAO_PAULO_LAT, SAO_PAULO_LNG, 10);
+        MapTile unaffected = MapTile.containing(-3.7319, -38.5267, 10);
+        when(petRepository.findTileClusters(any(), any(), anyInt())).thenReturn(List.of());
+        petTileService.getTile(affected, null, null);
+        petTileService.getTile(unaffected, null, null);
+
+        Pet pet = new Pet();
+        pet.setId(UUID.randomUUID());
+        pet.setShelterLat(BigDecimal.valueOf(SAO_PAULO_LAT));
+        pet.setShelterLng(BigDecimal.valueOf(SAO_PAULO_LNG));
+
+        // When
+        petTileService.onPetChanged(PetChangedEvent.created(pet));
+        petTileService.getTile(affected, null, null);
+        petTileService.getTile(unaffected, null, null);
+
+        // Then
+        verify(petRepository, times(2)).findTileClusters(eq(affected), any(), anyInt());
+        verify(petRepository, times(1)).findTileClusters(eq(unaffected), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tile fora dos limites do zoom")
+    void getTile_InvalidTile_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> petTileService.getTile(new MapTile(2, 4, 0), null, null));
+        assertThrows(BadRequestException.class, () -> petTileService.getTile(new MapTile(21, 0, 0), null, null));
+    }
+}
@@ -0,0 +1,94 @@
+package com.adoteumpet.adoteumpetapi.specification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.adoteumpet.adoteumpetapi.dto.PetSummary;
+import com.adoteumpet.adoteumpetapi.exception.BadRequestException;
+import com.adoteumpet.adoteumpetapi.model.Species;
+import com.adoteumpet.adoteumpetapi.model.Status;
+
+/**
+ * Testes unitários para o cursor da paginação por keyset.
+ */
+class PetCursorTest {
+
+    private PetSummary samplePet;
+
+    @BeforeEach
+    void setUp() {
+        samplePet = new PetSummary(UUID.randomUUID(), "Rex | Jr.", Species.DOG, null, null, "São Paulo",
+                null, null, Status.AVAILABLE, LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000));
+    }
+
+    @Test
+    void encodeDecode_ByName_ShouldPreserveValueAndId() {
+        // Given
+        Sort.Order order = Sort.Order.asc("name");
+
+        // When
+        PetCursor decoded = PetCursor.decode(PetCursor.after(samplePet, order).encode());
+
+        // Then
+        assertEquals("name", decoded.getProperty());
+        assertEquals(Sort.Direction.ASC, decoded.getDirection());
+        assertEquals("Rex | Jr.", decoded.getValue());
+        assertEquals(samplePet.id(), decoded.getId());
+        assertTrue(decoded.matches(order));
+    }
+
+    @Test
+    void encodeDecode_ByCreatedAt_ShouldPreserveTimestamp() {
+        // Given
+        Sort.Order order = Sort.Order.desc("createdAt");
+
+        // When
+        PetCursor decoded = PetCursor.decode(PetCursor.after(samplePet, order).encode());
+
+        // Then
+        assertEquals(samplePet.createdAt(), decoded.getValue());
+        assertEquals(Sort.Direction.DESC, decoded.getDirection());
+        assertFalse(decoded.matches(Sort.Order.asc("createdAt")));
+    }
+
+    @Test
+    void encodeDecode_ById_ShouldUseIdAsKey() {
+        // Given
+        Sort.Order order = Sort.Order.asc("id");
+
+        // When
+        PetCursor decoded = PetCursor.decode(PetCursor.after(samplePet, order).encode());
+
+        // Then
+        assertEquals(samplePet.id(), decoded.getValue());
+        assertEquals(samplePet.id(), decoded.getId());
+        assertTrue(decoded.matches(order));
+    }
+
+    @Test
+    void encode_ShouldBeUrlSafe() {
+        // When
+        String token = PetCursor.after(samplePet, Sort.Order.asc("shelterCity")).encode();
+
+        // Then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void after_WithUnsupportedProperty_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class,
+            () -> PetCursor.after(samplePet, Sort.Order.asc("ageYears")));
+    }
+
+    @Test
+    void decode_WithCorruptedToken_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> PetCursor.decode("não-é-um-cursor"));
+        assertThrows(BadRequestException.class, () -> PetCursor.decode("YWJj"));
+    }
+}
@@ -0,0 +1,159 @@
+package com.adoteumpet.adoteumpetapi.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.adoteumpet.adoteumpetapi.generator.PetCatalogGenerator;
+import com.adoteumpet.adoteumpetapi.repository.DatabaseVendor;
+import com.adoteumpet.adoteumpetapi.repository.PetBulkLoader;
+
+/**
+ * Verifica no PostgreSQL que as listagens são lidas na ordem dos índices da migração V6.
+ *
+ * Aplica as migrações em um schema descartável (V6 instrução por instrução, com CREATE INDEX
+ * CONCURRENTLY, como o Flyway), carrega 200 mil pets do catálogo sintético e
+ * confere o plano (EXPLAIN) das consultas de GET /api/pets, /available e /status: nenhuma deve
+ * ordenar as linhas do filtro (Sort), e as listagens padrão devem ser Index Only Scan, assim
+ * como a busca da versão das requisições condicionais.
+ *
+ * Requer um PostgreSQL acessível; execute com:
+ * PLAN_TEST_DATASOURCE_URL=jdbc:postgresql://localhost:5432/adoteumpet_test ./mvnw verify
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_TEST_DATASOURCE_URL", matches = ".+")
+class PetListingIndexPlanIT {
+
+    private static final String SCHEMA = "listing_plan_test";
+    private static final int ROWS = 200_000;
+
+    /**
+     * Colunas da projeção PetSummary, na ordem do SELECT NEW.
+     */
+    private static final String SUMMARY_COLUMNS =
+            "id, name, species, breed, age_years, shelter_city, shelter_lat, shelter_lng, status, created_at";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+            System.getenv("PLAN_TEST_DATASOURCE_URL"),
+            System.getenv().getOrDefault("PLAN_TEST_DATASOURCE_USERNAME", "postgres"),
+            System.getenv().getOrDefault("PLAN_TEST_DATASOURCE_PASSWORD", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+
+            PlanTestMigrations.apply(statement, "db/migration/V1__create_pets_table.sql");
+            PlanTestMigrations.apply(statement, "db/migration/V2__add_pet_geohash.sql");
+            PlanTestMigrations.apply(statement, "db/migration/V4__add_pet_version.sql");
+            PlanTestMigrations.apply(statement, "db/migration/postgresql/V6__create_pet_indexes.sql");
+        }
+
+        DataSource dataSource = new SingleConnectionDataSource(connection, true);
+        new PetBulkLoader(dataSource, new DatabaseVendor(dataSource))
+                .load(new PetCatalogGenerator(PetCatalogGenerator.DEFAULT_SEED, ROWS));
+
+        // O mapa de visibilidade atualizado permite ao planejador responder sem visitar a tabela
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE pets");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void speciesAndStatusListing_ShouldUseCoveringIndexWithoutSort() throws SQLException {
+        String plan = explain("WHERE species = ? AND status = ? ORDER BY name, id LIMIT 10 OFFSET 20", "DOG", "AVAILABLE");
+
+        assertThat(plan).contains("Index Only Scan using idx_pets_species_status_name_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void availableListing_ShouldUsePartialCoveringIndexWithoutSort() throws SQLException {
+        String plan = explain("WHERE status = ? ORDER BY name, id LIMIT 10", "AVAILABLE");
+
+        assertThat(plan).contains("Index Only Scan using idx_pets_available_name_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void statusListingById_ShouldSeekStatusIndexInOrder() throws SQLException {
+        // Página seguinte de /status/{status}: keyset a partir do ID do cursor
+        String plan = explain("WHERE status = ? AND id > '00000000-0000-7000-8000-000000000000' ORDER BY id LIMIT 21",
+                "ADOPTED");
+
+        assertThat(plan).contains("idx_pets_status_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void ageSortDescending_ShouldReadAgeIndexBackward() throws SQLException {
+        String plan = explain("ORDER BY age_years DESC, id DESC LIMIT 10");
+
+        assertThat(plan).contains("Index Scan Backward using idx_pets_age_years_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void speciesSort_ShouldUseSpeciesIndex() throws SQLException {
+        String plan = explain("ORDER BY species, id LIMIT 10");
+
+        assertThat(plan).contains("idx_pets_species_id");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    void versionLookup_ShouldUseCoveringIndex() throws SQLException {
+        String plan = explainQuery("SELECT version FROM pets WHERE id = '00000000-0000-7000-8000-000000000000'");
+
+        assertThat(plan).contains("Index Only Scan using idx_pets_id_version");
+    }
+
+    /**
+     * Executa EXPLAIN da projeção PetSummary com o restante da consulta e os parâmetros informados.
+     */
+    private static String explain(String clauses, String... parameters) throws SQLException {
+        return explainQuery("SELECT " + SUMMARY_COLUMNS + " FROM pets " + clauses, parameters);
+    }
+
+    private static String explainQuery(String query, String... parameters) throws SQLException {
+        String sql = "EXPLAIN " + query;
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.adoteumpet.adoteumpetapi.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Verifica no PostgreSQL que os filtros parciais por texto são atendidos pelos índices trigram.
+ * 
+ * Aplica as migrações em um schema descartável, gera uma massa de 200 mil pets e confere o
+ * plano (EXPLAIN) das mesmas expressões geradas por {@link PetSpecifications}.
+ * 
+ * Requer um PostgreSQL acessível; execute com:
+ * PLAN_TEST_DATASOURCE_URL=jdbc:postgresql://localhost:5432/adoteumpet_test ./mvnw verify
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_TEST_DATASOURCE_URL", matches = ".+")
+class PetTrigramSearchPlanIT {
+
+    private static final String SCHEMA = "trgm_plan_test";
+    private static final int ROWS = 200_000;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+            System.getenv("PLAN_TEST_DATASOURCE_URL"),
+            System.getenv().getOrDefault("PLAN_TEST_DATASOURCE_USERNAME", "postgres"),
+            System.getenv().getOrDefault("PLAN_TEST_DATASOURCE_PASSWORD", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+
+            PlanTestMigrations.apply(statement, "db/migration/V1__create_pets_table.sql");
+            PlanTestMigrations.apply(statement, "db/migration/V2__add_pet_geohash.sql");
+            PlanTestMigrations.apply(statement, "db/migration/V4__add_pet_version.sql");
+            PlanTestMigrations.apply(statement, "db/migration/postgresql/V6__create_pet_indexes.sql");
+
+            // Massa de dados: nomes, raças e cidades com alta cardinalidade
+            statement.execute("""
+                INSERT INTO pets (id, name, species, breed, age_years, shelter_city, status, created_at)
+                SELECT gen_random_uuid(),
+                       'Pet ' || md5(i::text),
+                       CASE WHEN i % 2 = 0 THEN 'DOG' ELSE 'CAT' END,
+                       'Raça ' || md5((i % 800)::text),
+                       i % 20,
+                       'Cidade ' || md5((i % 5000)::text),
+                       CASE WHEN i % 3 = 0 THEN 'ADOPTED' ELSE 'AVAILABLE' END,
+                       now()
+                FROM generate_series(1, %d) AS i
+                """.formatted(ROWS));
+            statement.execute("ANALYZE pets");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void nameFilter_ShouldUseTrigramIndex() throws SQLException {
+        String plan = explainContains("name", sampleTerm("name", 9));
+
+        assertThat(plan).contains("idx_pets_name_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on pets");
+    }
+
+    @Test
+    void breedFilter_ShouldUseTrigramIndex() throws SQLException {
+        String plan = explainContains("breed", sampleTerm("breed", 10));
+
+        assertThat(plan).contains("idx_pets_breed_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on pets");
+    }
+
+    @Test
+    void shelterCityFilter_ShouldUseTrigramIndex() throws SQLException {
+        String plan = explainContains("shelter_city", sampleTerm("shelter_city", 12));
+
+        assertThat(plan).contains("idx_pets_shelter_city_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on pets");
+    }
+
+    /**
+     * Executa EXPLAIN com o mesmo formato de predicado gerado pelas specifications:
+     * lower(coluna) LIKE '%termo%' ESCAPE '\'.
+     */
+    private static String explainContains(String column, String term) throws SQLException {
+        String sql = "EXPLAIN SELECT * FROM pets WHERE lower(" + column + ") LIKE ? ESCAPE '\\' "
+                + "ORDER BY name, id LIMIT 10";
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, "%" + term + "%");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * Extrai um trecho de 8 caracteres de um valor existente, seletivo o suficiente
+     * para que o planejador prefira o índice à varredura sequencial.
+     */
+    private static String sampleTerm(String column, int offset) throws SQLException {
+        String sql = "SELECT substr(lower(" + column + "), " + offset + ", 8) FROM pets LIMIT 1";
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.adoteumpet.adoteumpetapi.specification;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Aplica as migrações Flyway nos testes de plano, fora do Flyway.
+ *
+ * Cada instrução do script é executada isoladamente, em modo autocommit, como o Flyway faz com
+ * as migrações marcadas com executeInTransaction=false: CREATE INDEX CONCURRENTLY não pode rodar
+ * em um bloco de várias instruções.
+ */
+final class PlanTestMigrations {
+
+    private PlanTestMigrations() {
+    }
+
+    /**
+     * Executa as instruções de uma migração SQL do classpath.
+     * @param statement instrução de uma conexão em modo autocommit
+     * @param path caminho da migração, ex.: db/migration/V1__create_pets_table.sql
+     */
+    static void apply(Statement statement, String path) throws IOException, SQLException {
+        String script = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8)
+                .replaceAll("(?m)^\\s*--.*$", "");
+        for (String sql : script.split(";")) {
+            if (!sql.isBlank()) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
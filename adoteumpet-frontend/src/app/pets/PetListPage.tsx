@@ -7,12 +7,13 @@ import PetSortSelect from "./PetSortSelect";
 import FilterForm from "./FilterForm";
 import { LoadingSpinner, ErrorMessage } from "../../components/UI";
 import { AgeDistributionChart, PetStats } from "../../components/Charts";
+import { PetStatsResponse } from "../../types/pet";
 
 const API_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 
 export default function PetListPage() {
   const [pets, setPets] = useState([]);
-  const [allPets, setAllPets] = useState([]); // Para o gráfico
+  const [stats, setStats] = useState<PetStatsResponse | null>(null); // Para o gráfico
   const [total, setTotal] = useState(0);
   const [page, setPage] = useState(0);
   const [size, setSize] = useState(10);
@@ -51,26 +52,24 @@ export default function PetListPage() {
     }
   };
 
-  // Função para buscar todos os pets para o gráfico
-  const fetchAllPetsForChart = async () => {
+  // Função para buscar as estatísticas do gráfico, calculadas pela API
+  const fetchStatsForChart = async () => {
     setChartLoading(true);
     try {
       const params = new URLSearchParams({
-        page: "0",
-        size: "1000", // Buscar uma quantidade grande para ter todos os pets
-        sort: "createdAt,desc",
+        groupBy: "status",
+        metrics: "count,avgAge,ageHistogram",
         ...filters, // Usar os mesmos filtros
       });
-      const response = await fetch(`${API_URL}/api/pets?${params}`);
+      const response = await fetch(`${API_URL}/api/pets/stats?${params}`);
       if (!response.ok) {
-        throw new Error(`Erro ao carregar pets para gráfico: ${response.statusText}`);
+        throw new Error(`Erro ao carregar estatísticas: ${response.statusText}`);
       }
-      const data = await response.json();
-      setAllPets(data.data || []);
+      const data: PetStatsResponse = await response.json();
+      setStats(data);
     } catch (err) {
-      console.error("Erro ao buscar pets para gráfico:", err);
-      // Em caso de erro, usar os pets da página atual
-      setAllPets(pets);
+      console.error("Erro ao buscar estatísticas para gráfico:", err);
+      setStats(null);
     } finally {
       setChartLoading(false);
     }
@@ -85,9 +84,9 @@ export default function PetListPage() {
     fetchPets();
   }, [page, size, filters, sort]);
 
-  // Buscar todos os pets para o gráfico quando filtros mudarem
+  // Buscar as estatísticas para o gráfico quando filtros mudarem
   useEffect(() => {
-    fetchAllPetsForChart();
+    fetchStatsForChart();
   }, [filters]);
 
   return (
@@ -109,11 +108,11 @@ export default function PetListPage() {
       </div>
 
       {/* Estatísticas dos Pets */}
-      <PetStats pets={allPets} loading={chartLoading} />
+      <PetStats stats={stats} loading={chartLoading} />
 
       {/* Gráfico de Distribuição de Idade */}
       <div className="mb-8">
-        <AgeDistributionChart pets={allPets} loading={chartLoading} />
+        <AgeDistributionChart stats={stats} loading={chartLoading} />
       </div>
 
       {/* Conteúdo principal */}
@@ -11,7 +11,7 @@ import {
   Legend,
 } from 'chart.js';
 import { Bar } from 'react-chartjs-2';
-import { Pet } from '../../types/pet';
+import { PetStatsResponse } from '../../types/pet';
 
 // Registrar os componentes necessários do Chart.js
 ChartJS.register(
@@ -24,50 +24,36 @@ ChartJS.register(
 );
 
 interface AgeDistributionChartProps {
-  pets: Pet[];
+  stats: PetStatsResponse | null;
   loading?: boolean;
 }
 
-export default function AgeDistributionChart({ pets, loading = false }: AgeDistributionChartProps) {
-  // Processar os dados para criar a distribuição de idade
+export default function AgeDistributionChart({ stats, loading = false }: AgeDistributionChartProps) {
+  // Agrupar o histograma de idades da API (posição i = pets com i anos) em faixas etárias
   const ageDistribution = useMemo(() => {
-    if (!pets || pets.length === 0) {
-      return {
-        '0-1 ano': 0,
-        '2-3 anos': 0,
-        '4-6 anos': 0,
-        '7+ anos': 0,
-      };
-    }
+    const distribution = {
+      '0-1 ano': 0,
+      '2-3 anos': 0,
+      '4-6 anos': 0,
+      '7+ anos': 0,
+    };
 
-    const distribution = pets.reduce(
-      (acc, pet) => {
-        const age = pet.ageYears;
-        if (typeof age !== 'number' || isNaN(age)) {
-          acc['7+ anos']++;
-          return acc;
-        }
+    (stats?.groups ?? []).forEach((group) => {
+      (group.ageHistogram ?? []).forEach((count, age) => {
         if (age <= 1) {
-          acc['0-1 ano']++;
-        } else if (age >= 2 && age <= 3) {
-          acc['2-3 anos']++;
-        } else if (age >= 4 && age <= 6) {
-          acc['4-6 anos']++;
+          distribution['0-1 ano'] += count;
+        } else if (age <= 3) {
+          distribution['2-3 anos'] += count;
+        } else if (age <= 6) {
+          distribution['4-6 anos'] += count;
         } else {
-          acc['7+ anos']++;
+          distribution['7+ anos'] += count;
         }
-        return acc;
-      },
-      {
-        '0-1 ano': 0,
-        '2-3 anos': 0,
-        '4-6 anos': 0,
-        '7+ anos': 0,
-      }
-    );
+      });
+    });
 
     return distribution;
-  }, [pets]);
+  }, [stats]);
 
   const chartData = {
     labels: Object.keys(ageDistribution),
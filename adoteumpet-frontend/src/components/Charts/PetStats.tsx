@@ -1,14 +1,14 @@
 'use client';
 
 import React from 'react';
-import { Pet } from '../../types/pet';
+import { PetStatsResponse } from '../../types/pet';
 
 interface PetStatsProps {
-  pets: Pet[];
+  stats: PetStatsResponse | null;
   loading?: boolean;
 }
 
-export default function PetStats({ pets, loading = false }: PetStatsProps) {
+export default function PetStats({ stats: petStats, loading = false }: PetStatsProps) {
   if (loading) {
     return (
       <div className="grid grid-cols-2 md:grid-cols-4 gap-4 mb-6">
@@ -24,14 +24,25 @@ export default function PetStats({ pets, loading = false }: PetStatsProps) {
     );
   }
 
-  const totalPets = pets.length;
-  const availablePets = pets.filter(pet => pet.status === 'AVAILABLE').length;
-  const adoptedPets = pets.filter(pet => pet.status === 'ADOPTED').length;
-  const averageAge = totalPets > 0 
-    ? (pets.reduce((sum, pet) => {
-        const age = pet.ageYears;
-        return sum + (typeof age === 'number' ? age : 0);
-      }, 0) / totalPets).toFixed(1)
+  // Estatísticas agrupadas por status, calculadas pela API (GET /api/pets/stats)
+  const groups = petStats?.groups ?? [];
+  const countByStatus = (status: string) =>
+    groups.find(group => group.key.status === status)?.count ?? 0;
+
+  const totalPets = petStats?.total ?? 0;
+  const availablePets = countByStatus('AVAILABLE');
+  const adoptedPets = countByStatus('ADOPTED');
+
+  // Média ponderada pela quantidade de pets com idade informada em cada grupo
+  const petsWithAge = groups.reduce(
+    (sum, group) => sum + (group.ageHistogram ?? []).reduce((total, count) => total + count, 0),
+    0
+  );
+  const averageAge = petsWithAge > 0
+    ? (groups.reduce((sum, group) => {
+        const withAge = (group.ageHistogram ?? []).reduce((total, count) => total + count, 0);
+        return sum + (group.avgAge ?? 0) * withAge;
+      }, 0) / petsWithAge).toFixed(1)
     : '0';
 
   const stats = [
@@ -27,4 +27,17 @@ export interface PetListResponse {
   last: boolean;
   number: number;
   size: number;
-}
\ No newline at end of file
+}
+
+export interface PetStatsGroup {
+  key: Record<string, string | null>;
+  count?: number;
+  avgAge?: number;
+  ageHistogram?: number[];
+}
+
+export interface PetStatsResponse {
+  groupBy: string[];
+  total: number;
+  groups: PetStatsGroup[];
+}